@@ -0,0 +1,101 @@
+package com.bybit.api.client.config;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Duration;
+
+/**
+ * HTTP transport settings for the REST clients: dispatcher sizing, connection pool, timeouts and socket options.
+ *
+ * Each distinct configuration gets its own connection pool and dispatcher, so an order entry client and a bulk
+ * history client can be tuned independently inside the same JVM.
+ */
+@Getter
+@Builder(toBuilder = true)
+@EqualsAndHashCode
+@ToString
+public class BybitApiTransportConfig {
+    /**
+     * The settings used when no transport configuration is given.
+     */
+    public static final BybitApiTransportConfig DEFAULT = BybitApiTransportConfig.builder().build();
+
+    /**
+     * Maximum concurrent asynchronous requests.
+     */
+    @Builder.Default
+    private final int maxRequests = 500;
+    /**
+     * Maximum concurrent asynchronous requests per host.
+     */
+    @Builder.Default
+    private final int maxRequestsPerHost = 500;
+    /**
+     * Maximum number of idle connections kept in the pool.
+     */
+    @Builder.Default
+    private final int maxIdleConnections = 5;
+    /**
+     * How long an idle pooled connection is kept open.
+     */
+    @Builder.Default
+    private final Duration keepAlive = Duration.ofMinutes(5);
+    @Builder.Default
+    private final Duration connectTimeout = Duration.ofSeconds(10);
+    @Builder.Default
+    private final Duration readTimeout = Duration.ofSeconds(10);
+    @Builder.Default
+    private final Duration writeTimeout = Duration.ofSeconds(10);
+    /**
+     * Interval of HTTP/2 and websocket pings, zero disables them.
+     */
+    @Builder.Default
+    private final Duration pingInterval = Duration.ofSeconds(20);
+    /**
+     * Negotiate HTTP/2 when the server supports it. When false only HTTP/1.1 is used, which gives one request per
+     * connection and therefore predictable head-of-line behaviour.
+     */
+    @Builder.Default
+    private final boolean preferHttp2 = true;
+    /**
+     * Disable Nagle's algorithm on every socket.
+     */
+    @Builder.Default
+    private final boolean tcpNoDelay = true;
+    /**
+     * Number of connections opened to the base url as soon as a client is created, zero disables pre-warming.
+     * With HTTP/2 concurrent requests share one connection, so pre-warming opens a single connection.
+     */
+    @Builder.Default
+    private final int preWarmConnections = 0;
+
+    /**
+     * Order entry: HTTP/1.1 with a few always-warm connections and short timeouts.
+     */
+    public static BybitApiTransportConfig lowLatency() {
+        return BybitApiTransportConfig.builder()
+                .preferHttp2(false)
+                .maxIdleConnections(8)
+                .keepAlive(Duration.ofMinutes(10))
+                .connectTimeout(Duration.ofSeconds(3))
+                .readTimeout(Duration.ofSeconds(5))
+                .writeTimeout(Duration.ofSeconds(5))
+                .preWarmConnections(4)
+                .build();
+    }
+
+    /**
+     * History downloads: many parallel requests multiplexed over HTTP/2 with generous read timeouts.
+     */
+    public static BybitApiTransportConfig bulkDownload() {
+        return BybitApiTransportConfig.builder()
+                .maxRequests(64)
+                .maxRequestsPerHost(64)
+                .maxIdleConnections(16)
+                .readTimeout(Duration.ofSeconds(60))
+                .build();
+    }
+}
@@ -0,0 +1,52 @@
+package com.bybit.api.client.config;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Duration;
+
+/**
+ * Transport settings shared by every websocket connection of the process.
+ *
+ * OkHttp reads each websocket on a dispatcher thread for the whole life of the connection, so
+ * {@code maxConnections} bounds both the number of open sockets and the number of reader threads. Connections
+ * above the limit wait in the dispatcher queue until another socket closes.
+ */
+@Getter
+@Builder(toBuilder = true)
+@EqualsAndHashCode
+@ToString
+public class BybitWebsocketConfig {
+    /**
+     * The settings used when no websocket configuration is given.
+     */
+    public static final BybitWebsocketConfig DEFAULT = BybitWebsocketConfig.builder().build();
+
+    /**
+     * Maximum number of concurrently open websocket connections, and therefore of reader threads.
+     */
+    @Builder.Default
+    private final int maxConnections = 64;
+    /**
+     * How long an idle reader thread is kept before it is released.
+     */
+    @Builder.Default
+    private final Duration threadKeepAlive = Duration.ofSeconds(60);
+    @Builder.Default
+    private final Duration connectTimeout = Duration.ofSeconds(10);
+    @Builder.Default
+    private final Duration writeTimeout = Duration.ofSeconds(10);
+    /**
+     * Interval of websocket protocol level pings, zero disables them. Bybit expects the application level
+     * {@code {"op":"ping"}} heartbeat, which the websocket client always sends.
+     */
+    @Builder.Default
+    private final Duration pingInterval = Duration.ZERO;
+    /**
+     * Disable Nagle's algorithm on every socket.
+     */
+    @Builder.Default
+    private final boolean tcpNoDelay = true;
+}
@@ -0,0 +1,28 @@
+package com.bybit.api.client.domain;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Envelope of a list response whose {@code result.list} entries were pushed to a consumer instead of being
+ * collected, see {@link com.bybit.api.client.service.BybitJsonListStreamer}.
+ */
+@Getter
+@Setter
+@ToString
+public class StreamedListResult {
+    private int retCode;
+    private String retMsg;
+    private String category;
+    private String symbol;
+    /**
+     * Cursor of the next page, empty or null on the last page.
+     */
+    private String nextPageCursor;
+    /**
+     * Number of entries passed to the consumer.
+     */
+    private int size;
+    private long time;
+}
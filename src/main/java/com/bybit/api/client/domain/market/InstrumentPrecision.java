@@ -0,0 +1,80 @@
+package com.bybit.api.client.domain.market;
+
+import com.bybit.api.client.domain.market.response.instrumentInfo.InstrumentEntry;
+import com.bybit.api.client.domain.market.response.instrumentInfo.LotSizeFilter;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+
+/**
+ * Number of decimal places used for the fixed-point price and quantity fields of market data entries.
+ * A price of {@code 37202.8} with a price scale of 2 is held as {@code 3720280}.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public final class InstrumentPrecision {
+    /**
+     * Eight decimals cover the tick size and lot size of every Bybit instrument.
+     */
+    public static final InstrumentPrecision DEFAULT = new InstrumentPrecision(8, 8);
+
+    private static final int MAX_SCALE = 18;
+
+    private final int priceScale;
+    private final int qtyScale;
+
+    private InstrumentPrecision(int priceScale, int qtyScale) {
+        this.priceScale = priceScale;
+        this.qtyScale = qtyScale;
+    }
+
+    public static InstrumentPrecision of(int priceScale, int qtyScale) {
+        if (priceScale < 0 || priceScale > MAX_SCALE || qtyScale < 0 || qtyScale > MAX_SCALE) {
+            throw new IllegalArgumentException("Scales must be between 0 and " + MAX_SCALE);
+        }
+        return new InstrumentPrecision(priceScale, qtyScale);
+    }
+
+    /**
+     * Derive the precision from an instrument's {@code priceFilter.tickSize} and {@code lotSizeFilter}
+     * ({@code qtyStep} for derivatives, {@code basePrecision} for spot).
+     */
+    public static InstrumentPrecision of(InstrumentEntry instrument) {
+        int priceScale = instrument.getPriceFilter() == null ? DEFAULT.priceScale : scaleOf(instrument.getPriceFilter().getTickSize(), DEFAULT.priceScale);
+        LotSizeFilter lotSizeFilter = instrument.getLotSizeFilter();
+        int qtyScale = DEFAULT.qtyScale;
+        if (lotSizeFilter != null) {
+            qtyScale = Math.max(scaleOf(lotSizeFilter.getQtyStep(), -1), scaleOf(lotSizeFilter.getBasePrecision(), -1));
+            if (qtyScale < 0) {
+                qtyScale = DEFAULT.qtyScale;
+            }
+        }
+        return of(priceScale, qtyScale);
+    }
+
+    public double priceToDouble(long price) {
+        return price / Math.pow(10, priceScale);
+    }
+
+    public double qtyToDouble(long qty) {
+        return qty / Math.pow(10, qtyScale);
+    }
+
+    public BigDecimal priceToBigDecimal(long price) {
+        return BigDecimal.valueOf(price, priceScale);
+    }
+
+    public BigDecimal qtyToBigDecimal(long qty) {
+        return BigDecimal.valueOf(qty, qtyScale);
+    }
+
+    private static int scaleOf(String step, int defaultScale) {
+        if (step == null || step.isEmpty()) {
+            return defaultScale;
+        }
+        return Math.max(new BigDecimal(step).stripTrailingZeros().scale(), 0);
+    }
+}
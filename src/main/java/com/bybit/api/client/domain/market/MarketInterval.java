@@ -9,24 +9,29 @@ import lombok.Getter;
 @Getter
 @JsonIgnoreProperties(ignoreUnknown = true)
 public enum MarketInterval {
-    ONE_MINUTE("1"),
-    THREE_MINUTES("3"),
-    FIVE_MINUTES("5"),
-    FIFTEEN_MINUTES("15"),
-    HALF_HOURLY("30"),
-    HOURLY("60"),
-    TWO_HOURLY("120"),
-    FOUR_HOURLY("240"),
-    SIX_HOURLY("360"),
-    TWELVE_HOURLY("720"),
-    DAILY("D"),
-    WEEKLY("W"),
-    MONTHLY("M");
+    ONE_MINUTE("1", 60_000L),
+    THREE_MINUTES("3", 3 * 60_000L),
+    FIVE_MINUTES("5", 5 * 60_000L),
+    FIFTEEN_MINUTES("15", 15 * 60_000L),
+    HALF_HOURLY("30", 30 * 60_000L),
+    HOURLY("60", 60 * 60_000L),
+    TWO_HOURLY("120", 2 * 60 * 60_000L),
+    FOUR_HOURLY("240", 4 * 60 * 60_000L),
+    SIX_HOURLY("360", 6 * 60 * 60_000L),
+    TWELVE_HOURLY("720", 12 * 60 * 60_000L),
+    DAILY("D", 24 * 60 * 60_000L),
+    WEEKLY("W", 7 * 24 * 60 * 60_000L),
+    MONTHLY("M", 31 * 24 * 60 * 60_000L);
 
     private final String intervalId;
+    /**
+     * Length of one candle in milliseconds. Months vary, so MONTHLY uses the longest one.
+     */
+    private final long durationMillis;
 
-    MarketInterval(String intervalId) {
+    MarketInterval(String intervalId, long durationMillis) {
         this.intervalId = intervalId;
+        this.durationMillis = durationMillis;
     }
 
 }
@@ -2,10 +2,13 @@ package com.bybit.api.client.domain.market.response.kline;
 
 import com.bybit.api.client.constant.BybitApiConstants;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Getter;
+import lombok.Setter;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
 @Getter
+@Setter
 @JsonFormat(shape = JsonFormat.Shape.ARRAY)
 public class MarketKlineEntry {
     private long startTime;
@@ -16,6 +19,22 @@ public class MarketKlineEntry {
     private String volume;
     private String turnover;
 
+    /**
+     * Candle values as doubles, only populated when decoding with {@code BybitNumericModule}.
+     */
+    @JsonIgnore
+    private double openPriceValue = Double.NaN;
+    @JsonIgnore
+    private double highPriceValue = Double.NaN;
+    @JsonIgnore
+    private double lowPriceValue = Double.NaN;
+    @JsonIgnore
+    private double closePriceValue = Double.NaN;
+    @JsonIgnore
+    private double volumeValue = Double.NaN;
+    @JsonIgnore
+    private double turnoverValue = Double.NaN;
+
     @Override
     public String toString() {
         return new ToStringBuilder(this, BybitApiConstants.TO_STRING_BUILDER_STYLE)
@@ -1,11 +1,23 @@
 package com.bybit.api.client.domain.market.response.orderbook;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Getter;
+import lombok.Setter;
 
 @Getter
+@Setter
 @JsonFormat(shape = JsonFormat.Shape.ARRAY)
 public class OrderbookBidEntry {
     private String bidPrice;
     private String bidSize;
+
+    /**
+     * Fixed-point price and size, only populated when decoding with {@code BybitNumericModule}.
+     * Scaled by the {@code InstrumentPrecision} price and quantity scales.
+     */
+    @JsonIgnore
+    private long bidPriceScaled;
+    @JsonIgnore
+    private long bidSizeScaled;
 }
@@ -24,4 +24,9 @@ public class OrderbookResult {
     private long timestamp;
     @JsonProperty("u")
     private long updateId;
+    /**
+     * Cross sequence, comparable across the orderbook depths of a symbol.
+     */
+    @JsonProperty("seq")
+    private long sequence;
 }
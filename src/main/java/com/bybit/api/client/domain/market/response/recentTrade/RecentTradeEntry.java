@@ -1,5 +1,6 @@
 package com.bybit.api.client.domain.market.response.recentTrade;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Data;
 
 @Data
@@ -11,4 +12,13 @@ public class RecentTradeEntry {
     private String side;
     private String time;
     private Boolean isBlockTrade;
+
+    /**
+     * Fixed-point price and size, only populated when decoding with {@code BybitNumericModule}.
+     * Scaled by the {@code InstrumentPrecision} price and quantity scales.
+     */
+    @JsonIgnore
+    private long priceScaled;
+    @JsonIgnore
+    private long sizeScaled;
 }
@@ -1,9 +1,12 @@
 package com.bybit.api.client.domain.market.response.tickers;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
+import lombok.Setter;
 
 @Getter
+@Setter
 public class TickerEntry {
     @JsonProperty("symbol")
     private String symbol;
@@ -43,4 +46,33 @@ public class TickerEntry {
 
     @JsonProperty("usdIndexPrice")
     private String usdIndexPrice;
+
+    /**
+     * Best bid/ask and last trade as fixed-point values scaled by the {@code InstrumentPrecision} price and quantity
+     * scales, and the 24h statistics as doubles. Only populated when decoding with {@code BybitNumericModule}.
+     */
+    @JsonIgnore
+    private long bid1PriceScaled;
+    @JsonIgnore
+    private long bid1SizeScaled;
+    @JsonIgnore
+    private long ask1PriceScaled;
+    @JsonIgnore
+    private long ask1SizeScaled;
+    @JsonIgnore
+    private long lastPriceScaled;
+    @JsonIgnore
+    private double prevPrice24hValue = Double.NaN;
+    @JsonIgnore
+    private double price24hPcntValue = Double.NaN;
+    @JsonIgnore
+    private double highPrice24hValue = Double.NaN;
+    @JsonIgnore
+    private double lowPrice24hValue = Double.NaN;
+    @JsonIgnore
+    private double turnover24hValue = Double.NaN;
+    @JsonIgnore
+    private double volume24hValue = Double.NaN;
+    @JsonIgnore
+    private double usdIndexPriceValue = Double.NaN;
 }
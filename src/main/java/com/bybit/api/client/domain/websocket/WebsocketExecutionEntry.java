@@ -0,0 +1,33 @@
+package com.bybit.api.client.domain.websocket;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+
+/**
+ * Execution, topic {@code execution} or {@code execution.{category}}.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Data
+public class WebsocketExecutionEntry {
+    private String category;
+    private String symbol;
+    private String execId;
+    private String orderId;
+    private String orderLinkId;
+    private String side;
+    private String orderType;
+    private String orderPrice;
+    private String orderQty;
+    private String leavesQty;
+    private String execPrice;
+    private String execQty;
+    private String execValue;
+    private String execFee;
+    private String feeRate;
+    private String execType;
+    private String execTime;
+    private Boolean isMaker;
+    private String markPrice;
+    private String closedSize;
+    private long seq;
+}
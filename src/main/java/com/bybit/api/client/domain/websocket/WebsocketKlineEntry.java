@@ -0,0 +1,26 @@
+package com.bybit.api.client.domain.websocket;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+
+/**
+ * Kline, topic {@code kline.{interval}.{symbol}}.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Data
+public class WebsocketKlineEntry {
+    private long start;
+    private long end;
+    private String interval;
+    private String open;
+    private String close;
+    private String high;
+    private String low;
+    private String volume;
+    private String turnover;
+    /**
+     * Whether the candle is closed.
+     */
+    private boolean confirm;
+    private long timestamp;
+}
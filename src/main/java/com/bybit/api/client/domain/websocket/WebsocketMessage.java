@@ -0,0 +1,40 @@
+package com.bybit.api.client.domain.websocket;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Envelope of a websocket stream push, public or private.
+ *
+ * @param <T> type of the {@code data} payload
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Getter
+@Setter
+@ToString
+public class WebsocketMessage<T> {
+    /**
+     * Message id, private streams only.
+     */
+    private String id;
+    private String topic;
+    /**
+     * {@code snapshot} or {@code delta}, public streams only.
+     */
+    private String type;
+    /**
+     * Time the message was generated by the system, public streams only.
+     */
+    private long ts;
+    /**
+     * Matching engine timestamp, orderbook stream only.
+     */
+    private long cts;
+    /**
+     * Time the message was created, private streams only.
+     */
+    private long creationTime;
+    private T data;
+}
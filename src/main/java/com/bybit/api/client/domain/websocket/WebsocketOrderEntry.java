@@ -0,0 +1,37 @@
+package com.bybit.api.client.domain.websocket;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+
+/**
+ * Order update, topic {@code order} or {@code order.{category}}.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Data
+public class WebsocketOrderEntry {
+    private String category;
+    private String orderId;
+    private String orderLinkId;
+    private String symbol;
+    private String side;
+    private String orderType;
+    private String price;
+    private String qty;
+    private String timeInForce;
+    private String orderStatus;
+    private String cancelType;
+    private String rejectReason;
+    private String avgPrice;
+    private String leavesQty;
+    private String leavesValue;
+    private String cumExecQty;
+    private String cumExecValue;
+    private String cumExecFee;
+    private String triggerPrice;
+    private String takeProfit;
+    private String stopLoss;
+    private int positionIdx;
+    private boolean reduceOnly;
+    private String createdTime;
+    private String updatedTime;
+}
@@ -0,0 +1,32 @@
+package com.bybit.api.client.domain.websocket;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+
+/**
+ * Position update, topic {@code position} or {@code position.{category}}.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Data
+public class WebsocketPositionEntry {
+    private String category;
+    private String symbol;
+    private String side;
+    private String size;
+    private int positionIdx;
+    private String entryPrice;
+    private String markPrice;
+    private String positionValue;
+    private String leverage;
+    private String liqPrice;
+    private String positionIM;
+    private String positionMM;
+    private String takeProfit;
+    private String stopLoss;
+    private String unrealisedPnl;
+    private String cumRealisedPnl;
+    private String positionStatus;
+    private String createdTime;
+    private String updatedTime;
+    private long seq;
+}
@@ -0,0 +1,29 @@
+package com.bybit.api.client.domain.websocket;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+/**
+ * Public trade, topic {@code publicTrade.{symbol}}.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Data
+public class WebsocketTradeEntry {
+    @JsonProperty("T")
+    private long time;
+    @JsonProperty("s")
+    private String symbol;
+    @JsonProperty("S")
+    private String side;
+    @JsonProperty("v")
+    private String size;
+    @JsonProperty("p")
+    private String price;
+    @JsonProperty("L")
+    private String tickDirection;
+    @JsonProperty("i")
+    private String tradeId;
+    @JsonProperty("BT")
+    private boolean blockTrade;
+}
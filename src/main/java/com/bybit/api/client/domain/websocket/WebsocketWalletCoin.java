@@ -0,0 +1,23 @@
+package com.bybit.api.client.domain.websocket;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+
+/**
+ * Balance of one coin in a {@link WebsocketWalletEntry}.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Data
+public class WebsocketWalletCoin {
+    private String coin;
+    private String equity;
+    private String usdValue;
+    private String walletBalance;
+    private String availableToWithdraw;
+    private String locked;
+    private String unrealisedPnl;
+    private String cumRealisedPnl;
+    private String totalOrderIM;
+    private String totalPositionIM;
+    private String totalPositionMM;
+}
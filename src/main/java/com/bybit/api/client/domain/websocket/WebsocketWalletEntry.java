@@ -0,0 +1,25 @@
+package com.bybit.api.client.domain.websocket;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Wallet update, topic {@code wallet}.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Data
+public class WebsocketWalletEntry {
+    private String accountType;
+    private String accountIMRate;
+    private String accountMMRate;
+    private String totalEquity;
+    private String totalWalletBalance;
+    private String totalMarginBalance;
+    private String totalAvailableBalance;
+    private String totalPerpUPL;
+    private String totalInitialMargin;
+    private String totalMaintenanceMargin;
+    private List<WebsocketWalletCoin> coin;
+}
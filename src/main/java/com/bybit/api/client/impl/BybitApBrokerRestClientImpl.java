@@ -1,17 +1,26 @@
 package com.bybit.api.client.impl;
 
+import com.bybit.api.client.config.BybitApiTransportConfig;
 import com.bybit.api.client.restApi.BybitApiBrokerRestClient;
 import com.bybit.api.client.restApi.BybitApiService;
 import com.bybit.api.client.domain.broker.BrokerDataRequest;
+import com.bybit.api.client.service.BybitApiServiceRegistry;
 
-import static com.bybit.api.client.service.BybitApiServiceGenerator.createService;
 import static com.bybit.api.client.service.BybitApiServiceGenerator.executeSync;
 
 public class BybitApBrokerRestClientImpl implements BybitApiBrokerRestClient {
     private final BybitApiService bybitApiService;
 
     public BybitApBrokerRestClientImpl(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption) {
-        bybitApiService = createService(BybitApiService.class, apiKey, secret, baseUrl, debugMode, recvWindow, logOption);
+        this(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, BybitApiTransportConfig.DEFAULT);
+    }
+
+    public BybitApBrokerRestClientImpl(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption, BybitApiTransportConfig transportConfig) {
+        this(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, transportConfig, BybitApiServiceRegistry.getInstance());
+    }
+
+    public BybitApBrokerRestClientImpl(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption, BybitApiTransportConfig transportConfig, BybitApiServiceRegistry registry) {
+        bybitApiService = registry.getService(BybitApiService.class, apiKey, secret, baseUrl, debugMode, recvWindow, logOption, transportConfig);
     }
     // Broker
     @Override
@@ -1,11 +1,12 @@
 package com.bybit.api.client.impl;
 
+import com.bybit.api.client.config.BybitApiTransportConfig;
 import com.bybit.api.client.restApi.BybitApiAccountRestClient;
 import com.bybit.api.client.restApi.BybitApiService;
 import com.bybit.api.client.domain.account.request.AccountDataRequest;
+import com.bybit.api.client.service.BybitApiServiceRegistry;
 import com.bybit.api.client.service.BybitJsonConverter;
 
-import static com.bybit.api.client.service.BybitApiServiceGenerator.createService;
 import static com.bybit.api.client.service.BybitApiServiceGenerator.executeSync;
 
 public class BybitApiAccountRestClientImpl implements BybitApiAccountRestClient {
@@ -13,7 +14,15 @@ public class BybitApiAccountRestClientImpl implements BybitApiAccountRestClient
     private final BybitJsonConverter converter = new BybitJsonConverter();
 
     public BybitApiAccountRestClientImpl(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption) {
-        bybitApiService = createService(BybitApiService.class, apiKey, secret, baseUrl, debugMode, recvWindow, logOption);
+        this(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, BybitApiTransportConfig.DEFAULT);
+    }
+
+    public BybitApiAccountRestClientImpl(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption, BybitApiTransportConfig transportConfig) {
+        this(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, transportConfig, BybitApiServiceRegistry.getInstance());
+    }
+
+    public BybitApiAccountRestClientImpl(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption, BybitApiTransportConfig transportConfig, BybitApiServiceRegistry registry) {
+        bybitApiService = registry.getService(BybitApiService.class, apiKey, secret, baseUrl, debugMode, recvWindow, logOption, transportConfig);
     }
     // Account endpoints
     @Override
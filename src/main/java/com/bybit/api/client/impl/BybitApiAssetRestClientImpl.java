@@ -1,13 +1,14 @@
 package com.bybit.api.client.impl;
 
+import com.bybit.api.client.config.BybitApiTransportConfig;
 import com.bybit.api.client.restApi.BybitApiAssetRestClient;
 import com.bybit.api.client.restApi.BybitApiService;
 import com.bybit.api.client.domain.asset.request.AssetDataRequest;
 import com.bybit.api.client.domain.asset.request.AssetCancelWithdrawRequest;
 import com.bybit.api.client.domain.asset.request.SetAssetDepositAccountRequest;
+import com.bybit.api.client.service.BybitApiServiceRegistry;
 import com.bybit.api.client.service.BybitJsonConverter;
 
-import static com.bybit.api.client.service.BybitApiServiceGenerator.createService;
 import static com.bybit.api.client.service.BybitApiServiceGenerator.executeSync;
 
 public class BybitApiAssetRestClientImpl implements BybitApiAssetRestClient {
@@ -15,7 +16,15 @@ public class BybitApiAssetRestClientImpl implements BybitApiAssetRestClient {
     private final BybitJsonConverter converter = new BybitJsonConverter();
 
     public BybitApiAssetRestClientImpl(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption) {
-        bybitApiService = createService(BybitApiService.class, apiKey, secret, baseUrl, debugMode, recvWindow, logOption);
+        this(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, BybitApiTransportConfig.DEFAULT);
+    }
+
+    public BybitApiAssetRestClientImpl(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption, BybitApiTransportConfig transportConfig) {
+        this(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, transportConfig, BybitApiServiceRegistry.getInstance());
+    }
+
+    public BybitApiAssetRestClientImpl(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption, BybitApiTransportConfig transportConfig, BybitApiServiceRegistry registry) {
+        bybitApiService = registry.getService(BybitApiService.class, apiKey, secret, baseUrl, debugMode, recvWindow, logOption, transportConfig);
     }
 
     // Asset Endpoints
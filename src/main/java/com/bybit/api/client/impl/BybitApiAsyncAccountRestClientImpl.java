@@ -1,19 +1,28 @@
 package com.bybit.api.client.impl;
 
+import com.bybit.api.client.config.BybitApiTransportConfig;
 import com.bybit.api.client.restApi.BybitApiAsyncAccountRestClient;
 import com.bybit.api.client.restApi.BybitApiCallback;
 import com.bybit.api.client.restApi.BybitApiService;
 import com.bybit.api.client.domain.account.request.AccountDataRequest;
+import com.bybit.api.client.service.BybitApiServiceRegistry;
 import com.bybit.api.client.service.BybitJsonConverter;
 
-import static com.bybit.api.client.service.BybitApiServiceGenerator.createService;
 
 public class BybitApiAsyncAccountRestClientImpl implements BybitApiAsyncAccountRestClient {
     private final BybitApiService bybitApiService;
     private final BybitJsonConverter converter = new BybitJsonConverter();
 
     public BybitApiAsyncAccountRestClientImpl(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption) {
-        bybitApiService = createService(BybitApiService.class, apiKey, secret, baseUrl, debugMode, recvWindow, logOption);
+        this(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, BybitApiTransportConfig.DEFAULT);
+    }
+
+    public BybitApiAsyncAccountRestClientImpl(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption, BybitApiTransportConfig transportConfig) {
+        this(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, transportConfig, BybitApiServiceRegistry.getInstance());
+    }
+
+    public BybitApiAsyncAccountRestClientImpl(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption, BybitApiTransportConfig transportConfig, BybitApiServiceRegistry registry) {
+        bybitApiService = registry.getService(BybitApiService.class, apiKey, secret, baseUrl, debugMode, recvWindow, logOption, transportConfig);
     }
 
     // Account Endpoints
@@ -1,14 +1,15 @@
 package com.bybit.api.client.impl;
 
+import com.bybit.api.client.config.BybitApiTransportConfig;
 import com.bybit.api.client.restApi.BybitApiAsyncAssetRestClient;
 import com.bybit.api.client.restApi.BybitApiCallback;
 import com.bybit.api.client.restApi.BybitApiService;
 import com.bybit.api.client.domain.asset.request.AssetDataRequest;
 import com.bybit.api.client.domain.asset.request.AssetCancelWithdrawRequest;
 import com.bybit.api.client.domain.asset.request.SetAssetDepositAccountRequest;
+import com.bybit.api.client.service.BybitApiServiceRegistry;
 import com.bybit.api.client.service.BybitJsonConverter;
 
-import static com.bybit.api.client.service.BybitApiServiceGenerator.createService;
 
 /**
  * Implementation of Bybit's REST API using Retrofit with asynchronous/non-blocking method calls.
@@ -19,7 +20,15 @@ public class BybitApiAsyncAssetRestClientImpl implements BybitApiAsyncAssetRestC
     private final BybitJsonConverter converter = new BybitJsonConverter();
 
     public BybitApiAsyncAssetRestClientImpl(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption) {
-        bybitApiService = createService(BybitApiService.class, apiKey, secret, baseUrl, debugMode, recvWindow, logOption);
+        this(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, BybitApiTransportConfig.DEFAULT);
+    }
+
+    public BybitApiAsyncAssetRestClientImpl(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption, BybitApiTransportConfig transportConfig) {
+        this(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, transportConfig, BybitApiServiceRegistry.getInstance());
+    }
+
+    public BybitApiAsyncAssetRestClientImpl(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption, BybitApiTransportConfig transportConfig, BybitApiServiceRegistry registry) {
+        bybitApiService = registry.getService(BybitApiService.class, apiKey, secret, baseUrl, debugMode, recvWindow, logOption, transportConfig);
     }
 
     // Asset endpoints
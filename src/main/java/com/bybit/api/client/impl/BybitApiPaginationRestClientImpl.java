@@ -0,0 +1,109 @@
+package com.bybit.api.client.impl;
+
+import com.bybit.api.client.config.BybitApiTransportConfig;
+import com.bybit.api.client.domain.account.request.AccountDataRequest;
+import com.bybit.api.client.domain.asset.request.AssetDataRequest;
+import com.bybit.api.client.domain.position.request.PositionDataRequest;
+import com.bybit.api.client.domain.trade.request.TradeOrderRequest;
+import com.bybit.api.client.restApi.BybitApiPaginationRestClient;
+import com.bybit.api.client.restApi.BybitApiService;
+import com.bybit.api.client.service.BybitApiServiceRegistry;
+import com.bybit.api.client.service.BybitCursorPaginator;
+
+import java.util.Map;
+
+
+public class BybitApiPaginationRestClientImpl implements BybitApiPaginationRestClient {
+    private final BybitApiService bybitApiService;
+
+    public BybitApiPaginationRestClientImpl(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption) {
+        this(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, BybitApiTransportConfig.DEFAULT);
+    }
+
+    public BybitApiPaginationRestClientImpl(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption, BybitApiTransportConfig transportConfig) {
+        this(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, transportConfig, BybitApiServiceRegistry.getInstance());
+    }
+
+    public BybitApiPaginationRestClientImpl(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption, BybitApiTransportConfig transportConfig, BybitApiServiceRegistry registry) {
+        bybitApiService = registry.getService(BybitApiService.class, apiKey, secret, baseUrl, debugMode, recvWindow, logOption, transportConfig);
+    }
+
+    @Override
+    public BybitCursorPaginator<Map<String, Object>> getHistoryOrders(TradeOrderRequest orderHistoryRequest) {
+        return BybitCursorPaginator.of(cursor -> bybitApiService.getHistoryOrderResult(
+                orderHistoryRequest.getCategory().getCategoryTypeId(),
+                orderHistoryRequest.getSymbol(),
+                orderHistoryRequest.getBaseCoin(),
+                orderHistoryRequest.getSettleCoin(),
+                orderHistoryRequest.getOrderId(),
+                orderHistoryRequest.getOrderLinkId(),
+                orderHistoryRequest.getOrderFilter() == null ? null : orderHistoryRequest.getOrderFilter().getOrderFilterType(),
+                orderHistoryRequest.getOrderStatus(),
+                orderHistoryRequest.getStartTime(),
+                orderHistoryRequest.getEndTime(),
+                orderHistoryRequest.getLimit(),
+                cursor == null ? orderHistoryRequest.getCursor() : cursor));
+    }
+
+    @Override
+    public BybitCursorPaginator<Map<String, Object>> getExecutions(PositionDataRequest executionHistoryRequest) {
+        return BybitCursorPaginator.of(cursor -> bybitApiService.getExecutionList(
+                executionHistoryRequest.getCategory().getCategoryTypeId(),
+                executionHistoryRequest.getSymbol(),
+                executionHistoryRequest.getOrderId(),
+                executionHistoryRequest.getOrderLinkId(),
+                executionHistoryRequest.getBaseCoin(),
+                executionHistoryRequest.getStartTime(),
+                executionHistoryRequest.getEndTime(),
+                executionHistoryRequest.getExecType() == null ? null : executionHistoryRequest.getExecType().getExecTypeId(),
+                executionHistoryRequest.getLimit(),
+                cursor == null ? executionHistoryRequest.getCursor() : cursor));
+    }
+
+    @Override
+    public BybitCursorPaginator<Map<String, Object>> getClosePnls(PositionDataRequest closePnlHistoryRequest) {
+        return BybitCursorPaginator.of(cursor -> bybitApiService.getClosePnlList(
+                closePnlHistoryRequest.getCategory().getCategoryTypeId(),
+                closePnlHistoryRequest.getSymbol(),
+                closePnlHistoryRequest.getStartTime(),
+                closePnlHistoryRequest.getEndTime(),
+                closePnlHistoryRequest.getLimit(),
+                cursor == null ? closePnlHistoryRequest.getCursor() : cursor));
+    }
+
+    @Override
+    public BybitCursorPaginator<Map<String, Object>> getTransactionLogs(AccountDataRequest transactionLogRequest) {
+        return BybitCursorPaginator.of(cursor -> bybitApiService.getTransactionLog(
+                transactionLogRequest.getAccountType() == null ? null : transactionLogRequest.getAccountType().getAccountTypeValue(),
+                transactionLogRequest.getCategory() == null ? null : transactionLogRequest.getCategory().getCategoryTypeId(),
+                transactionLogRequest.getCurrency(),
+                transactionLogRequest.getBaseCoin(),
+                transactionLogRequest.getTransactionType() == null ? null : transactionLogRequest.getTransactionType().getTransactionTypeId(),
+                transactionLogRequest.getStartTime(),
+                transactionLogRequest.getEndTime(),
+                transactionLogRequest.getLimit(),
+                cursor == null ? transactionLogRequest.getCursor() : cursor));
+    }
+
+    @Override
+    public BybitCursorPaginator<Map<String, Object>> getAssetDepositRecords(AssetDataRequest assetDepositRecordsRequest) {
+        return BybitCursorPaginator.of(cursor -> bybitApiService.getAssetDepositRecords(
+                assetDepositRecordsRequest.getCoin(),
+                assetDepositRecordsRequest.getStartTime(),
+                assetDepositRecordsRequest.getEndTime(),
+                assetDepositRecordsRequest.getLimit(),
+                cursor == null ? assetDepositRecordsRequest.getCursor() : cursor));
+    }
+
+    @Override
+    public BybitCursorPaginator<Map<String, Object>> getAssetWithdrawalRecords(AssetDataRequest assetWithdrawRecordsRequest) {
+        return BybitCursorPaginator.of(cursor -> bybitApiService.getAssetWithdrawalRecords(
+                assetWithdrawRecordsRequest.getWithdrawID(),
+                assetWithdrawRecordsRequest.getCoin(),
+                assetWithdrawRecordsRequest.getWithdrawType() == null ? null : assetWithdrawRecordsRequest.getWithdrawType().getValue(),
+                assetWithdrawRecordsRequest.getStartTime(),
+                assetWithdrawRecordsRequest.getEndTime(),
+                assetWithdrawRecordsRequest.getLimit(),
+                cursor == null ? assetWithdrawRecordsRequest.getCursor() : cursor));
+    }
+}
@@ -0,0 +1,108 @@
+package com.bybit.api.client.impl;
+
+import com.bybit.api.client.config.BybitApiTransportConfig;
+import com.bybit.api.client.domain.StreamedListResult;
+import com.bybit.api.client.domain.account.request.AccountDataRequest;
+import com.bybit.api.client.domain.market.InstrumentPrecision;
+import com.bybit.api.client.domain.market.request.MarketDataRequest;
+import com.bybit.api.client.domain.market.response.kline.MarketKlineEntry;
+import com.bybit.api.client.domain.market.response.recentTrade.RecentTradeEntry;
+import com.bybit.api.client.domain.position.request.PositionDataRequest;
+import com.bybit.api.client.restApi.BybitApiService;
+import com.bybit.api.client.restApi.BybitApiStreamingRestClient;
+import com.bybit.api.client.service.BybitApiServiceRegistry;
+import com.bybit.api.client.service.BybitNumericModule;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.Getter;
+
+import java.util.function.Consumer;
+
+import static com.bybit.api.client.service.BybitJsonListStreamer.execute;
+
+@Getter
+public class BybitApiStreamingRestClientImpl implements BybitApiStreamingRestClient {
+    private final BybitApiService bybitApiService;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader klineReader;
+    private final ObjectReader recentTradeReader;
+
+    public BybitApiStreamingRestClientImpl(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption) {
+        this(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, BybitApiTransportConfig.DEFAULT, null);
+    }
+
+    /**
+     * @param numericPrecision when not null, kline and trade entries are decoded with {@link BybitNumericModule}
+     */
+    public BybitApiStreamingRestClientImpl(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption, BybitApiTransportConfig transportConfig, InstrumentPrecision numericPrecision) {
+        this(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, transportConfig, numericPrecision, BybitApiServiceRegistry.getInstance());
+    }
+
+    public BybitApiStreamingRestClientImpl(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption, BybitApiTransportConfig transportConfig, InstrumentPrecision numericPrecision, BybitApiServiceRegistry registry) {
+        bybitApiService = registry.getService(BybitApiService.class, apiKey, secret, baseUrl, debugMode, recvWindow, logOption, transportConfig);
+        objectMapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        if (numericPrecision != null) {
+            objectMapper.registerModule(new BybitNumericModule(numericPrecision));
+        }
+        klineReader = objectMapper.readerFor(MarketKlineEntry.class);
+        recentTradeReader = objectMapper.readerFor(RecentTradeEntry.class);
+    }
+
+    // Market Data endpoints
+    @Override
+    public StreamedListResult streamMarketLinesData(MarketDataRequest marketKlineRequest, Consumer<? super MarketKlineEntry> consumer) {
+        return execute(bybitApiService.streamMarketLinesData(
+                marketKlineRequest.getCategory().getCategoryTypeId(),
+                marketKlineRequest.getSymbol(),
+                marketKlineRequest.getMarketInterval() == null ? null : marketKlineRequest.getMarketInterval().getIntervalId(),
+                marketKlineRequest.getStart(),
+                marketKlineRequest.getEnd(),
+                marketKlineRequest.getLimit()
+        ), klineReader, MarketKlineEntry.class, consumer);
+    }
+
+    @Override
+    public StreamedListResult streamRecentTradeData(MarketDataRequest recentTradeRequest, Consumer<? super RecentTradeEntry> consumer) {
+        return execute(bybitApiService.streamRecentTradeData(
+                recentTradeRequest.getCategory().getCategoryTypeId(),
+                recentTradeRequest.getSymbol(),
+                recentTradeRequest.getBaseCoin(),
+                recentTradeRequest.getOptionType() == null ? null : recentTradeRequest.getOptionType().getOpType(),
+                recentTradeRequest.getLimit()
+        ), recentTradeReader, RecentTradeEntry.class, consumer);
+    }
+
+    // Position endpoints
+    @Override
+    public <T> StreamedListResult streamExecutionList(PositionDataRequest executionHistoryRequest, Class<T> entryType, Consumer<? super T> consumer) {
+        return execute(bybitApiService.streamExecutionList(
+                executionHistoryRequest.getCategory().getCategoryTypeId(),
+                executionHistoryRequest.getSymbol(),
+                executionHistoryRequest.getOrderId(),
+                executionHistoryRequest.getOrderLinkId(),
+                executionHistoryRequest.getBaseCoin(),
+                executionHistoryRequest.getStartTime(),
+                executionHistoryRequest.getEndTime(),
+                executionHistoryRequest.getExecType() == null ? null : executionHistoryRequest.getExecType().getExecTypeId(),
+                executionHistoryRequest.getLimit(),
+                executionHistoryRequest.getCursor()
+        ), objectMapper.reader(), entryType, consumer);
+    }
+
+    // Account endpoints
+    @Override
+    public <T> StreamedListResult streamTransactionLog(AccountDataRequest transactionLogRequest, Class<T> entryType, Consumer<? super T> consumer) {
+        return execute(bybitApiService.streamTransactionLog(
+                transactionLogRequest.getAccountType() == null ? null : transactionLogRequest.getAccountType().getAccountTypeValue(),
+                transactionLogRequest.getCategory() == null ? null : transactionLogRequest.getCategory().getCategoryTypeId(),
+                transactionLogRequest.getCurrency(),
+                transactionLogRequest.getBaseCoin(),
+                transactionLogRequest.getTransactionType() == null ? null : transactionLogRequest.getTransactionType().getTransactionTypeId(),
+                transactionLogRequest.getStartTime(),
+                transactionLogRequest.getEndTime(),
+                transactionLogRequest.getLimit(),
+                transactionLogRequest.getCursor()
+        ), objectMapper.reader(), entryType, consumer);
+    }
+}
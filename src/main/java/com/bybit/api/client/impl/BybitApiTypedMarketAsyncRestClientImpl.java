@@ -0,0 +1,167 @@
+package com.bybit.api.client.impl;
+
+import com.bybit.api.client.config.BybitApiTransportConfig;
+import com.bybit.api.client.domain.GenericResponse;
+import com.bybit.api.client.domain.market.InstrumentPrecision;
+import com.bybit.api.client.domain.market.request.MarketDataRequest;
+import com.bybit.api.client.domain.market.response.fundingRate.FundingRateResult;
+import com.bybit.api.client.domain.market.response.instrumentInfo.InstrumentInfoResult;
+import com.bybit.api.client.domain.market.response.kline.MarketKlineResult;
+import com.bybit.api.client.domain.market.response.openInterests.OpenInterestResult;
+import com.bybit.api.client.domain.market.response.orderbook.OrderbookResult;
+import com.bybit.api.client.domain.market.response.recentTrade.RecentTradeResult;
+import com.bybit.api.client.domain.market.response.serverTime.ServerTimeResult;
+import com.bybit.api.client.domain.market.response.tickers.TickersResult;
+import com.bybit.api.client.restApi.BybitApiAsyncTypedMarketRestClient;
+import com.bybit.api.client.restApi.BybitApiCallback;
+import com.bybit.api.client.restApi.BybitApiService;
+import com.bybit.api.client.service.BybitApiServiceRegistry;
+
+
+public class BybitApiTypedMarketAsyncRestClientImpl implements BybitApiAsyncTypedMarketRestClient {
+    private final BybitApiService bybitApiService;
+
+    public BybitApiTypedMarketAsyncRestClientImpl(String baseUrl, boolean debugMode, long recvWindow, String logOption) {
+        this(baseUrl, debugMode, recvWindow, logOption, BybitApiTransportConfig.DEFAULT);
+    }
+
+    public BybitApiTypedMarketAsyncRestClientImpl(String baseUrl, boolean debugMode, long recvWindow, String logOption, BybitApiTransportConfig transportConfig) {
+        this(baseUrl, debugMode, recvWindow, logOption, transportConfig, BybitApiServiceRegistry.getInstance());
+    }
+
+    public BybitApiTypedMarketAsyncRestClientImpl(String baseUrl, boolean debugMode, long recvWindow, String logOption, BybitApiTransportConfig transportConfig, BybitApiServiceRegistry registry) {
+        bybitApiService = registry.getService(BybitApiService.class, null, null, baseUrl, debugMode, recvWindow, logOption, transportConfig);
+    }
+
+    /**
+     * @param numericPrecision precision of the fixed-point fields filled by {@link com.bybit.api.client.service.BybitNumericModule};
+     *                         prices and sizes are decoded into primitives instead of Strings.
+     */
+    public BybitApiTypedMarketAsyncRestClientImpl(String baseUrl, boolean debugMode, long recvWindow, String logOption, BybitApiTransportConfig transportConfig, InstrumentPrecision numericPrecision) {
+        this(baseUrl, debugMode, recvWindow, logOption, transportConfig, numericPrecision, BybitApiServiceRegistry.getInstance());
+    }
+
+    public BybitApiTypedMarketAsyncRestClientImpl(String baseUrl, boolean debugMode, long recvWindow, String logOption, BybitApiTransportConfig transportConfig, InstrumentPrecision numericPrecision, BybitApiServiceRegistry registry) {
+        bybitApiService = registry.getService(BybitApiService.class, null, null, baseUrl, debugMode, recvWindow, logOption, transportConfig, numericPrecision);
+    }
+
+    // Market Data endpoints
+    @Override
+    public void getServerTime(BybitApiCallback<GenericResponse<ServerTimeResult>> callback) {
+        bybitApiService.getServerTimeResult().enqueue(new BybitApiCallbackAdapter<>(callback));
+    }
+
+    @Override
+    public void getMarketLinesData(MarketDataRequest marketKlineRequest, BybitApiCallback<GenericResponse<MarketKlineResult>> callback) {
+        bybitApiService.getMarketKlineResult(
+                marketKlineRequest.getCategory().getCategoryTypeId(),
+                marketKlineRequest.getSymbol(),
+                marketKlineRequest.getMarketInterval() == null ? null : marketKlineRequest.getMarketInterval().getIntervalId(),
+                marketKlineRequest.getStart(),
+                marketKlineRequest.getEnd(),
+                marketKlineRequest.getLimit()
+        ).enqueue(new BybitApiCallbackAdapter<>(callback));
+    }
+
+    @Override
+    public void getMarketPriceLinesData(MarketDataRequest marketKlineRequest, BybitApiCallback<GenericResponse<MarketKlineResult>> callback) {
+        bybitApiService.getMarketPriceKlineResult(
+                marketKlineRequest.getCategory().getCategoryTypeId(),
+                marketKlineRequest.getSymbol(),
+                marketKlineRequest.getMarketInterval() == null ? null : marketKlineRequest.getMarketInterval().getIntervalId(),
+                marketKlineRequest.getStart(),
+                marketKlineRequest.getEnd(),
+                marketKlineRequest.getLimit()
+        ).enqueue(new BybitApiCallbackAdapter<>(callback));
+    }
+
+    @Override
+    public void getIndexPriceLinesData(MarketDataRequest marketKlineRequest, BybitApiCallback<GenericResponse<MarketKlineResult>> callback) {
+        bybitApiService.getIndexPriceKlineResult(
+                marketKlineRequest.getCategory().getCategoryTypeId(),
+                marketKlineRequest.getSymbol(),
+                marketKlineRequest.getMarketInterval() == null ? null : marketKlineRequest.getMarketInterval().getIntervalId(),
+                marketKlineRequest.getStart(),
+                marketKlineRequest.getEnd(),
+                marketKlineRequest.getLimit()
+        ).enqueue(new BybitApiCallbackAdapter<>(callback));
+    }
+
+    @Override
+    public void getPremiumIndexPriceLinesData(MarketDataRequest marketKlineRequest, BybitApiCallback<GenericResponse<MarketKlineResult>> callback) {
+        bybitApiService.getPremiumIndexPriceKlineResult(
+                marketKlineRequest.getCategory().getCategoryTypeId(),
+                marketKlineRequest.getSymbol(),
+                marketKlineRequest.getMarketInterval() == null ? null : marketKlineRequest.getMarketInterval().getIntervalId(),
+                marketKlineRequest.getStart(),
+                marketKlineRequest.getEnd(),
+                marketKlineRequest.getLimit()
+        ).enqueue(new BybitApiCallbackAdapter<>(callback));
+    }
+
+    @Override
+    public void getInstrumentsInfo(MarketDataRequest instrumentInfoRequest, BybitApiCallback<GenericResponse<InstrumentInfoResult>> callback) {
+        bybitApiService.getInstrumentInfoResult(
+                instrumentInfoRequest.getCategory().getCategoryTypeId(),
+                instrumentInfoRequest.getSymbol(),
+                instrumentInfoRequest.getInstrumentStatus() == null ? null : instrumentInfoRequest.getInstrumentStatus().getStatus(),
+                instrumentInfoRequest.getBaseCoin(),
+                instrumentInfoRequest.getLimit(),
+                instrumentInfoRequest.getCursor()
+        ).enqueue(new BybitApiCallbackAdapter<>(callback));
+    }
+
+    @Override
+    public void getMarketOrderBook(MarketDataRequest marketOrderBookRequest, BybitApiCallback<GenericResponse<OrderbookResult>> callback) {
+        bybitApiService.getOrderbookResult(
+                marketOrderBookRequest.getCategory().getCategoryTypeId(),
+                marketOrderBookRequest.getSymbol(),
+                marketOrderBookRequest.getLimit()
+        ).enqueue(new BybitApiCallbackAdapter<>(callback));
+    }
+
+    @Override
+    public void getMarketTickers(MarketDataRequest marketDataTickerRequest, BybitApiCallback<GenericResponse<TickersResult>> callback) {
+        bybitApiService.getTickersResult(
+                marketDataTickerRequest.getCategory().getCategoryTypeId(),
+                marketDataTickerRequest.getSymbol(),
+                marketDataTickerRequest.getBaseCoin(),
+                marketDataTickerRequest.getExpDate()
+        ).enqueue(new BybitApiCallbackAdapter<>(callback));
+    }
+
+    @Override
+    public void getFundingHistory(MarketDataRequest fundingHistoryRequest, BybitApiCallback<GenericResponse<FundingRateResult>> callback) {
+        bybitApiService.getFundingRateResult(
+                fundingHistoryRequest.getCategory().getCategoryTypeId(),
+                fundingHistoryRequest.getSymbol(),
+                fundingHistoryRequest.getStartTime(),
+                fundingHistoryRequest.getEndTime(),
+                fundingHistoryRequest.getLimit()
+        ).enqueue(new BybitApiCallbackAdapter<>(callback));
+    }
+
+    @Override
+    public void getRecentTradeData(MarketDataRequest recentTradeRequest, BybitApiCallback<GenericResponse<RecentTradeResult>> callback) {
+        bybitApiService.getRecentTradeResult(
+                recentTradeRequest.getCategory().getCategoryTypeId(),
+                recentTradeRequest.getSymbol(),
+                recentTradeRequest.getBaseCoin(),
+                recentTradeRequest.getOptionType() == null ? null : recentTradeRequest.getOptionType().getOpType(),
+                recentTradeRequest.getLimit()
+        ).enqueue(new BybitApiCallbackAdapter<>(callback));
+    }
+
+    @Override
+    public void getOpenInterest(MarketDataRequest openInterestRequest, BybitApiCallback<GenericResponse<OpenInterestResult>> callback) {
+        bybitApiService.getOpenInterestResult(
+                openInterestRequest.getCategory().getCategoryTypeId(),
+                openInterestRequest.getSymbol(),
+                openInterestRequest.getMarketIntervalTime() == null ? null : openInterestRequest.getMarketIntervalTime().getInterval(),
+                openInterestRequest.getStartTime(),
+                openInterestRequest.getEndTime(),
+                openInterestRequest.getLimit(),
+                openInterestRequest.getCursor()
+        ).enqueue(new BybitApiCallbackAdapter<>(callback));
+    }
+}
@@ -0,0 +1,169 @@
+package com.bybit.api.client.impl;
+
+import com.bybit.api.client.config.BybitApiTransportConfig;
+import com.bybit.api.client.domain.GenericResponse;
+import com.bybit.api.client.domain.market.InstrumentPrecision;
+import com.bybit.api.client.domain.market.request.MarketDataRequest;
+import com.bybit.api.client.domain.market.response.fundingRate.FundingRateResult;
+import com.bybit.api.client.domain.market.response.instrumentInfo.InstrumentInfoResult;
+import com.bybit.api.client.domain.market.response.kline.MarketKlineResult;
+import com.bybit.api.client.domain.market.response.openInterests.OpenInterestResult;
+import com.bybit.api.client.domain.market.response.orderbook.OrderbookResult;
+import com.bybit.api.client.domain.market.response.recentTrade.RecentTradeResult;
+import com.bybit.api.client.domain.market.response.serverTime.ServerTimeResult;
+import com.bybit.api.client.domain.market.response.tickers.TickersResult;
+import com.bybit.api.client.restApi.BybitApiService;
+import com.bybit.api.client.restApi.BybitApiTypedMarketRestClient;
+import com.bybit.api.client.service.BybitApiServiceRegistry;
+import lombok.Getter;
+
+import static com.bybit.api.client.service.BybitApiServiceGenerator.executeSync;
+
+@Getter
+public class BybitApiTypedMarketRestClientImpl implements BybitApiTypedMarketRestClient {
+    private final BybitApiService bybitApiService;
+
+    public BybitApiTypedMarketRestClientImpl(String baseUrl, boolean debugMode, long recvWindow, String logOption) {
+        this(baseUrl, debugMode, recvWindow, logOption, BybitApiTransportConfig.DEFAULT);
+    }
+
+    public BybitApiTypedMarketRestClientImpl(String baseUrl, boolean debugMode, long recvWindow, String logOption, BybitApiTransportConfig transportConfig) {
+        this(baseUrl, debugMode, recvWindow, logOption, transportConfig, BybitApiServiceRegistry.getInstance());
+    }
+
+    public BybitApiTypedMarketRestClientImpl(String baseUrl, boolean debugMode, long recvWindow, String logOption, BybitApiTransportConfig transportConfig, BybitApiServiceRegistry registry) {
+        bybitApiService = registry.getService(BybitApiService.class, null, null, baseUrl, debugMode, recvWindow, logOption, transportConfig);
+    }
+
+    /**
+     * @param numericPrecision precision of the fixed-point fields filled by {@link com.bybit.api.client.service.BybitNumericModule};
+     *                         prices and sizes are decoded into primitives instead of Strings.
+     */
+    public BybitApiTypedMarketRestClientImpl(String baseUrl, boolean debugMode, long recvWindow, String logOption, BybitApiTransportConfig transportConfig, InstrumentPrecision numericPrecision) {
+        this(baseUrl, debugMode, recvWindow, logOption, transportConfig, numericPrecision, BybitApiServiceRegistry.getInstance());
+    }
+
+    public BybitApiTypedMarketRestClientImpl(String baseUrl, boolean debugMode, long recvWindow, String logOption, BybitApiTransportConfig transportConfig, InstrumentPrecision numericPrecision, BybitApiServiceRegistry registry) {
+        bybitApiService = registry.getService(BybitApiService.class, null, null, baseUrl, debugMode, recvWindow, logOption, transportConfig, numericPrecision);
+    }
+
+    // Market Data endpoints
+    @Override
+    public GenericResponse<ServerTimeResult> getServerTime() {
+        return executeSync(bybitApiService.getServerTimeResult());
+    }
+
+    @Override
+    public GenericResponse<MarketKlineResult> getMarketLinesData(MarketDataRequest marketKlineRequest) {
+        return executeSync(bybitApiService.getMarketKlineResult(
+                marketKlineRequest.getCategory().getCategoryTypeId(),
+                marketKlineRequest.getSymbol(),
+                marketKlineRequest.getMarketInterval() == null ? null : marketKlineRequest.getMarketInterval().getIntervalId(),
+                marketKlineRequest.getStart(),
+                marketKlineRequest.getEnd(),
+                marketKlineRequest.getLimit()
+        ));
+    }
+
+    @Override
+    public GenericResponse<MarketKlineResult> getMarketPriceLinesData(MarketDataRequest marketKlineRequest) {
+        return executeSync(bybitApiService.getMarketPriceKlineResult(
+                marketKlineRequest.getCategory().getCategoryTypeId(),
+                marketKlineRequest.getSymbol(),
+                marketKlineRequest.getMarketInterval() == null ? null : marketKlineRequest.getMarketInterval().getIntervalId(),
+                marketKlineRequest.getStart(),
+                marketKlineRequest.getEnd(),
+                marketKlineRequest.getLimit()
+        ));
+    }
+
+    @Override
+    public GenericResponse<MarketKlineResult> getIndexPriceLinesData(MarketDataRequest marketKlineRequest) {
+        return executeSync(bybitApiService.getIndexPriceKlineResult(
+                marketKlineRequest.getCategory().getCategoryTypeId(),
+                marketKlineRequest.getSymbol(),
+                marketKlineRequest.getMarketInterval() == null ? null : marketKlineRequest.getMarketInterval().getIntervalId(),
+                marketKlineRequest.getStart(),
+                marketKlineRequest.getEnd(),
+                marketKlineRequest.getLimit()
+        ));
+    }
+
+    @Override
+    public GenericResponse<MarketKlineResult> getPremiumIndexPriceLinesData(MarketDataRequest marketKlineRequest) {
+        return executeSync(bybitApiService.getPremiumIndexPriceKlineResult(
+                marketKlineRequest.getCategory().getCategoryTypeId(),
+                marketKlineRequest.getSymbol(),
+                marketKlineRequest.getMarketInterval() == null ? null : marketKlineRequest.getMarketInterval().getIntervalId(),
+                marketKlineRequest.getStart(),
+                marketKlineRequest.getEnd(),
+                marketKlineRequest.getLimit()
+        ));
+    }
+
+    @Override
+    public GenericResponse<InstrumentInfoResult> getInstrumentsInfo(MarketDataRequest instrumentInfoRequest) {
+        return executeSync(bybitApiService.getInstrumentInfoResult(
+                instrumentInfoRequest.getCategory().getCategoryTypeId(),
+                instrumentInfoRequest.getSymbol(),
+                instrumentInfoRequest.getInstrumentStatus() == null ? null : instrumentInfoRequest.getInstrumentStatus().getStatus(),
+                instrumentInfoRequest.getBaseCoin(),
+                instrumentInfoRequest.getLimit(),
+                instrumentInfoRequest.getCursor()
+        ));
+    }
+
+    @Override
+    public GenericResponse<OrderbookResult> getMarketOrderBook(MarketDataRequest marketOrderBookRequest) {
+        return executeSync(bybitApiService.getOrderbookResult(
+                marketOrderBookRequest.getCategory().getCategoryTypeId(),
+                marketOrderBookRequest.getSymbol(),
+                marketOrderBookRequest.getLimit()
+        ));
+    }
+
+    @Override
+    public GenericResponse<TickersResult> getMarketTickers(MarketDataRequest marketDataTickerRequest) {
+        return executeSync(bybitApiService.getTickersResult(
+                marketDataTickerRequest.getCategory().getCategoryTypeId(),
+                marketDataTickerRequest.getSymbol(),
+                marketDataTickerRequest.getBaseCoin(),
+                marketDataTickerRequest.getExpDate()
+        ));
+    }
+
+    @Override
+    public GenericResponse<FundingRateResult> getFundingHistory(MarketDataRequest fundingHistoryRequest) {
+        return executeSync(bybitApiService.getFundingRateResult(
+                fundingHistoryRequest.getCategory().getCategoryTypeId(),
+                fundingHistoryRequest.getSymbol(),
+                fundingHistoryRequest.getStartTime(),
+                fundingHistoryRequest.getEndTime(),
+                fundingHistoryRequest.getLimit()
+        ));
+    }
+
+    @Override
+    public GenericResponse<RecentTradeResult> getRecentTradeData(MarketDataRequest recentTradeRequest) {
+        return executeSync(bybitApiService.getRecentTradeResult(
+                recentTradeRequest.getCategory().getCategoryTypeId(),
+                recentTradeRequest.getSymbol(),
+                recentTradeRequest.getBaseCoin(),
+                recentTradeRequest.getOptionType() == null ? null : recentTradeRequest.getOptionType().getOpType(),
+                recentTradeRequest.getLimit()
+        ));
+    }
+
+    @Override
+    public GenericResponse<OpenInterestResult> getOpenInterest(MarketDataRequest openInterestRequest) {
+        return executeSync(bybitApiService.getOpenInterestResult(
+                openInterestRequest.getCategory().getCategoryTypeId(),
+                openInterestRequest.getSymbol(),
+                openInterestRequest.getMarketIntervalTime() == null ? null : openInterestRequest.getMarketIntervalTime().getInterval(),
+                openInterestRequest.getStartTime(),
+                openInterestRequest.getEndTime(),
+                openInterestRequest.getLimit(),
+                openInterestRequest.getCursor()
+        ));
+    }
+}
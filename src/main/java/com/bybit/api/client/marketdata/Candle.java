@@ -0,0 +1,177 @@
+package com.bybit.api.client.marketdata;
+
+/**
+ * OHLCV bar built by a {@link CandleAggregator}.
+ *
+ * The aggregator keeps one instance per symbol and interval and updates it in place, so a candle passed to a
+ * {@link CandleAggregator.CandleListener} is only valid during the call; {@link #copy()} it to keep it.
+ */
+public final class Candle {
+    private final String symbol;
+    private final CandleInterval interval;
+    private long startTime;
+    private long endTime;
+    private double open;
+    private double high;
+    private double low;
+    private double close;
+    private double volume;
+    private double turnover;
+    private int tradeCount;
+    private long lastTradeTime;
+    private boolean confirmed;
+    /**
+     * Whether the bar has no price yet.
+     */
+    private boolean empty = true;
+
+    Candle(String symbol, CandleInterval interval) {
+        this.symbol = symbol;
+        this.interval = interval;
+    }
+
+    /**
+     * Start a new bar at {@code startTime}, without any trade yet.
+     */
+    void open(long startTime) {
+        this.startTime = startTime;
+        this.endTime = interval.endOf(startTime);
+        this.tradeCount = 0;
+        this.volume = 0;
+        this.turnover = 0;
+        this.confirmed = false;
+        this.empty = true;
+    }
+
+    void addTrade(long time, double price, double size, double value) {
+        if (empty) {
+            open = price;
+            high = price;
+            low = price;
+            empty = false;
+        } else {
+            high = Math.max(high, price);
+            low = Math.min(low, price);
+        }
+        close = price;
+        volume += size;
+        turnover += value;
+        tradeCount++;
+        lastTradeTime = time;
+    }
+
+    /**
+     * Merge the exchange's own figures for this bar, which cover the trades before the aggregator started.
+     */
+    void merge(double open, double high, double low, double close, double volume, double turnover) {
+        this.open = open;
+        if (empty) {
+            this.high = high;
+            this.low = low;
+            this.close = close;
+            empty = false;
+        } else {
+            this.high = Math.max(this.high, high);
+            this.low = Math.min(this.low, low);
+        }
+        // The exchange's bar and the local one overlap by the trades in flight during the request: keep the larger.
+        this.volume = Math.max(this.volume, volume);
+        this.turnover = Math.max(this.turnover, turnover);
+    }
+
+    void setConfirmed(boolean confirmed) {
+        this.confirmed = confirmed;
+    }
+
+    boolean isStarted() {
+        return endTime != 0;
+    }
+
+    boolean isEmpty() {
+        return empty;
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public CandleInterval getInterval() {
+        return interval;
+    }
+
+    public long getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * End time of the bar, exclusive.
+     */
+    public long getEndTime() {
+        return endTime;
+    }
+
+    public double getOpen() {
+        return open;
+    }
+
+    public double getHigh() {
+        return high;
+    }
+
+    public double getLow() {
+        return low;
+    }
+
+    public double getClose() {
+        return close;
+    }
+
+    public double getVolume() {
+        return volume;
+    }
+
+    public double getTurnover() {
+        return turnover;
+    }
+
+    /**
+     * Trades aggregated locally, not counting those of the seed.
+     */
+    public int getTradeCount() {
+        return tradeCount;
+    }
+
+    public long getLastTradeTime() {
+        return lastTradeTime;
+    }
+
+    /**
+     * Whether the bar is closed and will not change any more.
+     */
+    public boolean isConfirmed() {
+        return confirmed;
+    }
+
+    public Candle copy() {
+        Candle copy = new Candle(symbol, interval);
+        copy.startTime = startTime;
+        copy.endTime = endTime;
+        copy.open = open;
+        copy.high = high;
+        copy.low = low;
+        copy.close = close;
+        copy.volume = volume;
+        copy.turnover = turnover;
+        copy.tradeCount = tradeCount;
+        copy.lastTradeTime = lastTradeTime;
+        copy.confirmed = confirmed;
+        copy.empty = empty;
+        return copy;
+    }
+
+    @Override
+    public String toString() {
+        return "Candle[" + symbol + " " + interval + " " + startTime + ",o=" + open + ",h=" + high + ",l=" + low +
+                ",c=" + close + ",v=" + volume + ",trades=" + tradeCount + (confirmed ? ",confirmed" : "") + "]";
+    }
+}
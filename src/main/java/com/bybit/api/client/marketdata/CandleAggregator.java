@@ -0,0 +1,324 @@
+package com.bybit.api.client.marketdata;
+
+import com.bybit.api.client.domain.CategoryType;
+import com.bybit.api.client.domain.GenericResponse;
+import com.bybit.api.client.domain.market.request.MarketDataRequest;
+import com.bybit.api.client.domain.market.response.kline.MarketKlineEntry;
+import com.bybit.api.client.domain.market.response.kline.MarketKlineResult;
+import com.bybit.api.client.domain.websocket.WebsocketMessage;
+import com.bybit.api.client.domain.websocket.WebsocketTradeEntry;
+import com.bybit.api.client.exception.BybitApiException;
+import com.bybit.api.client.restApi.BybitApiAsyncTypedMarketRestClient;
+import com.bybit.api.client.restApi.BybitApiCallback;
+import com.bybit.api.client.service.FixedPointParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Builds OHLCV candles of several intervals at once from the {@code publicTrade.{symbol}} stream, instead of waiting
+ * for the {@code kline} pushes that only arrive every one to sixty seconds.
+ *
+ * Each symbol holds one {@link Candle} per interval, updated in place, so memory does not grow with the number of
+ * trades. Intervals may be the exchange's {@link com.bybit.api.client.domain.market.MarketInterval}s or sub-minute
+ * ones such as {@link CandleInterval#ONE_SECOND}. After each trade message the listener receives the partial candles
+ * it changed, and a confirmed candle whenever a trade falls past the end of the current one. Intervals without any
+ * trade produce no candle. Since a quiet market would leave the last candle open, {@link #closeExpired(long)} confirms
+ * the candles that ended before a given time, e.g. from a timer.
+ *
+ * Trades only cover the time since subscription: {@link #seed(BybitApiAsyncTypedMarketRestClient, String)} merges
+ * the exchange's current kline into the first candle of each exchange interval. Sub-minute candles start empty.
+ *
+ * Each symbol is updated under its own lock, which the listener is called under.
+ *
+ * <pre>{@code
+ * CandleAggregator candles = new CandleAggregator(CategoryType.LINEAR, List.of(CandleInterval.ONE_SECOND,
+ *         CandleInterval.of(MarketInterval.ONE_MINUTE), CandleInterval.of(MarketInterval.HOURLY)))
+ *         .setListener(candle -> chart.update(candle.copy()));
+ * router.onPublicTrade(candles::apply);
+ * candles.seed(factory.newAsyncTypedMarketDataRestClient(), "BTCUSDT");
+ * }</pre>
+ */
+public class CandleAggregator {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CandleAggregator.class);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final CategoryType category;
+    private final CandleInterval[] intervals;
+    private final ConcurrentMap<String, SymbolCandles> symbols = new ConcurrentHashMap<>();
+    private volatile CandleListener listener;
+    private final LongAdder trades = new LongAdder();
+    private final LongAdder lateTrades = new LongAdder();
+
+    /**
+     * Receives the partial and confirmed candles, under the lock of their symbol.
+     */
+    @FunctionalInterface
+    public interface CandleListener {
+        void onCandle(Candle candle);
+    }
+
+    /**
+     * @param category  category of the trades; turnover is size / price for inverse contracts, price * size otherwise
+     * @param intervals intervals of the candles to build
+     */
+    public CandleAggregator(CategoryType category, List<CandleInterval> intervals) {
+        if (intervals.isEmpty()) {
+            throw new IllegalArgumentException("At least one interval is required");
+        }
+        this.category = category;
+        this.intervals = intervals.toArray(new CandleInterval[0]);
+    }
+
+    public CandleAggregator setListener(CandleListener listener) {
+        this.listener = listener;
+        return this;
+    }
+
+    /**
+     * Aggregate a push of the public trade stream.
+     */
+    public void apply(WebsocketMessage<List<WebsocketTradeEntry>> message) {
+        List<WebsocketTradeEntry> data = message.getData();
+        int i = 0;
+        while (i < data.size()) {
+            String symbol = data.get(i).getSymbol();
+            SymbolCandles symbolCandles = symbolCandles(symbol);
+            synchronized (symbolCandles) {
+                // A push holds the trades of one symbol: lock and publish once for all of them.
+                for (; i < data.size() && symbol.equals(data.get(i).getSymbol()); i++) {
+                    addTrade(symbolCandles, data.get(i));
+                }
+                publishChanged(symbolCandles);
+            }
+        }
+    }
+
+    /**
+     * Confirm the candles that ended at or before {@code time}, which no trade has closed yet. Pass a time a little
+     * behind the clock to leave room for the trades still in flight: trades older than the current candle are
+     * dropped.
+     */
+    public void closeExpired(long time) {
+        for (SymbolCandles symbolCandles : symbols.values()) {
+            synchronized (symbolCandles) {
+                for (int k = 0; k < intervals.length; k++) {
+                    Candle candle = symbolCandles.candles[k];
+                    if (candle.isStarted() && candle.getEndTime() <= time) {
+                        confirm(candle);
+                        candle.open(intervals[k].startOf(time));
+                        symbolCandles.changed[k] = false;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Merge the exchange's current kline of {@code symbol} into the current candle of each exchange interval, so that
+     * the first candles also count the trades from before the subscription. Best called right after subscribing.
+     *
+     * @return completes once every interval is seeded, exceptionally if a request failed
+     */
+    public CompletableFuture<Void> seed(BybitApiAsyncTypedMarketRestClient client, String symbol) {
+        SymbolCandles symbolCandles = symbolCandles(symbol);
+        List<CompletableFuture<?>> requests = new ArrayList<>();
+        for (int k = 0; k < intervals.length; k++) {
+            if (intervals[k].getMarketInterval() == null) {
+                continue;
+            }
+            int index = k;
+            requests.add(fetchCurrentKline(client, symbol, intervals[k]).thenAccept(entry -> {
+                if (entry != null) {
+                    synchronized (symbolCandles) {
+                        merge(symbolCandles, index, entry);
+                    }
+                }
+            }));
+        }
+        return CompletableFuture.allOf(requests.toArray(new CompletableFuture<?>[0]));
+    }
+
+    /**
+     * Copy of the current candle of {@code symbol} for {@code interval}, or null if it has no trade yet.
+     */
+    public Candle getCandle(String symbol, CandleInterval interval) {
+        SymbolCandles symbolCandles = symbols.get(symbol);
+        if (symbolCandles == null) {
+            return null;
+        }
+        for (int k = 0; k < intervals.length; k++) {
+            if (intervals[k].equals(interval)) {
+                synchronized (symbolCandles) {
+                    Candle candle = symbolCandles.candles[k];
+                    return candle.isEmpty() ? null : candle.copy();
+                }
+            }
+        }
+        throw new IllegalArgumentException("Interval not aggregated: " + interval);
+    }
+
+    private void addTrade(SymbolCandles symbolCandles, WebsocketTradeEntry trade) {
+        long time = trade.getTime();
+        double price = FixedPointParser.parseDouble(trade.getPrice());
+        double size = FixedPointParser.parseDouble(trade.getSize());
+        double value = category == CategoryType.INVERSE ? size / price : price * size;
+        trades.increment();
+        for (int k = 0; k < intervals.length; k++) {
+            Candle candle = symbolCandles.candles[k];
+            if (!candle.isStarted()) {
+                candle.open(intervals[k].startOf(time));
+            } else if (time >= candle.getEndTime()) {
+                confirm(candle);
+                candle.open(intervals[k].startOf(time));
+            } else if (time < candle.getStartTime()) {
+                lateTrades.increment();
+                continue;
+            }
+            candle.addTrade(time, price, size, value);
+            symbolCandles.changed[k] = true;
+        }
+    }
+
+    private void merge(SymbolCandles symbolCandles, int index, MarketKlineEntry entry) {
+        Candle candle = symbolCandles.candles[index];
+        if (candle.isStarted() && entry.getStartTime() < candle.getStartTime()) {
+            // Trades have already moved on to the next candle.
+            return;
+        }
+        if (!candle.isStarted() || entry.getStartTime() > candle.getStartTime()) {
+            if (candle.isStarted()) {
+                confirm(candle);
+            }
+            candle.open(entry.getStartTime());
+        }
+        candle.merge(value(entry.getOpenPriceValue(), entry.getOpenPrice()),
+                value(entry.getHighPriceValue(), entry.getHighPrice()),
+                value(entry.getLowPriceValue(), entry.getLowPrice()),
+                value(entry.getClosePriceValue(), entry.getClosePrice()),
+                value(entry.getVolumeValue(), entry.getVolume()),
+                value(entry.getTurnoverValue(), entry.getTurnover()));
+        notifyCandle(candle);
+        symbolCandles.changed[index] = false;
+    }
+
+    private static double value(double decoded, String text) {
+        return Double.isNaN(decoded) ? FixedPointParser.parseDouble(text) : decoded;
+    }
+
+    private void confirm(Candle candle) {
+        if (!candle.isEmpty()) {
+            candle.setConfirmed(true);
+            notifyCandle(candle);
+        }
+    }
+
+    private void publishChanged(SymbolCandles symbolCandles) {
+        for (int k = 0; k < intervals.length; k++) {
+            if (symbolCandles.changed[k]) {
+                symbolCandles.changed[k] = false;
+                notifyCandle(symbolCandles.candles[k]);
+            }
+        }
+    }
+
+    private void notifyCandle(Candle candle) {
+        CandleListener candleListener = listener;
+        if (candleListener != null) {
+            try {
+                candleListener.onCandle(candle);
+            } catch (RuntimeException e) {
+                LOGGER.error("Candle listener failed: ", e);
+            }
+        }
+    }
+
+    private CompletableFuture<MarketKlineEntry> fetchCurrentKline(BybitApiAsyncTypedMarketRestClient client, String symbol, CandleInterval interval) {
+        CompletableFuture<MarketKlineEntry> future = new CompletableFuture<>();
+        MarketDataRequest request = MarketDataRequest.builder()
+                .category(category)
+                .symbol(symbol)
+                .marketInterval(interval.getMarketInterval())
+                .limit(1)
+                .build();
+        client.getMarketLinesData(request, new BybitApiCallback<GenericResponse<MarketKlineResult>>() {
+            @Override
+            public void onResponse(GenericResponse<MarketKlineResult> response) {
+                if (response.getRetCode() != 0) {
+                    future.completeExceptionally(new BybitApiException(response.getRetCode() + ": " + response.getRetMsg()));
+                    return;
+                }
+                MarketKlineResult result = response.getResult();
+                if (result == null || result.getMarketKlineEntries() == null || result.getMarketKlineEntries().isEmpty()) {
+                    future.complete(null);
+                    return;
+                }
+                // Bybit lists the most recent candle first.
+                future.complete(result.getMarketKlineEntries().get(0));
+            }
+
+            @Override
+            public void onFailure(Throwable cause) {
+                future.completeExceptionally(cause);
+            }
+        });
+        // A gateway timeout is never reported to the callback, so the seed must not wait forever.
+        return future.orTimeout(REQUEST_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private SymbolCandles symbolCandles(String symbol) {
+        return symbols.computeIfAbsent(symbol, key -> new SymbolCandles(key, intervals));
+    }
+
+    public CategoryType getCategory() {
+        return category;
+    }
+
+    public List<CandleInterval> getIntervals() {
+        return List.of(intervals);
+    }
+
+    /**
+     * Trades aggregated so far.
+     */
+    public long getTradeCount() {
+        return trades.sum();
+    }
+
+    /**
+     * Trades dropped for being older than the current candle of an interval.
+     */
+    public long getLateTradeCount() {
+        return lateTrades.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "CandleAggregator[" + category + ",intervals=" + getIntervals() + ",symbols=" + symbols.size() +
+                ",trades=" + getTradeCount() + ",late=" + getLateTradeCount() + "]";
+    }
+
+    private static final class SymbolCandles {
+        private final Candle[] candles;
+        /**
+         * Candles changed by the trades of the current push, published once it is applied.
+         */
+        private final boolean[] changed;
+
+        private SymbolCandles(String symbol, CandleInterval[] intervals) {
+            candles = new Candle[intervals.length];
+            changed = new boolean[intervals.length];
+            for (int k = 0; k < intervals.length; k++) {
+                candles[k] = new Candle(symbol, intervals[k]);
+            }
+        }
+    }
+}
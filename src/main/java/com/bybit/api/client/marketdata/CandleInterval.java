@@ -0,0 +1,118 @@
+package com.bybit.api.client.marketdata;
+
+import com.bybit.api.client.domain.market.MarketInterval;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Candle interval of a {@link CandleAggregator}: one of the exchange's {@link MarketInterval}s, or a sub-minute
+ * interval the exchange does not offer, such as {@link #ONE_SECOND}.
+ *
+ * Candles are aligned like the exchange's klines, in UTC: on multiples of the interval since the epoch, weeks on
+ * Mondays and months on the first day of the month.
+ */
+public final class CandleInterval {
+    public static final CandleInterval ONE_SECOND = ofSeconds(1);
+    public static final CandleInterval FIVE_SECONDS = ofSeconds(5);
+    public static final CandleInterval FIFTEEN_SECONDS = ofSeconds(15);
+    public static final CandleInterval THIRTY_SECONDS = ofSeconds(30);
+
+    /**
+     * The epoch was a Thursday, weekly klines start on Mondays.
+     */
+    private static final long WEEK_OFFSET_MILLIS = TimeUnit.DAYS.toMillis(4);
+
+    private final MarketInterval marketInterval;
+    private final long durationMillis;
+    private final String intervalId;
+
+    private CandleInterval(MarketInterval marketInterval, long durationMillis, String intervalId) {
+        this.marketInterval = marketInterval;
+        this.durationMillis = durationMillis;
+        this.intervalId = intervalId;
+    }
+
+    public static CandleInterval of(MarketInterval marketInterval) {
+        return new CandleInterval(marketInterval, marketInterval.getDurationMillis(), marketInterval.getIntervalId());
+    }
+
+    /**
+     * Sub-minute interval; {@code seconds} must divide a minute so that candles line up with the minute ones.
+     */
+    public static CandleInterval ofSeconds(int seconds) {
+        if (seconds <= 0 || 60 % seconds != 0) {
+            throw new IllegalArgumentException("Seconds must divide a minute: " + seconds);
+        }
+        return new CandleInterval(null, TimeUnit.SECONDS.toMillis(seconds), seconds + "s");
+    }
+
+    /**
+     * Start time of the candle containing {@code timestamp}.
+     */
+    public long startOf(long timestamp) {
+        if (marketInterval == MarketInterval.MONTHLY) {
+            ZonedDateTime time = Instant.ofEpochMilli(timestamp).atZone(ZoneOffset.UTC);
+            return time.toLocalDate().withDayOfMonth(1).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+        }
+        if (marketInterval == MarketInterval.WEEKLY) {
+            return Math.floorDiv(timestamp - WEEK_OFFSET_MILLIS, durationMillis) * durationMillis + WEEK_OFFSET_MILLIS;
+        }
+        return Math.floorDiv(timestamp, durationMillis) * durationMillis;
+    }
+
+    /**
+     * End time, exclusive, of the candle starting at {@code startTime}.
+     */
+    public long endOf(long startTime) {
+        if (marketInterval == MarketInterval.MONTHLY) {
+            return Instant.ofEpochMilli(startTime).atZone(ZoneOffset.UTC).plusMonths(1).toInstant().toEpochMilli();
+        }
+        return startTime + durationMillis;
+    }
+
+    /**
+     * The exchange's interval, or null for intervals the exchange does not offer.
+     */
+    public MarketInterval getMarketInterval() {
+        return marketInterval;
+    }
+
+    /**
+     * Length of a candle in milliseconds; the longest month for {@link MarketInterval#MONTHLY}.
+     */
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    /**
+     * The exchange's interval id, e.g. {@code "1"} or {@code "D"}, or the number of seconds followed by {@code s}.
+     */
+    public String getIntervalId() {
+        return intervalId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CandleInterval)) {
+            return false;
+        }
+        CandleInterval other = (CandleInterval) o;
+        return marketInterval == other.marketInterval && durationMillis == other.durationMillis;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(durationMillis);
+    }
+
+    @Override
+    public String toString() {
+        return intervalId;
+    }
+}
@@ -0,0 +1,44 @@
+package com.bybit.api.client.marketdata;
+
+import com.bybit.api.client.domain.market.MarketInterval;
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outcome of a {@link KlineHistoryDownloader#download} run.
+ */
+@Getter
+public class KlineDownloadReport {
+    private final String symbol;
+    private final MarketInterval interval;
+    /**
+     * Candles written to the sink, after deduplication.
+     */
+    private final long candles;
+    /**
+     * REST calls issued, retries included.
+     */
+    private final int requests;
+    private final int retries;
+    private final long elapsedNanos;
+
+    public KlineDownloadReport(String symbol, MarketInterval interval, long candles, int requests, int retries, long elapsedNanos) {
+        this.symbol = symbol;
+        this.interval = interval;
+        this.candles = candles;
+        this.requests = requests;
+        this.retries = retries;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public double getCandlesPerSecond() {
+        return elapsedNanos == 0 ? 0 : candles * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Downloaded %d %s klines of %s in %d ms (%d requests, %d retries, %.0f candles/s)",
+                candles, interval.getIntervalId(), symbol, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), requests, retries, getCandlesPerSecond());
+    }
+}
@@ -0,0 +1,216 @@
+package com.bybit.api.client.marketdata;
+
+import com.bybit.api.client.domain.CategoryType;
+import com.bybit.api.client.domain.GenericResponse;
+import com.bybit.api.client.domain.market.MarketInterval;
+import com.bybit.api.client.domain.market.request.MarketDataRequest;
+import com.bybit.api.client.domain.market.response.kline.MarketKlineEntry;
+import com.bybit.api.client.domain.market.response.kline.MarketKlineResult;
+import com.bybit.api.client.exception.BybitApiException;
+import com.bybit.api.client.restApi.BybitApiAsyncTypedMarketRestClient;
+import com.bybit.api.client.restApi.BybitApiCallback;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Downloads a long range of historical klines for one symbol by splitting it into interval-aligned windows of
+ * {@code candlesPerRequest} candles and fetching them concurrently through the async market client.
+ *
+ * At most {@code maxConcurrentRequests} windows are in flight, optionally paced to {@code requestsPerSecond}.
+ * Windows are handed to the sink strictly in time order, oldest candle first, without duplicates, so the sink
+ * sees one continuous series whatever order the responses arrive in. Memory is bounded by the in-flight windows.
+ *
+ * <pre>{@code
+ * KlineHistoryDownloader downloader = KlineHistoryDownloader.builder()
+ *         .client(factory.newAsyncTypedMarketDataRestClient())
+ *         .category(CategoryType.LINEAR).symbol("BTCUSDT").interval(MarketInterval.ONE_MINUTE)
+ *         .maxConcurrentRequests(16)
+ *         .build();
+ * KlineDownloadReport report = downloader.download(start, end, candle -> writer.write(candle));
+ * }</pre>
+ */
+@Getter
+@Builder(toBuilder = true)
+public class KlineHistoryDownloader {
+    private static final Logger LOGGER = LoggerFactory.getLogger(KlineHistoryDownloader.class);
+
+    @NonNull
+    private final BybitApiAsyncTypedMarketRestClient client;
+    @NonNull
+    private final CategoryType category;
+    @NonNull
+    private final String symbol;
+    @NonNull
+    private final MarketInterval interval;
+    @Builder.Default
+    private final int maxConcurrentRequests = 8;
+    /**
+     * Upper bound on the request rate, 0 for no pacing.
+     */
+    @Builder.Default
+    private final int requestsPerSecond = 0;
+    @Builder.Default
+    private final int candlesPerRequest = 1000;
+    @Builder.Default
+    private final int maxRetries = 3;
+    @Builder.Default
+    private final Duration requestTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Download every candle whose start time is in [start, end) and pass it to the sink, in ascending start time.
+     * Blocks until the whole range has been written.
+     *
+     * @param start inclusive start timestamp (ms)
+     * @param end   exclusive end timestamp (ms)
+     * @param sink  receives the candles on the calling thread
+     * @return throughput figures of the download
+     * @throws BybitApiException if a window still fails after {@code maxRetries} retries
+     */
+    public KlineDownloadReport download(long start, long end, Consumer<? super MarketKlineEntry> sink) {
+        if (end <= start) {
+            throw new IllegalArgumentException("end must be after start");
+        }
+        long windowMillis = interval.getDurationMillis() * candlesPerRequest;
+        long alignedStart = Math.floorDiv(start, interval.getDurationMillis()) * interval.getDurationMillis();
+        long pacingNanos = requestsPerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / requestsPerSecond : 0;
+
+        long startNanos = System.nanoTime();
+        long nextDispatchNanos = startNanos;
+        long windowStart = alignedStart;
+        long lastStartTime = Long.MIN_VALUE;
+        long candles = 0;
+        int requests = 0;
+        int retries = 0;
+        Deque<Window> inFlight = new ArrayDeque<>();
+
+        while (windowStart < end || !inFlight.isEmpty()) {
+            while (windowStart < end && inFlight.size() < maxConcurrentRequests) {
+                nextDispatchNanos = pace(nextDispatchNanos, pacingNanos);
+                Window window = new Window(windowStart, Math.min(windowStart + windowMillis, end));
+                window.future = fetch(window);
+                inFlight.addLast(window);
+                requests++;
+                windowStart = window.end;
+            }
+
+            Window head = inFlight.pollFirst();
+            List<MarketKlineEntry> entries = null;
+            for (int attempt = 0; entries == null; attempt++) {
+                try {
+                    entries = head.future.join();
+                } catch (CompletionException e) {
+                    if (attempt >= maxRetries) {
+                        throw failure(head, e.getCause());
+                    }
+                    LOGGER.warn("Kline window [{}, {}) of {} failed, retrying: {}", head.start, head.end, symbol, e.getCause().getMessage());
+                    sleep(TimeUnit.MILLISECONDS.toNanos(200L * (attempt + 1)));
+                    nextDispatchNanos = pace(nextDispatchNanos, pacingNanos);
+                    head.future = fetch(head);
+                    requests++;
+                    retries++;
+                }
+            }
+
+            for (MarketKlineEntry entry : entries) {
+                long startTime = entry.getStartTime();
+                if (startTime > lastStartTime && startTime >= start && startTime < end) {
+                    sink.accept(entry);
+                    lastStartTime = startTime;
+                    candles++;
+                }
+            }
+        }
+
+        KlineDownloadReport report = new KlineDownloadReport(symbol, interval, candles, requests, retries, System.nanoTime() - startNanos);
+        LOGGER.info("{}", report);
+        return report;
+    }
+
+    private CompletableFuture<List<MarketKlineEntry>> fetch(Window window) {
+        CompletableFuture<List<MarketKlineEntry>> future = new CompletableFuture<>();
+        MarketDataRequest request = MarketDataRequest.builder()
+                .category(category)
+                .symbol(symbol)
+                .marketInterval(interval)
+                .start(window.start)
+                .end(window.end - 1)
+                .limit(candlesPerRequest)
+                .build();
+        client.getMarketLinesData(request, new BybitApiCallback<GenericResponse<MarketKlineResult>>() {
+            @Override
+            public void onResponse(GenericResponse<MarketKlineResult> response) {
+                if (response.getRetCode() != 0) {
+                    future.completeExceptionally(new BybitApiException(response.getRetCode() + ": " + response.getRetMsg()));
+                    return;
+                }
+                MarketKlineResult result = response.getResult();
+                if (result == null || result.getMarketKlineEntries() == null) {
+                    future.complete(Collections.emptyList());
+                    return;
+                }
+                // Bybit lists the most recent candle first.
+                List<MarketKlineEntry> entries = new ArrayList<>(result.getMarketKlineEntries());
+                entries.sort(Comparator.comparingLong(MarketKlineEntry::getStartTime));
+                future.complete(entries);
+            }
+
+            @Override
+            public void onFailure(Throwable cause) {
+                future.completeExceptionally(cause);
+            }
+        });
+        // A gateway timeout is never reported to the callback, so a window must not wait forever.
+        return future.orTimeout(requestTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private static long pace(long nextDispatchNanos, long pacingNanos) {
+        if (pacingNanos == 0) {
+            return nextDispatchNanos;
+        }
+        long now = System.nanoTime();
+        if (nextDispatchNanos > now) {
+            sleep(nextDispatchNanos - now);
+            return nextDispatchNanos + pacingNanos;
+        }
+        return now + pacingNanos;
+    }
+
+    private static void sleep(long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BybitApiException("Kline download interrupted", e);
+        }
+    }
+
+    private BybitApiException failure(Window window, Throwable cause) {
+        return new BybitApiException("Kline window [" + window.start + ", " + window.end + ") of " + symbol + " failed", cause);
+    }
+
+    private static final class Window {
+        private final long start;
+        private final long end;
+        private CompletableFuture<List<MarketKlineEntry>> future;
+
+        private Window(long start, long end) {
+            this.start = start;
+            this.end = end;
+        }
+    }
+}
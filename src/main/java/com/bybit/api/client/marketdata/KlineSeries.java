@@ -0,0 +1,335 @@
+package com.bybit.api.client.marketdata;
+
+import com.bybit.api.client.domain.CategoryType;
+import com.bybit.api.client.domain.market.MarketInterval;
+import com.bybit.api.client.domain.market.response.kline.MarketKlineEntry;
+import com.bybit.api.client.domain.websocket.WebsocketKlineEntry;
+import com.bybit.api.client.service.FixedPointParser;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Klines of one category, symbol and interval held by a {@link KlineStore}, in a ring buffer of primitive columns,
+ * oldest first. The series covers a range of start times [coveredStart, coveredEnd) and holds every kline the
+ * exchange has in it; when the buffer is full, adding a kline at one end evicts one at the other and shrinks the
+ * covered range accordingly.
+ *
+ * A kline fetched while in progress stays open until a confirming push of the stream; once its interval is over,
+ * an open kline is left out of the covered range, so that the next query fetches it again instead of serving its
+ * partial values.
+ *
+ * Writes take the write lock of a {@link StampedLock}. Reads are optimistic and only take the read lock when a
+ * write got in the way.
+ */
+final class KlineSeries {
+    private static final long NO_OPEN_KLINE = Long.MIN_VALUE;
+
+    private final CategoryType category;
+    private final String symbol;
+    private final MarketInterval marketInterval;
+    private final CandleInterval interval;
+    private final Clock clock;
+    private final StampedLock lock = new StampedLock();
+    /**
+     * Serialises the REST fills of the series, so that concurrent misses fetch once.
+     */
+    private final Object fillLock = new Object();
+
+    private final int capacity;
+    private final long[] startTimes;
+    private final double[] open;
+    private final double[] high;
+    private final double[] low;
+    private final double[] close;
+    private final double[] volume;
+    private final double[] turnover;
+    private int head;
+    private int size;
+    private long coveredStart;
+    private long coveredEnd;
+    /**
+     * Start time of the kline that was in progress when fetched and has not been confirmed since.
+     */
+    private long openStart = NO_OPEN_KLINE;
+
+    KlineSeries(CategoryType category, String symbol, MarketInterval marketInterval, int capacity, Clock clock) {
+        this.category = category;
+        this.symbol = symbol;
+        this.marketInterval = marketInterval;
+        this.interval = CandleInterval.of(marketInterval);
+        this.clock = clock;
+        this.capacity = capacity;
+        this.startTimes = new long[capacity];
+        this.open = new double[capacity];
+        this.high = new double[capacity];
+        this.low = new double[capacity];
+        this.close = new double[capacity];
+        this.volume = new double[capacity];
+        this.turnover = new double[capacity];
+    }
+
+    /**
+     * Copy the klines starting in [start, end), or return null if the series does not cover the whole range and
+     * {@code requireCoverage} is set.
+     */
+    KlineWindow read(long start, long end, boolean requireCoverage) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            try {
+                KlineWindow window = copy(start, end, requireCoverage);
+                if (lock.validate(stamp)) {
+                    return window;
+                }
+            } catch (RuntimeException e) {
+                // Columns moved under the copy: the stamp is invalid anyway.
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return copy(start, end, requireCoverage);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Returns the covered range as {@code {coveredStart, coveredEnd}}, empty if both are equal. A fetched kline
+     * that has closed since is not covered.
+     */
+    long[] coverage() {
+        long stamp = lock.readLock();
+        try {
+            return new long[]{coveredStart, effectiveEnd()};
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Apply a push of the kline stream: update a kline in place, or append the one following the covered range.
+     * Later klines mean pushes were missed; they are left for the next query to fetch.
+     */
+    void update(WebsocketKlineEntry entry) {
+        long startTime = entry.getStart();
+        long stamp = lock.writeLock();
+        try {
+            if (coveredStart == coveredEnd || startTime < coveredStart || startTime > coveredEnd) {
+                return;
+            }
+            int index;
+            if (startTime == coveredEnd) {
+                addLast(startTime);
+                coveredEnd = interval.endOf(startTime);
+                index = physical(size - 1);
+            } else if (size > 0 && startTimes[physical(size - 1)] == startTime) {
+                index = physical(size - 1);
+            } else {
+                int logical = search(startTime);
+                if (logical < 0) {
+                    return;
+                }
+                index = physical(logical);
+            }
+            if (entry.isConfirm() && startTime == openStart) {
+                openStart = NO_OPEN_KLINE;
+            }
+            open[index] = FixedPointParser.parseDouble(entry.getOpen());
+            high[index] = FixedPointParser.parseDouble(entry.getHigh());
+            low[index] = FixedPointParser.parseDouble(entry.getLow());
+            close[index] = FixedPointParser.parseDouble(entry.getClose());
+            volume[index] = FixedPointParser.parseDouble(entry.getVolume());
+            turnover[index] = FixedPointParser.parseDouble(entry.getTurnover());
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Replace the content of the series with the klines of [from, to), in ascending start time.
+     */
+    void replace(List<MarketKlineEntry> entries, long from, long to) {
+        long stamp = lock.writeLock();
+        try {
+            head = 0;
+            size = 0;
+            coveredStart = from;
+            coveredEnd = from;
+            openStart = NO_OPEN_KLINE;
+            for (MarketKlineEntry entry : entries) {
+                addLast(entry.getStartTime());
+                write(physical(size - 1), entry);
+            }
+            coveredEnd = to;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Extend the covered range up to {@code to} with the klines of [coveredEnd, to), in ascending start time,
+     * [openStart, to) if the kline fetched open has closed since.
+     */
+    void append(List<MarketKlineEntry> entries, long to) {
+        long stamp = lock.writeLock();
+        try {
+            for (MarketKlineEntry entry : entries) {
+                long startTime = entry.getStartTime();
+                if (startTime >= coveredEnd) {
+                    addLast(startTime);
+                    write(physical(size - 1), entry);
+                } else {
+                    // A push appended it during the request.
+                    int logical = search(startTime);
+                    if (logical >= 0) {
+                        write(physical(logical), entry);
+                    }
+                }
+            }
+            coveredEnd = Math.max(coveredEnd, to);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Extend the covered range down to {@code from} with the klines of [from, coveredStart), in ascending start time.
+     */
+    void prepend(List<MarketKlineEntry> entries, long from) {
+        long stamp = lock.writeLock();
+        try {
+            for (int i = entries.size() - 1; i >= 0; i--) {
+                MarketKlineEntry entry = entries.get(i);
+                if (entry.getStartTime() < coveredStart) {
+                    addFirst(entry.getStartTime());
+                    write(head, entry);
+                }
+            }
+            coveredStart = Math.min(coveredStart, from);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private KlineWindow copy(long start, long end, boolean requireCoverage) {
+        if (requireCoverage && (coveredStart == coveredEnd || start < coveredStart || end > effectiveEnd())) {
+            return null;
+        }
+        int count = size;
+        int from = lowerBound(start, count);
+        int n = lowerBound(end, count) - from;
+        long[] windowStartTimes = new long[n];
+        double[] windowOpen = new double[n];
+        double[] windowHigh = new double[n];
+        double[] windowLow = new double[n];
+        double[] windowClose = new double[n];
+        double[] windowVolume = new double[n];
+        double[] windowTurnover = new double[n];
+        for (int i = 0; i < n; i++) {
+            int index = physical(from + i);
+            windowStartTimes[i] = startTimes[index];
+            windowOpen[i] = open[index];
+            windowHigh[i] = high[index];
+            windowLow[i] = low[index];
+            windowClose[i] = close[index];
+            windowVolume[i] = volume[index];
+            windowTurnover[i] = turnover[index];
+        }
+        return new KlineWindow(category, symbol, marketInterval, windowStartTimes, windowOpen, windowHigh, windowLow,
+                windowClose, windowVolume, windowTurnover);
+    }
+
+    /**
+     * Logical index of the first kline starting at or after {@code startTime}.
+     */
+    private int lowerBound(long startTime, int count) {
+        int lo = 0;
+        int hi = count;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (startTimes[physical(mid)] < startTime) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Logical index of the kline starting at {@code startTime}, or -1.
+     */
+    private int search(long startTime) {
+        int index = lowerBound(startTime, size);
+        return index < size && startTimes[physical(index)] == startTime ? index : -1;
+    }
+
+    private int physical(int logical) {
+        int index = head + logical;
+        return index >= capacity ? index - capacity : index;
+    }
+
+    private void addLast(long startTime) {
+        if (size == capacity) {
+            long evicted = startTimes[head];
+            head = physical(1);
+            size--;
+            coveredStart = interval.endOf(evicted);
+        }
+        startTimes[physical(size)] = startTime;
+        size++;
+    }
+
+    private void addFirst(long startTime) {
+        if (size == capacity) {
+            size--;
+            coveredEnd = startTimes[physical(size)];
+        }
+        head = head == 0 ? capacity - 1 : head - 1;
+        startTimes[head] = startTime;
+        size++;
+    }
+
+    /**
+     * End of the covered range, cut at the kline fetched open if its interval is over.
+     */
+    private long effectiveEnd() {
+        if (openStart != NO_OPEN_KLINE && openStart >= coveredStart && openStart < coveredEnd
+                && interval.endOf(openStart) <= clock.millis()) {
+            return openStart;
+        }
+        return coveredEnd;
+    }
+
+    private void write(int index, MarketKlineEntry entry) {
+        long startTime = entry.getStartTime();
+        if (interval.endOf(startTime) > clock.millis()) {
+            openStart = startTime;
+        } else if (startTime == openStart) {
+            openStart = NO_OPEN_KLINE;
+        }
+        open[index] = value(entry.getOpenPriceValue(), entry.getOpenPrice());
+        high[index] = value(entry.getHighPriceValue(), entry.getHighPrice());
+        low[index] = value(entry.getLowPriceValue(), entry.getLowPrice());
+        close[index] = value(entry.getClosePriceValue(), entry.getClosePrice());
+        volume[index] = value(entry.getVolumeValue(), entry.getVolume());
+        turnover[index] = value(entry.getTurnoverValue(), entry.getTurnover());
+    }
+
+    private static double value(double decoded, String text) {
+        return Double.isNaN(decoded) ? FixedPointParser.parseDouble(text) : decoded;
+    }
+
+    Object getFillLock() {
+        return fillLock;
+    }
+
+    CandleInterval getInterval() {
+        return interval;
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,254 @@
+package com.bybit.api.client.marketdata;
+
+import com.bybit.api.client.domain.CategoryType;
+import com.bybit.api.client.domain.market.MarketInterval;
+import com.bybit.api.client.domain.market.response.kline.MarketKlineEntry;
+import com.bybit.api.client.domain.websocket.WebsocketKlineEntry;
+import com.bybit.api.client.domain.websocket.WebsocketMessage;
+import com.bybit.api.client.restApi.BybitApiAsyncTypedMarketRestClient;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * In-memory cache of klines by category, symbol and {@link MarketInterval}, so that repeated queries of recent
+ * windows do not call {@code /v5/market/kline} each time.
+ *
+ * Each series keeps up to {@code capacity} klines in primitive columns and covers one continuous range of start
+ * times. {@link #getKlines} answers from memory by binary search when the range is covered; otherwise it fetches
+ * the missing part through a {@link KlineHistoryDownloader}, extending the covered range when it is adjacent or
+ * replacing it when it is not, then answers. Ranges longer than the capacity bypass the cache.
+ *
+ * The covered range may include the kline in progress, so {@link #apply} should be fed the {@code kline} stream of
+ * the series queried: pushes update the current kline and append the next ones as they start. Without the stream
+ * the current kline is as of the request that fetched it until it closes; the first query covering it after that
+ * fetches it again, and no longer finds it cached until then.
+ *
+ * Reads are optimistic and never block pushes; see {@link KlineSeries}.
+ *
+ * <pre>{@code
+ * KlineStore klines = new KlineStore(factory.newAsyncTypedMarketDataRestClient(), 5000);
+ * router.onKline(klines.updater(CategoryType.LINEAR));
+ * KlineWindow lastHour = klines.getKlines(CategoryType.LINEAR, "BTCUSDT", MarketInterval.ONE_MINUTE, now - 3_600_000, now);
+ * }</pre>
+ */
+public class KlineStore {
+    private static final Map<String, MarketInterval> INTERVALS_BY_ID = new HashMap<>();
+
+    static {
+        for (MarketInterval interval : MarketInterval.values()) {
+            INTERVALS_BY_ID.put(interval.getIntervalId(), interval);
+        }
+    }
+
+    private final BybitApiAsyncTypedMarketRestClient client;
+    private final int capacity;
+    private final Clock clock;
+    private final Map<CategoryType, ConcurrentMap<String, AtomicReferenceArray<KlineSeries>>> series = new EnumMap<>(CategoryType.class);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder fetched = new LongAdder();
+
+    /**
+     * @param client   fetches the klines missing from the cache
+     * @param capacity klines kept per category, symbol and interval
+     */
+    public KlineStore(BybitApiAsyncTypedMarketRestClient client, int capacity) {
+        this(client, capacity, Clock.systemUTC());
+    }
+
+    /**
+     * @param clock tells which kline is in progress
+     */
+    public KlineStore(BybitApiAsyncTypedMarketRestClient client, int capacity, Clock clock) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.client = client;
+        this.capacity = capacity;
+        this.clock = clock;
+        for (CategoryType category : CategoryType.values()) {
+            series.put(category, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * Klines whose start time is in [start, end), oldest first, fetching the ones not cached. Blocks while fetching.
+     *
+     * @throws com.bybit.api.client.exception.BybitApiException if a fetch fails
+     */
+    public KlineWindow getKlines(CategoryType category, String symbol, MarketInterval interval, long start, long end) {
+        if (end <= start) {
+            throw new IllegalArgumentException("end must be after start");
+        }
+        KlineSeries klines = series(category, symbol, interval);
+        CandleInterval candleInterval = klines.getInterval();
+        long from = candleInterval.startOf(start);
+        // Klines after the one in progress do not exist yet.
+        long to = Math.min(candleInterval.endOf(candleInterval.startOf(end - 1)),
+                candleInterval.endOf(candleInterval.startOf(clock.millis())));
+        if (to <= from) {
+            return klines.read(from, from, false);
+        }
+        KlineWindow window = klines.read(from, to, true);
+        if (window != null) {
+            hits.increment();
+            return window;
+        }
+        misses.increment();
+        if (klineCount(candleInterval, from, to) > capacity) {
+            return bypass(category, symbol, interval, from, to);
+        }
+        synchronized (klines.getFillLock()) {
+            window = klines.read(from, to, true);
+            if (window != null) {
+                return window;
+            }
+            fill(klines, category, symbol, interval, from, to);
+            // A push may have evicted the oldest klines of a full series meanwhile: return what is left.
+            return klines.read(from, to, false);
+        }
+    }
+
+    /**
+     * Klines whose start time is in [start, end) if they are all cached, null otherwise. Never blocks.
+     */
+    public KlineWindow getCachedKlines(CategoryType category, String symbol, MarketInterval interval, long start, long end) {
+        if (end <= start) {
+            throw new IllegalArgumentException("end must be after start");
+        }
+        AtomicReferenceArray<KlineSeries> symbolSeries = series.get(category).get(symbol);
+        KlineSeries klines = symbolSeries == null ? null : symbolSeries.get(interval.ordinal());
+        if (klines == null) {
+            return null;
+        }
+        CandleInterval candleInterval = klines.getInterval();
+        return klines.read(candleInterval.startOf(start), candleInterval.endOf(candleInterval.startOf(end - 1)), true);
+    }
+
+    /**
+     * Apply a push of the {@code kline.{interval}.{symbol}} stream of {@code category}.
+     */
+    public void apply(CategoryType category, WebsocketMessage<List<WebsocketKlineEntry>> message) {
+        String topic = message.getTopic();
+        AtomicReferenceArray<KlineSeries> symbolSeries = series.get(category).get(topic.substring(topic.lastIndexOf('.') + 1));
+        if (symbolSeries == null) {
+            return;
+        }
+        for (WebsocketKlineEntry entry : message.getData()) {
+            MarketInterval interval = INTERVALS_BY_ID.get(entry.getInterval());
+            KlineSeries klines = interval == null ? null : symbolSeries.get(interval.ordinal());
+            if (klines != null) {
+                klines.update(entry);
+            }
+        }
+    }
+
+    /**
+     * Handler applying the pushes of one category's kline stream, e.g. for
+     * {@link com.bybit.api.client.websocket.WebsocketTopicRouter#onKline(Consumer)}.
+     */
+    public Consumer<WebsocketMessage<List<WebsocketKlineEntry>>> updater(CategoryType category) {
+        return message -> apply(category, message);
+    }
+
+    private void fill(KlineSeries klines, CategoryType category, String symbol, MarketInterval interval, long from, long to) {
+        long[] coverage = klines.coverage();
+        long coveredStart = coverage[0];
+        long coveredEnd = coverage[1];
+        if (coveredStart == coveredEnd || to < coveredStart || from > coveredEnd || (from < coveredStart && to > coveredEnd)) {
+            klines.replace(download(category, symbol, interval, from, to), from, to);
+        } else if (from < coveredStart) {
+            klines.prepend(download(category, symbol, interval, from, coveredStart), from);
+        } else if (to > coveredEnd) {
+            klines.append(download(category, symbol, interval, coveredEnd, to), to);
+        }
+    }
+
+    /**
+     * Number of klines starting in [from, to), both aligned on the interval. Months differ in length, so monthly
+     * klines are counted one by one; there are a few hundred at most over the exchange's history.
+     */
+    private static long klineCount(CandleInterval interval, long from, long to) {
+        if (interval.getMarketInterval() != MarketInterval.MONTHLY) {
+            return (to - from) / interval.getDurationMillis();
+        }
+        long count = 0;
+        for (long startTime = from; startTime < to; startTime = interval.endOf(startTime)) {
+            count++;
+        }
+        return count;
+    }
+
+    private KlineWindow bypass(CategoryType category, String symbol, MarketInterval interval, long from, long to) {
+        List<MarketKlineEntry> entries = download(category, symbol, interval, from, to);
+        KlineSeries uncached = new KlineSeries(category, symbol, interval, Math.max(entries.size(), 1), clock);
+        uncached.replace(entries, from, to);
+        return uncached.read(from, to, false);
+    }
+
+    private List<MarketKlineEntry> download(CategoryType category, String symbol, MarketInterval interval, long from, long to) {
+        List<MarketKlineEntry> entries = new ArrayList<>();
+        KlineHistoryDownloader.builder()
+                .client(client)
+                .category(category)
+                .symbol(symbol)
+                .interval(interval)
+                .build()
+                .download(from, to, entries::add);
+        fetched.add(entries.size());
+        return entries;
+    }
+
+    private KlineSeries series(CategoryType category, String symbol, MarketInterval interval) {
+        AtomicReferenceArray<KlineSeries> symbolSeries = series.get(category)
+                .computeIfAbsent(symbol, key -> new AtomicReferenceArray<>(MarketInterval.values().length));
+        KlineSeries klines = symbolSeries.get(interval.ordinal());
+        if (klines == null) {
+            symbolSeries.compareAndSet(interval.ordinal(), null, new KlineSeries(category, symbol, interval, capacity, clock));
+            klines = symbolSeries.get(interval.ordinal());
+        }
+        return klines;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Queries answered from memory.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Queries that needed a fetch.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Klines fetched from REST so far.
+     */
+    public long getFetchedCount() {
+        return fetched.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "KlineStore[capacity=" + capacity + ",hits=" + getHitCount() + ",misses=" + getMissCount() +
+                ",fetched=" + getFetchedCount() + "]";
+    }
+}
@@ -0,0 +1,98 @@
+package com.bybit.api.client.marketdata;
+
+import com.bybit.api.client.domain.CategoryType;
+import com.bybit.api.client.domain.market.MarketInterval;
+
+import java.util.Arrays;
+
+/**
+ * Immutable range of klines returned by {@link KlineStore}, oldest first, held column by column in primitive arrays.
+ */
+public final class KlineWindow {
+    private final CategoryType category;
+    private final String symbol;
+    private final MarketInterval interval;
+    private final long[] startTimes;
+    private final double[] open;
+    private final double[] high;
+    private final double[] low;
+    private final double[] close;
+    private final double[] volume;
+    private final double[] turnover;
+
+    KlineWindow(CategoryType category, String symbol, MarketInterval interval, long[] startTimes, double[] open,
+                double[] high, double[] low, double[] close, double[] volume, double[] turnover) {
+        this.category = category;
+        this.symbol = symbol;
+        this.interval = interval;
+        this.startTimes = startTimes;
+        this.open = open;
+        this.high = high;
+        this.low = low;
+        this.close = close;
+        this.volume = volume;
+        this.turnover = turnover;
+    }
+
+    public CategoryType getCategory() {
+        return category;
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public MarketInterval getInterval() {
+        return interval;
+    }
+
+    public int size() {
+        return startTimes.length;
+    }
+
+    public boolean isEmpty() {
+        return startTimes.length == 0;
+    }
+
+    public long getStartTime(int index) {
+        return startTimes[index];
+    }
+
+    public double getOpen(int index) {
+        return open[index];
+    }
+
+    public double getHigh(int index) {
+        return high[index];
+    }
+
+    public double getLow(int index) {
+        return low[index];
+    }
+
+    public double getClose(int index) {
+        return close[index];
+    }
+
+    public double getVolume(int index) {
+        return volume[index];
+    }
+
+    public double getTurnover(int index) {
+        return turnover[index];
+    }
+
+    /**
+     * Index of the kline starting at {@code startTime}, or a negative value if there is none, as
+     * {@link Arrays#binarySearch(long[], long)}.
+     */
+    public int indexOf(long startTime) {
+        return Arrays.binarySearch(startTimes, startTime);
+    }
+
+    @Override
+    public String toString() {
+        return "KlineWindow[" + category + " " + symbol + " " + interval.getIntervalId() + ",size=" + size() +
+                (isEmpty() ? "" : ",from=" + startTimes[0] + ",to=" + startTimes[size() - 1]) + "]";
+    }
+}
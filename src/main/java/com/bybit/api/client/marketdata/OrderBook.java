@@ -0,0 +1,426 @@
+package com.bybit.api.client.marketdata;
+
+import com.bybit.api.client.domain.market.InstrumentPrecision;
+import com.bybit.api.client.domain.market.response.instrumentInfo.InstrumentEntry;
+import com.bybit.api.client.domain.market.response.orderbook.OrderBookAskEntry;
+import com.bybit.api.client.domain.market.response.orderbook.OrderbookBidEntry;
+import com.bybit.api.client.domain.market.response.orderbook.OrderbookResult;
+import com.bybit.api.client.domain.websocket.WebsocketMessage;
+import com.bybit.api.client.service.FixedPointParser;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Local L2 order book maintained from the {@code orderbook.{depth}.{symbol}} snapshot and delta pushes.
+ *
+ * Prices and sizes are held as fixed-point longs scaled by the {@link InstrumentPrecision}, in one pair of sorted
+ * primitive arrays per side with the best level last, so that the frequent changes near the top of the book shift
+ * few elements. Updates and queries do not allocate once the arrays have grown to the depth of the stream.
+ *
+ * A snapshot replaces the book. A delta must carry the update id {@code u} following the one of the last message
+ * applied: an older one is ignored, a later one means a message was missed and the book is marked invalid until the
+ * next snapshot. Following the exchange, a delta with {@code u} = 1 is a snapshot sent after a service restart.
+ *
+ * Not thread-safe: a book is written and read by a single thread.
+ *
+ * <pre>{@code
+ * OrderBook book = OrderBook.of(instrument);
+ * WebsocketTopicRouter router = new WebsocketTopicRouter().onOrderbook(book::apply);
+ * }</pre>
+ */
+public class OrderBook {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final String symbol;
+    private final InstrumentPrecision precision;
+    private final BookSide bids = new BookSide(true);
+    private final BookSide asks = new BookSide(false);
+    private long updateId;
+    private long sequence;
+    private long timestamp;
+    private boolean valid;
+
+    public OrderBook(String symbol, InstrumentPrecision precision) {
+        this.symbol = symbol;
+        this.precision = precision;
+    }
+
+    /**
+     * A book using the precision of the instrument's {@code tickSize} and lot size.
+     */
+    public static OrderBook of(InstrumentEntry instrument) {
+        return new OrderBook(instrument.getSymbol(), InstrumentPrecision.of(instrument));
+    }
+
+    /**
+     * Apply a push of the orderbook stream.
+     *
+     * @return false if a gap was detected, in which case the book is invalid until the next snapshot
+     */
+    public boolean apply(WebsocketMessage<OrderbookResult> message) {
+        OrderbookResult data = message.getData();
+        if ("snapshot".equals(message.getType()) || data.getUpdateId() == 1) {
+            applySnapshot(data, message.getTs());
+            return true;
+        }
+        return applyDelta(data, message.getTs());
+    }
+
+    /**
+     * Replace the book, e.g. with a {@code /v5/market/orderbook} response.
+     */
+    public void applySnapshot(OrderbookResult snapshot, long timestamp) {
+        bids.clear();
+        asks.clear();
+        List<OrderbookBidEntry> bidEntries = snapshot.getOrderbookBidEntries();
+        if (bidEntries != null) {
+            // Snapshots are sorted best first: walking them backwards appends every level.
+            for (int i = bidEntries.size() - 1; i >= 0; i--) {
+                OrderbookBidEntry entry = bidEntries.get(i);
+                bids.set(bidPrice(entry), bidSize(entry));
+            }
+        }
+        List<OrderBookAskEntry> askEntries = snapshot.getOrderBookAskEntries();
+        if (askEntries != null) {
+            for (int i = askEntries.size() - 1; i >= 0; i--) {
+                OrderBookAskEntry entry = askEntries.get(i);
+                asks.set(askPrice(entry), askSize(entry));
+            }
+        }
+        updateId = snapshot.getUpdateId();
+        sequence = snapshot.getSequence();
+        this.timestamp = timestamp != 0 ? timestamp : snapshot.getTimestamp();
+        valid = true;
+    }
+
+    /**
+     * Apply the changed levels of a delta; a level with a zero size is removed.
+     *
+     * @return false if the delta does not follow the last update applied and the book is now invalid
+     */
+    public boolean applyDelta(OrderbookResult delta, long timestamp) {
+        if (!valid) {
+            return false;
+        }
+        long nextUpdateId = delta.getUpdateId();
+        if (nextUpdateId <= updateId) {
+            // Already applied, e.g. a delta replayed after a resync.
+            return true;
+        }
+        if (nextUpdateId != updateId + 1) {
+            valid = false;
+            return false;
+        }
+        applyLevels(delta, timestamp);
+        return true;
+    }
+
+    /**
+     * Apply a delta without checking its update id, which becomes the one the next delta must follow. Used to
+     * resume the stream on top of a REST snapshot, whose update ids are not those of the stream.
+     */
+    void applyLevels(OrderbookResult delta, long timestamp) {
+        List<OrderbookBidEntry> bidEntries = delta.getOrderbookBidEntries();
+        if (bidEntries != null) {
+            for (int i = 0; i < bidEntries.size(); i++) {
+                OrderbookBidEntry entry = bidEntries.get(i);
+                bids.set(bidPrice(entry), bidSize(entry));
+            }
+        }
+        List<OrderBookAskEntry> askEntries = delta.getOrderBookAskEntries();
+        if (askEntries != null) {
+            for (int i = 0; i < askEntries.size(); i++) {
+                OrderBookAskEntry entry = askEntries.get(i);
+                asks.set(askPrice(entry), askSize(entry));
+            }
+        }
+        updateId = delta.getUpdateId();
+        sequence = delta.getSequence();
+        this.timestamp = timestamp != 0 ? timestamp : delta.getTimestamp();
+    }
+
+    /**
+     * Keep only the best {@code levels} levels of each side.
+     */
+    void truncate(int levels) {
+        bids.truncate(levels);
+        asks.truncate(levels);
+    }
+
+    /**
+     * Set the size of a bid level, 0 removing it. Prices and sizes are scaled by the book's precision.
+     */
+    public void setBid(long price, long size) {
+        bids.set(price, size);
+    }
+
+    public void setAsk(long price, long size) {
+        asks.set(price, size);
+    }
+
+    /**
+     * Empty the book and mark it invalid until the next snapshot.
+     */
+    public void clear() {
+        bids.clear();
+        asks.clear();
+        updateId = 0;
+        sequence = 0;
+        valid = false;
+    }
+
+    // The entries hold either the text, or the fixed-point value when decoded with BybitNumericModule, which must
+    // then use the precision of the book.
+
+    private long bidPrice(OrderbookBidEntry entry) {
+        return entry.getBidPrice() == null ? entry.getBidPriceScaled() : FixedPointParser.parseScaled(entry.getBidPrice(), precision.getPriceScale());
+    }
+
+    private long bidSize(OrderbookBidEntry entry) {
+        return entry.getBidSize() == null ? entry.getBidSizeScaled() : FixedPointParser.parseScaled(entry.getBidSize(), precision.getQtyScale());
+    }
+
+    private long askPrice(OrderBookAskEntry entry) {
+        return entry.getAskPrice() == null ? entry.getAskPriceScaled() : FixedPointParser.parseScaled(entry.getAskPrice(), precision.getPriceScale());
+    }
+
+    private long askSize(OrderBookAskEntry entry) {
+        return entry.getAskSize() == null ? entry.getAskSizeScaled() : FixedPointParser.parseScaled(entry.getAskSize(), precision.getQtyScale());
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public InstrumentPrecision getPrecision() {
+        return precision;
+    }
+
+    /**
+     * Update id {@code u} of the last message applied.
+     */
+    public long getUpdateId() {
+        return updateId;
+    }
+
+    /**
+     * Cross sequence {@code seq} of the last message applied.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Whether the book reflects every message since the last snapshot.
+     */
+    public boolean isValid() {
+        return valid;
+    }
+
+    public int getBidDepth() {
+        return bids.count;
+    }
+
+    public int getAskDepth() {
+        return asks.count;
+    }
+
+    /**
+     * Best bid price, or 0 if there is no bid.
+     */
+    public long getBestBidPrice() {
+        return bids.price(0);
+    }
+
+    public long getBestBidSize() {
+        return bids.size(0);
+    }
+
+    /**
+     * Best ask price, or 0 if there is no ask.
+     */
+    public long getBestAskPrice() {
+        return asks.price(0);
+    }
+
+    public long getBestAskSize() {
+        return asks.size(0);
+    }
+
+    /**
+     * Price of the bid {@code level} levels below the best one, or 0 past the last level.
+     */
+    public long getBidPrice(int level) {
+        return bids.price(level);
+    }
+
+    public long getBidSize(int level) {
+        return bids.size(level);
+    }
+
+    public long getAskPrice(int level) {
+        return asks.price(level);
+    }
+
+    public long getAskSize(int level) {
+        return asks.size(level);
+    }
+
+    /**
+     * Total size of the best {@code levels} bid levels.
+     */
+    public long getBidDepthSize(int levels) {
+        return bids.cumulativeSize(levels);
+    }
+
+    public long getAskDepthSize(int levels) {
+        return asks.cumulativeSize(levels);
+    }
+
+    /**
+     * Average price paid to buy {@code qty} by walking up the asks, in the fixed-point price unit of the book so that
+     * it compares directly with {@link #getBestAskPrice()}; NaN if the book is not deep enough.
+     */
+    public double getBuyVwap(long qty) {
+        return asks.vwap(qty);
+    }
+
+    /**
+     * Average price received to sell {@code qty} by walking down the bids, NaN if the book is not deep enough.
+     */
+    public double getSellVwap(long qty) {
+        return bids.vwap(qty);
+    }
+
+    /**
+     * Copy the best {@code levels} bid levels into the given arrays.
+     *
+     * @return the number of levels copied
+     */
+    public int copyBids(long[] prices, long[] sizes, int levels) {
+        return bids.copy(prices, sizes, levels);
+    }
+
+    public int copyAsks(long[] prices, long[] sizes, int levels) {
+        return asks.copy(prices, sizes, levels);
+    }
+
+    @Override
+    public String toString() {
+        return "OrderBook[" + symbol + ",u=" + updateId + ",valid=" + valid +
+                ",bid=" + precision.priceToBigDecimal(getBestBidPrice()) + "x" + precision.qtyToBigDecimal(getBestBidSize()) +
+                ",ask=" + precision.priceToBigDecimal(getBestAskPrice()) + "x" + precision.qtyToBigDecimal(getBestAskSize()) +
+                ",depth=" + bids.count + "/" + asks.count + "]";
+    }
+
+    /**
+     * One side of the book. Levels are sorted by ascending key with the best level last, the key being the price
+     * for bids and the negated price for asks, so that both sides share the same search.
+     */
+    private static final class BookSide {
+        private final boolean bid;
+        private long[] keys = new long[INITIAL_CAPACITY];
+        private long[] sizes = new long[INITIAL_CAPACITY];
+        private int count;
+
+        private BookSide(boolean bid) {
+            this.bid = bid;
+        }
+
+        private void set(long price, long size) {
+            long key = bid ? price : -price;
+            if (count == 0 || key > keys[count - 1]) {
+                // New best level, or a snapshot being filled from its worst level.
+                if (size != 0) {
+                    insert(count, key, size);
+                }
+                return;
+            }
+            int index = Arrays.binarySearch(keys, 0, count, key);
+            if (index >= 0) {
+                if (size == 0) {
+                    System.arraycopy(keys, index + 1, keys, index, count - index - 1);
+                    System.arraycopy(sizes, index + 1, sizes, index, count - index - 1);
+                    count--;
+                } else {
+                    sizes[index] = size;
+                }
+            } else if (size != 0) {
+                insert(-index - 1, key, size);
+            }
+        }
+
+        private void insert(int index, long key, long size) {
+            if (count == keys.length) {
+                keys = Arrays.copyOf(keys, count * 2);
+                sizes = Arrays.copyOf(sizes, count * 2);
+            }
+            System.arraycopy(keys, index, keys, index + 1, count - index);
+            System.arraycopy(sizes, index, sizes, index + 1, count - index);
+            keys[index] = key;
+            sizes[index] = size;
+            count++;
+        }
+
+        private void clear() {
+            count = 0;
+        }
+
+        private void truncate(int levels) {
+            if (count > levels) {
+                System.arraycopy(keys, count - levels, keys, 0, levels);
+                System.arraycopy(sizes, count - levels, sizes, 0, levels);
+                count = levels;
+            }
+        }
+
+        private long price(int level) {
+            if (level < 0 || level >= count) {
+                return 0;
+            }
+            long key = keys[count - 1 - level];
+            return bid ? key : -key;
+        }
+
+        private long size(int level) {
+            return level < 0 || level >= count ? 0 : sizes[count - 1 - level];
+        }
+
+        private long cumulativeSize(int levels) {
+            long total = 0;
+            for (int i = count - 1, end = Math.max(count - levels, 0); i >= end; i--) {
+                total += sizes[i];
+            }
+            return total;
+        }
+
+        private double vwap(long qty) {
+            if (qty <= 0) {
+                return Double.NaN;
+            }
+            long remaining = qty;
+            double notional = 0;
+            for (int i = count - 1; i >= 0 && remaining > 0; i--) {
+                long filled = Math.min(remaining, sizes[i]);
+                notional += (double) (bid ? keys[i] : -keys[i]) * filled;
+                remaining -= filled;
+            }
+            return remaining > 0 ? Double.NaN : notional / qty;
+        }
+
+        private int copy(long[] prices, long[] levelSizes, int levels) {
+            int copied = Math.min(Math.min(levels, count), Math.min(prices.length, levelSizes.length));
+            for (int level = 0; level < copied; level++) {
+                long key = keys[count - 1 - level];
+                prices[level] = bid ? key : -key;
+                levelSizes[level] = sizes[count - 1 - level];
+            }
+            return copied;
+        }
+    }
+}
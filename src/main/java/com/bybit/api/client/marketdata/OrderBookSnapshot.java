@@ -0,0 +1,115 @@
+package com.bybit.api.client.marketdata;
+
+import com.bybit.api.client.domain.CategoryType;
+import com.bybit.api.client.domain.market.InstrumentPrecision;
+
+/**
+ * Immutable copy of the top levels of an {@link OrderBook}, taken by {@link OrderBookStore}, that can be handed to
+ * another thread. Levels are held in primitive arrays, best level first; prices and sizes are fixed-point longs
+ * scaled by {@link #getPrecision()}.
+ */
+public final class OrderBookSnapshot {
+    private final CategoryType category;
+    private final String symbol;
+    private final InstrumentPrecision precision;
+    private final long updateId;
+    private final long sequence;
+    private final long timestamp;
+    private final boolean valid;
+    private final long[] bidPrices;
+    private final long[] bidSizes;
+    private final int bidCount;
+    private final long[] askPrices;
+    private final long[] askSizes;
+    private final int askCount;
+
+    OrderBookSnapshot(CategoryType category, OrderBook book, long[] bidPrices, long[] bidSizes, int bidCount,
+                      long[] askPrices, long[] askSizes, int askCount) {
+        this.category = category;
+        this.symbol = book.getSymbol();
+        this.precision = book.getPrecision();
+        this.updateId = book.getUpdateId();
+        this.sequence = book.getSequence();
+        this.timestamp = book.getTimestamp();
+        this.valid = book.isValid();
+        this.bidPrices = bidPrices;
+        this.bidSizes = bidSizes;
+        this.bidCount = bidCount;
+        this.askPrices = askPrices;
+        this.askSizes = askSizes;
+        this.askCount = askCount;
+    }
+
+    public CategoryType getCategory() {
+        return category;
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public InstrumentPrecision getPrecision() {
+        return precision;
+    }
+
+    public long getUpdateId() {
+        return updateId;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Whether the book reflected every message since its last snapshot when it was copied.
+     */
+    public boolean isValid() {
+        return valid;
+    }
+
+    public int getBidCount() {
+        return bidCount;
+    }
+
+    public int getAskCount() {
+        return askCount;
+    }
+
+    /**
+     * Price of the bid {@code level} levels below the best one, or 0 past the last level copied.
+     */
+    public long getBidPrice(int level) {
+        return level < bidCount ? bidPrices[level] : 0;
+    }
+
+    public long getBidSize(int level) {
+        return level < bidCount ? bidSizes[level] : 0;
+    }
+
+    public long getAskPrice(int level) {
+        return level < askCount ? askPrices[level] : 0;
+    }
+
+    public long getAskSize(int level) {
+        return level < askCount ? askSizes[level] : 0;
+    }
+
+    public long getBestBidPrice() {
+        return getBidPrice(0);
+    }
+
+    public long getBestAskPrice() {
+        return getAskPrice(0);
+    }
+
+    @Override
+    public String toString() {
+        return "OrderBookSnapshot[" + category + " " + symbol + ",u=" + updateId + ",valid=" + valid +
+                ",bid=" + precision.priceToBigDecimal(getBestBidPrice()) + ",ask=" + precision.priceToBigDecimal(getBestAskPrice()) +
+                ",levels=" + bidCount + "/" + askCount + "]";
+    }
+}
@@ -0,0 +1,273 @@
+package com.bybit.api.client.marketdata;
+
+import com.bybit.api.client.domain.CategoryType;
+import com.bybit.api.client.domain.market.InstrumentPrecision;
+import com.bybit.api.client.domain.market.response.orderbook.OrderbookResult;
+import com.bybit.api.client.domain.websocket.WebsocketMessage;
+
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Order books of several categories and symbols, updated by a single writer thread and read from any thread
+ * without locks.
+ *
+ * Each book is guarded by a sequence lock: the writer makes the book's version odd while it changes the book and
+ * even again afterwards, and a reader copies the book then checks that the version was even and has not moved,
+ * retrying otherwise. The writer never waits for readers. A read of several books validates all their versions
+ * after copying them all, so the copies are of the same instant: for instance the spot, linear and inverse books of
+ * a coin can be compared without one of them having moved in between.
+ *
+ * Reads return {@link OrderBookSnapshot}s of the top levels, which are immutable and can be handed to other threads.
+ *
+ * <pre>{@code
+ * OrderBookStore store = new OrderBookStore();
+ * linearRouter.onOrderbook(store.updater(CategoryType.LINEAR));
+ * spotRouter.onOrderbook(store.updater(CategoryType.SPOT));
+ * // both routers must be fed by the same thread, e.g. through one WebsocketDispatcher
+ * List<OrderBookSnapshot> books = store.snapshot(List.of(
+ *         OrderBookStore.BookKey.of(CategoryType.SPOT, "BTCUSDT"),
+ *         OrderBookStore.BookKey.of(CategoryType.LINEAR, "BTCUSDT")), 5);
+ * }</pre>
+ */
+public class OrderBookStore {
+    private final Map<CategoryType, ConcurrentMap<String, Slot>> slots = new EnumMap<>(CategoryType.class);
+    private volatile InstrumentPrecision defaultPrecision = InstrumentPrecision.DEFAULT;
+
+    public OrderBookStore() {
+        for (CategoryType category : CategoryType.values()) {
+            slots.put(category, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * Track a book created beforehand, e.g. with the precision of its instrument. Books of other symbols are
+     * created on their first update with the default precision.
+     */
+    public OrderBookStore addBook(CategoryType category, OrderBook book) {
+        slots.get(category).putIfAbsent(book.getSymbol(), new Slot(book));
+        return this;
+    }
+
+    public OrderBookStore setDefaultPrecision(InstrumentPrecision defaultPrecision) {
+        this.defaultPrecision = defaultPrecision;
+        return this;
+    }
+
+    /**
+     * Apply a push of the orderbook stream of {@code category}. Writer thread only.
+     *
+     * @return false if a gap was detected, see {@link OrderBook#apply(WebsocketMessage)}
+     */
+    public boolean apply(CategoryType category, WebsocketMessage<OrderbookResult> message) {
+        Slot slot = slot(category, message.getData().getSymbol());
+        long version = slot.beginWrite();
+        try {
+            return slot.book.apply(message);
+        } finally {
+            slot.endWrite(version);
+        }
+    }
+
+    /**
+     * Handler applying the pushes of one category's orderbook stream, e.g. for
+     * {@link com.bybit.api.client.websocket.WebsocketTopicRouter#onOrderbook(Consumer)}.
+     */
+    public Consumer<WebsocketMessage<OrderbookResult>> updater(CategoryType category) {
+        return message -> apply(category, message);
+    }
+
+    /**
+     * Change a book in any other way, e.g. to apply a REST snapshot. Writer thread only.
+     */
+    public void update(CategoryType category, String symbol, Consumer<OrderBook> mutation) {
+        Slot slot = slot(category, symbol);
+        long version = slot.beginWrite();
+        try {
+            mutation.accept(slot.book);
+        } finally {
+            slot.endWrite(version);
+        }
+    }
+
+    /**
+     * Copy the best {@code levels} levels of a book, or return null if there is no such book.
+     */
+    public OrderBookSnapshot snapshot(CategoryType category, String symbol, int levels) {
+        Slot slot = slots.get(category).get(symbol);
+        if (slot == null) {
+            return null;
+        }
+        while (true) {
+            long version = slot.beginRead();
+            OrderBookSnapshot snapshot = slot.tryCopy(category, levels);
+            if (snapshot != null && slot.validate(version)) {
+                return snapshot;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Copy the best {@code levels} levels of several books as of the same instant. The snapshots are in the order
+     * of the keys, null for the books that do not exist.
+     */
+    public List<OrderBookSnapshot> snapshot(List<BookKey> keys, int levels) {
+        int size = keys.size();
+        Slot[] keySlots = new Slot[size];
+        for (int i = 0; i < size; i++) {
+            BookKey key = keys.get(i);
+            keySlots[i] = slots.get(key.category).get(key.symbol);
+        }
+        long[] versions = new long[size];
+        OrderBookSnapshot[] snapshots = new OrderBookSnapshot[size];
+        while (true) {
+            for (int i = 0; i < size; i++) {
+                versions[i] = keySlots[i] == null ? 0 : keySlots[i].beginRead();
+            }
+            boolean copied = true;
+            for (int i = 0; i < size && copied; i++) {
+                if (keySlots[i] != null) {
+                    snapshots[i] = keySlots[i].tryCopy(keys.get(i).category, levels);
+                    copied = snapshots[i] != null;
+                }
+            }
+            if (copied && validate(keySlots, versions)) {
+                List<OrderBookSnapshot> result = new ArrayList<>(size);
+                for (OrderBookSnapshot snapshot : snapshots) {
+                    result.add(snapshot);
+                }
+                return result;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private static boolean validate(Slot[] keySlots, long[] versions) {
+        VarHandle.loadLoadFence();
+        for (int i = 0; i < keySlots.length; i++) {
+            if (keySlots[i] != null && keySlots[i].version.get() != versions[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Slot slot(CategoryType category, String symbol) {
+        return slots.get(category).computeIfAbsent(symbol, key -> new Slot(new OrderBook(key, defaultPrecision)));
+    }
+
+    /**
+     * Book of a category and symbol, as passed to {@link #snapshot(List, int)}.
+     */
+    public static final class BookKey {
+        private final CategoryType category;
+        private final String symbol;
+
+        private BookKey(CategoryType category, String symbol) {
+            this.category = Objects.requireNonNull(category);
+            this.symbol = Objects.requireNonNull(symbol);
+        }
+
+        public static BookKey of(CategoryType category, String symbol) {
+            return new BookKey(category, symbol);
+        }
+
+        public CategoryType getCategory() {
+            return category;
+        }
+
+        public String getSymbol() {
+            return symbol;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof BookKey)) {
+                return false;
+            }
+            BookKey other = (BookKey) o;
+            return category == other.category && symbol.equals(other.symbol);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * category.hashCode() + symbol.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return category + " " + symbol;
+        }
+    }
+
+    private static final class Slot {
+        private final OrderBook book;
+        /**
+         * Odd while the writer changes the book.
+         */
+        private final AtomicLong version = new AtomicLong();
+
+        private Slot(OrderBook book) {
+            this.book = book;
+        }
+
+        private long beginWrite() {
+            long current = version.get();
+            version.setOpaque(current + 1);
+            // The odd version must be visible before any change to the book.
+            VarHandle.storeStoreFence();
+            return current;
+        }
+
+        private void endWrite(long previous) {
+            version.setRelease(previous + 2);
+        }
+
+        /**
+         * Returns an even version to validate the copy with, waiting for the writer to finish if needed.
+         */
+        private long beginRead() {
+            long current;
+            while (((current = version.getAcquire()) & 1) != 0) {
+                Thread.onSpinWait();
+            }
+            return current;
+        }
+
+        private boolean validate(long readVersion) {
+            VarHandle.loadLoadFence();
+            return version.get() == readVersion;
+        }
+
+        /**
+         * Copy the book, racing the writer; returns null if the copy hit a change in progress. The result is only
+         * meaningful if the version is then validated.
+         */
+        private OrderBookSnapshot tryCopy(CategoryType category, int levels) {
+            try {
+                long[] bidPrices = new long[levels];
+                long[] bidSizes = new long[levels];
+                long[] askPrices = new long[levels];
+                long[] askSizes = new long[levels];
+                int bidCount = book.copyBids(bidPrices, bidSizes, levels);
+                int askCount = book.copyAsks(askPrices, askSizes, levels);
+                return new OrderBookSnapshot(category, book, bidPrices, bidSizes, bidCount, askPrices, askSizes, askCount);
+            } catch (RuntimeException e) {
+                // Arrays swapped or shrunk under the copy: the version check fails anyway.
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,368 @@
+package com.bybit.api.client.marketdata;
+
+import com.bybit.api.client.domain.CategoryType;
+import com.bybit.api.client.domain.GenericResponse;
+import com.bybit.api.client.domain.market.InstrumentPrecision;
+import com.bybit.api.client.domain.market.request.MarketDataRequest;
+import com.bybit.api.client.domain.market.response.orderbook.OrderbookResult;
+import com.bybit.api.client.domain.websocket.WebsocketMessage;
+import com.bybit.api.client.exception.BybitApiException;
+import com.bybit.api.client.restApi.BybitApiAsyncTypedMarketRestClient;
+import com.bybit.api.client.restApi.BybitApiCallback;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Keeps the {@link OrderBook}s of a category in sync with the orderbook stream, and resynchronises a book from
+ * {@code /v5/market/orderbook} when a delta is missed instead of leaving it silently corrupted.
+ *
+ * When a delta does not follow the last one applied to its symbol, the book is marked invalid and the symbol starts
+ * buffering its deltas while a REST snapshot is fetched asynchronously. The snapshot replaces the book, cut to the
+ * depth of the stream since deeper levels would never be updated, and the buffered deltas newer than it, by cross
+ * sequence {@code seq}, are applied on top; the stream then carries on from there. A snapshot older than the first
+ * buffered delta may miss the lost update and is requested again. A stream snapshot arriving meanwhile wins over the
+ * pending request. Failed requests are retried.
+ *
+ * Each book is updated under its own lock, which {@link #read(String, Function)} takes too; the update listener is
+ * called under it. The gap and resync counters are meant for health checks.
+ *
+ * <pre>{@code
+ * OrderBookSynchronizer books = new OrderBookSynchronizer(factory.newAsyncTypedMarketDataRestClient(), CategoryType.LINEAR, 50);
+ * WebsocketTopicRouter router = new WebsocketTopicRouter().onOrderbook(books::apply);
+ * double mid = books.read("BTCUSDT", book -> (book.getBestBidPrice() + book.getBestAskPrice()) / 2.0);
+ * }</pre>
+ */
+public class OrderBookSynchronizer {
+    private static final Logger LOGGER = LoggerFactory.getLogger(OrderBookSynchronizer.class);
+    public static final int DEFAULT_MAX_BUFFERED_DELTAS = 10_000;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(1);
+
+    private final BybitApiAsyncTypedMarketRestClient client;
+    private final CategoryType category;
+    private final int depth;
+    private final ConcurrentMap<String, SymbolBook> books = new ConcurrentHashMap<>();
+    private volatile InstrumentPrecision defaultPrecision = InstrumentPrecision.DEFAULT;
+    private volatile int maxBufferedDeltas = DEFAULT_MAX_BUFFERED_DELTAS;
+    private volatile BookListener updateListener;
+
+    private final LongAdder gaps = new LongAdder();
+    private final LongAdder resyncs = new LongAdder();
+    private final LongAdder resyncFailures = new LongAdder();
+    private final AtomicInteger resyncing = new AtomicInteger();
+    private final AtomicLong lastResyncMillis = new AtomicLong();
+
+    /**
+     * Called after each change of a valid book, under the book's lock.
+     */
+    @FunctionalInterface
+    public interface BookListener {
+        void onUpdate(OrderBook book);
+    }
+
+    /**
+     * @param client   fetches the snapshots of the books to resynchronise
+     * @param category category of the books
+     * @param depth    levels per side of the {@code orderbook.{depth}.{symbol}} stream; the REST snapshots are
+     *                 requested with the same depth
+     */
+    public OrderBookSynchronizer(BybitApiAsyncTypedMarketRestClient client, CategoryType category, int depth) {
+        this.client = client;
+        this.category = category;
+        this.depth = depth;
+    }
+
+    /**
+     * Track a book created beforehand, e.g. with the precision of its instrument. Books of other symbols are
+     * created on their first message with the default precision.
+     */
+    public OrderBookSynchronizer addBook(OrderBook book) {
+        books.putIfAbsent(book.getSymbol(), new SymbolBook(book));
+        return this;
+    }
+
+    public OrderBookSynchronizer setDefaultPrecision(InstrumentPrecision defaultPrecision) {
+        this.defaultPrecision = defaultPrecision;
+        return this;
+    }
+
+    /**
+     * Deltas kept per symbol while its snapshot is fetched; past that the buffer restarts with a new request.
+     */
+    public OrderBookSynchronizer setMaxBufferedDeltas(int maxBufferedDeltas) {
+        this.maxBufferedDeltas = maxBufferedDeltas;
+        return this;
+    }
+
+    public OrderBookSynchronizer setUpdateListener(BookListener updateListener) {
+        this.updateListener = updateListener;
+        return this;
+    }
+
+    /**
+     * Apply a push of the orderbook stream to the book of its symbol.
+     */
+    public void apply(WebsocketMessage<OrderbookResult> message) {
+        OrderbookResult data = message.getData();
+        SymbolBook symbolBook = books.computeIfAbsent(data.getSymbol(), symbol -> new SymbolBook(new OrderBook(symbol, defaultPrecision)));
+        synchronized (symbolBook) {
+            if ("snapshot".equals(message.getType()) || data.getUpdateId() == 1) {
+                symbolBook.book.applySnapshot(data, message.getTs());
+                if (symbolBook.resyncing) {
+                    // The stream resynchronised the book first, the pending request is obsolete.
+                    endResync(symbolBook);
+                }
+                symbolBook.anchorPending = false;
+                notifyUpdate(symbolBook.book);
+                return;
+            }
+            if (symbolBook.resyncing) {
+                buffer(symbolBook, data, message.getTs());
+                return;
+            }
+            if (symbolBook.anchorPending ? anchor(symbolBook, data, message.getTs()) : symbolBook.book.applyDelta(data, message.getTs())) {
+                notifyUpdate(symbolBook.book);
+                return;
+            }
+            gaps.increment();
+            LOGGER.warn("Orderbook gap on {}: update {} after {}, resynchronising", data.getSymbol(), data.getUpdateId(), symbolBook.book.getUpdateId());
+            symbolBook.resyncing = true;
+            resyncing.incrementAndGet();
+            symbolBook.resyncStartNanos = System.nanoTime();
+            buffer(symbolBook, data, message.getTs());
+            requestSnapshot(symbolBook);
+        }
+    }
+
+    /**
+     * Run {@code reader} on the book of {@code symbol} under its lock, or return null if there is no such book.
+     */
+    public <R> R read(String symbol, Function<OrderBook, R> reader) {
+        SymbolBook symbolBook = books.get(symbol);
+        if (symbolBook == null) {
+            return null;
+        }
+        synchronized (symbolBook) {
+            return reader.apply(symbolBook.book);
+        }
+    }
+
+    /**
+     * Whether the book of {@code symbol} is valid and not being resynchronised.
+     */
+    public boolean isSynced(String symbol) {
+        SymbolBook symbolBook = books.get(symbol);
+        if (symbolBook == null) {
+            return false;
+        }
+        synchronized (symbolBook) {
+            return !symbolBook.resyncing && symbolBook.book.isValid();
+        }
+    }
+
+    /**
+     * The first delta after a REST snapshot sets the update id the stream carries on from; deltas older than the
+     * snapshot are skipped.
+     */
+    private boolean anchor(SymbolBook symbolBook, OrderbookResult delta, long timestamp) {
+        if (delta.getSequence() > symbolBook.book.getSequence()) {
+            symbolBook.book.applyLevels(delta, timestamp);
+            symbolBook.anchorPending = false;
+        }
+        return true;
+    }
+
+    private void buffer(SymbolBook symbolBook, OrderbookResult delta, long timestamp) {
+        if (symbolBook.buffered.size() >= maxBufferedDeltas) {
+            // The snapshot is taking too long: start over with one newer than the deltas to come.
+            LOGGER.warn("Orderbook resync of {} buffered {} deltas, requesting a new snapshot", delta.getSymbol(), maxBufferedDeltas);
+            symbolBook.buffered.clear();
+            requestSnapshot(symbolBook);
+        }
+        symbolBook.buffered.addLast(new BufferedDelta(delta, timestamp));
+    }
+
+    private void requestSnapshot(SymbolBook symbolBook) {
+        int generation = ++symbolBook.generation;
+        String symbol = symbolBook.book.getSymbol();
+        fetchSnapshot(symbol).whenComplete((snapshot, error) -> {
+            synchronized (symbolBook) {
+                if (generation != symbolBook.generation || !symbolBook.resyncing) {
+                    return;
+                }
+                if (error != null) {
+                    resyncFailures.increment();
+                    LOGGER.warn("Orderbook snapshot of {} failed, retrying: {}", symbol, error.getMessage());
+                    CompletableFuture.delayedExecutor(RETRY_DELAY.toMillis(), TimeUnit.MILLISECONDS).execute(() -> {
+                        synchronized (symbolBook) {
+                            if (generation == symbolBook.generation && symbolBook.resyncing) {
+                                requestSnapshot(symbolBook);
+                            }
+                        }
+                    });
+                    return;
+                }
+                splice(symbolBook, snapshot);
+            }
+        });
+    }
+
+    private void splice(SymbolBook symbolBook, OrderbookResult snapshot) {
+        OrderBook book = symbolBook.book;
+        Deque<BufferedDelta> buffered = symbolBook.buffered;
+        if (!buffered.isEmpty() && snapshot.getSequence() < buffered.peekFirst().data.getSequence()) {
+            // Taken before the first buffered delta, the snapshot may not hold the update that was lost.
+            LOGGER.warn("Orderbook snapshot of {} at seq {} is older than the buffered deltas from seq {}, requesting a new one",
+                    book.getSymbol(), snapshot.getSequence(), buffered.peekFirst().data.getSequence());
+            requestSnapshot(symbolBook);
+            return;
+        }
+        book.applySnapshot(snapshot, snapshot.getTimestamp());
+        book.truncate(depth);
+        symbolBook.anchorPending = true;
+        while (!buffered.isEmpty()) {
+            BufferedDelta delta = buffered.pollFirst();
+            boolean applied = symbolBook.anchorPending ? anchor(symbolBook, delta.data, delta.timestamp) : book.applyDelta(delta.data, delta.timestamp);
+            if (!applied) {
+                // Another gap among the buffered deltas: keep buffering from there.
+                gaps.increment();
+                buffered.addFirst(delta);
+                requestSnapshot(symbolBook);
+                return;
+            }
+        }
+        endResync(symbolBook);
+        resyncs.increment();
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - symbolBook.resyncStartNanos);
+        lastResyncMillis.set(millis);
+        LOGGER.info("Orderbook of {} resynchronised in {} ms", book.getSymbol(), millis);
+        notifyUpdate(book);
+    }
+
+    private void endResync(SymbolBook symbolBook) {
+        symbolBook.resyncing = false;
+        symbolBook.generation++;
+        symbolBook.buffered.clear();
+        resyncing.decrementAndGet();
+    }
+
+    private CompletableFuture<OrderbookResult> fetchSnapshot(String symbol) {
+        CompletableFuture<OrderbookResult> future = new CompletableFuture<>();
+        MarketDataRequest request = MarketDataRequest.builder()
+                .category(category)
+                .symbol(symbol)
+                .limit(depth)
+                .build();
+        client.getMarketOrderBook(request, new BybitApiCallback<GenericResponse<OrderbookResult>>() {
+            @Override
+            public void onResponse(GenericResponse<OrderbookResult> response) {
+                if (response.getRetCode() != 0 || response.getResult() == null) {
+                    future.completeExceptionally(new BybitApiException(response.getRetCode() + ": " + response.getRetMsg()));
+                    return;
+                }
+                future.complete(response.getResult());
+            }
+
+            @Override
+            public void onFailure(Throwable cause) {
+                future.completeExceptionally(cause);
+            }
+        });
+        // A gateway timeout is never reported to the callback, so a resync must not wait forever.
+        return future.orTimeout(REQUEST_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void notifyUpdate(OrderBook book) {
+        BookListener listener = updateListener;
+        if (listener != null) {
+            try {
+                listener.onUpdate(book);
+            } catch (RuntimeException e) {
+                LOGGER.error("Orderbook listener failed: ", e);
+            }
+        }
+    }
+
+    public CategoryType getCategory() {
+        return category;
+    }
+
+    /**
+     * Missed deltas detected so far.
+     */
+    public long getGapCount() {
+        return gaps.sum();
+    }
+
+    /**
+     * Books resynchronised from a REST snapshot so far.
+     */
+    public long getResyncCount() {
+        return resyncs.sum();
+    }
+
+    public long getResyncFailureCount() {
+        return resyncFailures.sum();
+    }
+
+    /**
+     * Books currently waiting for their snapshot.
+     */
+    public int getResyncingCount() {
+        return resyncing.get();
+    }
+
+    /**
+     * Time from gap detection to resynchronised book of the last resync.
+     */
+    public long getLastResyncMillis() {
+        return lastResyncMillis.get();
+    }
+
+    @Override
+    public String toString() {
+        return "OrderBookSynchronizer[" + category + ",books=" + books.size() + ",gaps=" + getGapCount() +
+                ",resyncs=" + getResyncCount() + ",failures=" + getResyncFailureCount() + ",resyncing=" + getResyncingCount() + "]";
+    }
+
+    private static final class SymbolBook {
+        private final OrderBook book;
+        private final Deque<BufferedDelta> buffered = new ArrayDeque<>();
+        private boolean resyncing;
+        /**
+         * Set after a REST snapshot until the stream's next delta sets the update id to follow.
+         */
+        private boolean anchorPending;
+        /**
+         * Incremented by every request and by the end of a resync, so that stale responses are ignored.
+         */
+        private int generation;
+        private long resyncStartNanos;
+
+        private SymbolBook(OrderBook book) {
+            this.book = book;
+        }
+    }
+
+    private static final class BufferedDelta {
+        private final OrderbookResult data;
+        private final long timestamp;
+
+        private BufferedDelta(OrderbookResult data, long timestamp) {
+            this.data = data;
+            this.timestamp = timestamp;
+        }
+    }
+}
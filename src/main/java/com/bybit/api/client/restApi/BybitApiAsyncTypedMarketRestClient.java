@@ -0,0 +1,30 @@
+package com.bybit.api.client.restApi;
+
+import com.bybit.api.client.domain.GenericResponse;
+import com.bybit.api.client.domain.market.request.MarketDataRequest;
+import com.bybit.api.client.domain.market.response.fundingRate.FundingRateResult;
+import com.bybit.api.client.domain.market.response.instrumentInfo.InstrumentInfoResult;
+import com.bybit.api.client.domain.market.response.kline.MarketKlineResult;
+import com.bybit.api.client.domain.market.response.openInterests.OpenInterestResult;
+import com.bybit.api.client.domain.market.response.orderbook.OrderbookResult;
+import com.bybit.api.client.domain.market.response.recentTrade.RecentTradeResult;
+import com.bybit.api.client.domain.market.response.serverTime.ServerTimeResult;
+import com.bybit.api.client.domain.market.response.tickers.TickersResult;
+
+/**
+ * Asynchronous counterpart of {@link BybitApiTypedMarketRestClient}.
+ */
+public interface BybitApiAsyncTypedMarketRestClient {
+    // Market endpoints
+    void getServerTime(BybitApiCallback<GenericResponse<ServerTimeResult>> callback);
+    void getMarketLinesData(MarketDataRequest marketKlineRequest, BybitApiCallback<GenericResponse<MarketKlineResult>> callback);
+    void getMarketPriceLinesData(MarketDataRequest marketKlineRequest, BybitApiCallback<GenericResponse<MarketKlineResult>> callback);
+    void getIndexPriceLinesData(MarketDataRequest marketKlineRequest, BybitApiCallback<GenericResponse<MarketKlineResult>> callback);
+    void getPremiumIndexPriceLinesData(MarketDataRequest marketKlineRequest, BybitApiCallback<GenericResponse<MarketKlineResult>> callback);
+    void getInstrumentsInfo(MarketDataRequest instrumentInfoRequest, BybitApiCallback<GenericResponse<InstrumentInfoResult>> callback);
+    void getMarketOrderBook(MarketDataRequest marketOrderBookRequest, BybitApiCallback<GenericResponse<OrderbookResult>> callback);
+    void getMarketTickers(MarketDataRequest marketDataTickerRequest, BybitApiCallback<GenericResponse<TickersResult>> callback);
+    void getFundingHistory(MarketDataRequest fundingHistoryRequest, BybitApiCallback<GenericResponse<FundingRateResult>> callback);
+    void getRecentTradeData(MarketDataRequest recentTradeRequest, BybitApiCallback<GenericResponse<RecentTradeResult>> callback);
+    void getOpenInterest(MarketDataRequest openInterestRequest, BybitApiCallback<GenericResponse<OpenInterestResult>> callback);
+}
@@ -0,0 +1,29 @@
+package com.bybit.api.client.restApi;
+
+import com.bybit.api.client.domain.account.request.AccountDataRequest;
+import com.bybit.api.client.domain.asset.request.AssetDataRequest;
+import com.bybit.api.client.domain.position.request.PositionDataRequest;
+import com.bybit.api.client.domain.trade.request.TradeOrderRequest;
+import com.bybit.api.client.service.BybitCursorPaginator;
+
+import java.util.Map;
+
+/**
+ * Iterates over every record of the cursor-paginated endpoints, prefetching the next page while the current one is
+ * consumed. The request's cursor, if set, is the starting point.
+ */
+public interface BybitApiPaginationRestClient {
+    // Trade
+    BybitCursorPaginator<Map<String, Object>> getHistoryOrders(TradeOrderRequest orderHistoryRequest);
+
+    // Position
+    BybitCursorPaginator<Map<String, Object>> getExecutions(PositionDataRequest executionHistoryRequest);
+    BybitCursorPaginator<Map<String, Object>> getClosePnls(PositionDataRequest closePnlHistoryRequest);
+
+    // Account
+    BybitCursorPaginator<Map<String, Object>> getTransactionLogs(AccountDataRequest transactionLogRequest);
+
+    // Asset
+    BybitCursorPaginator<Map<String, Object>> getAssetDepositRecords(AssetDataRequest assetDepositRecordsRequest);
+    BybitCursorPaginator<Map<String, Object>> getAssetWithdrawalRecords(AssetDataRequest assetWithdrawRecordsRequest);
+}
@@ -1,10 +1,19 @@
 package com.bybit.api.client.restApi;
 
 import com.bybit.api.client.constant.BybitApiConstants;
+import com.bybit.api.client.domain.GenericResponse;
 import com.bybit.api.client.domain.account.request.*;
 import com.bybit.api.client.domain.asset.request.*;
 import com.bybit.api.client.domain.institution.clientLending.ClientLendingFundsRequest;
 import com.bybit.api.client.domain.institution.insLending.UpdateInstitutionLoadUidRequest;
+import com.bybit.api.client.domain.market.response.fundingRate.FundingRateResult;
+import com.bybit.api.client.domain.market.response.instrumentInfo.InstrumentInfoResult;
+import com.bybit.api.client.domain.market.response.kline.MarketKlineResult;
+import com.bybit.api.client.domain.market.response.openInterests.OpenInterestResult;
+import com.bybit.api.client.domain.market.response.orderbook.OrderbookResult;
+import com.bybit.api.client.domain.market.response.recentTrade.RecentTradeResult;
+import com.bybit.api.client.domain.market.response.serverTime.ServerTimeResult;
+import com.bybit.api.client.domain.market.response.tickers.TickersResult;
 import com.bybit.api.client.domain.position.request.ConfirmNewRiskLimitRequest;
 import com.bybit.api.client.domain.position.request.*;
 import com.bybit.api.client.domain.spot.leverageToken.SpotLeverageTokenRequest;
@@ -16,6 +25,7 @@ import com.bybit.api.client.domain.user.request.CreateApiKeyRequest;
 import com.bybit.api.client.domain.user.request.FreezeSubUIDRquest;
 import com.bybit.api.client.domain.user.request.ModifyApiKeyRequest;
 import com.bybit.api.client.domain.user.request.UserSubMemberRequest;
+import okhttp3.ResponseBody;
 import retrofit2.Call;
 import retrofit2.http.*;
 
@@ -680,6 +690,133 @@ public interface BybitApiService {
                                        @Query("period") String period,
                                        @Query("limit") Integer limit);
 
+    // Typed market data endpoints
+    // Same mappings as above, decoded straight into the domain.market.response DTOs instead of Map/List trees.
+
+    @GET("/v5/market/time")
+    Call<GenericResponse<ServerTimeResult>> getServerTimeResult();
+
+    @GET("/v5/market/kline")
+    Call<GenericResponse<MarketKlineResult>> getMarketKlineResult(@Query("category") String category,
+                                                                  @Query("symbol") String symbol,
+                                                                  @Query("interval") String interval,
+                                                                  @Query("start") Long start,
+                                                                  @Query("end") Long end,
+                                                                  @Query("limit") Integer limit);
+
+    @GET("/v5/market/mark-price-kline")
+    Call<GenericResponse<MarketKlineResult>> getMarketPriceKlineResult(@Query("category") String category,
+                                                                       @Query("symbol") String symbol,
+                                                                       @Query("interval") String interval,
+                                                                       @Query("start") Long start,
+                                                                       @Query("end") Long end,
+                                                                       @Query("limit") Integer limit);
+
+    @GET("/v5/market/index-price-kline")
+    Call<GenericResponse<MarketKlineResult>> getIndexPriceKlineResult(@Query("category") String category,
+                                                                      @Query("symbol") String symbol,
+                                                                      @Query("interval") String interval,
+                                                                      @Query("start") Long start,
+                                                                      @Query("end") Long end,
+                                                                      @Query("limit") Integer limit);
+
+    @GET("/v5/market/premium-index-price-kline")
+    Call<GenericResponse<MarketKlineResult>> getPremiumIndexPriceKlineResult(@Query("category") String category,
+                                                                             @Query("symbol") String symbol,
+                                                                             @Query("interval") String interval,
+                                                                             @Query("start") Long start,
+                                                                             @Query("end") Long end,
+                                                                             @Query("limit") Integer limit);
+
+    @GET("/v5/market/instruments-info")
+    Call<GenericResponse<InstrumentInfoResult>> getInstrumentInfoResult(@Query("category") String category,
+                                                                        @Query("symbol") String symbol,
+                                                                        @Query("status") String status,
+                                                                        @Query("baseCoin") String baseCoin,
+                                                                        @Query("limit") Integer limit,
+                                                                        @Query("cursor") String cursor);
+
+    @GET("/v5/market/orderbook")
+    Call<GenericResponse<OrderbookResult>> getOrderbookResult(@Query("category") String category,
+                                                              @Query("symbol") String symbol,
+                                                              @Query("limit") Integer limit);
+
+    @GET("/v5/market/tickers")
+    Call<GenericResponse<TickersResult>> getTickersResult(@Query("category") String category,
+                                                          @Query("symbol") String symbol,
+                                                          @Query("baseCoin") String baseCoin,
+                                                          @Query("expDate") String expDate);
+
+    @GET("/v5/market/funding/history")
+    Call<GenericResponse<FundingRateResult>> getFundingRateResult(@Query("category") String category,
+                                                                  @Query("symbol") String symbol,
+                                                                  @Query("startTime") Long startTime,
+                                                                  @Query("endTime") Long endTime,
+                                                                  @Query("limit") Integer limit);
+
+    @GET("/v5/market/recent-trade")
+    Call<GenericResponse<RecentTradeResult>> getRecentTradeResult(@Query("category") String category,
+                                                                  @Query("symbol") String symbol,
+                                                                  @Query("baseCoin") String baseCoin,
+                                                                  @Query("optionType") String optionType,
+                                                                  @Query("limit") Integer limit);
+
+    @GET("/v5/market/open-interest")
+    Call<GenericResponse<OpenInterestResult>> getOpenInterestResult(@Query("category") String category,
+                                                                    @Query("symbol") String symbol,
+                                                                    @Query("intervalTime") String intervalTime,
+                                                                    @Query("startTime") Long startTime,
+                                                                    @Query("endTime") Long endTime,
+                                                                    @Query("limit") Integer limit,
+                                                                    @Query("cursor") String cursor);
+
+    // Streaming list endpoints
+    // The body is not buffered: callers walk result.list with BybitJsonListStreamer and must close the body.
+
+    @Streaming
+    @GET("/v5/market/kline")
+    Call<ResponseBody> streamMarketLinesData(@Query("category") String category,
+                                             @Query("symbol") String symbol,
+                                             @Query("interval") String interval,
+                                             @Query("start") Long start,
+                                             @Query("end") Long end,
+                                             @Query("limit") Integer limit);
+
+    @Streaming
+    @GET("/v5/market/recent-trade")
+    Call<ResponseBody> streamRecentTradeData(@Query("category") String category,
+                                             @Query("symbol") String symbol,
+                                             @Query("baseCoin") String baseCoin,
+                                             @Query("optionType") String optionType,
+                                             @Query("limit") Integer limit);
+
+    @Streaming
+    @Headers(BybitApiConstants.ENDPOINT_SECURITY_TYPE_SIGNED_HEADER)
+    @GET("/v5/execution/list")
+    Call<ResponseBody> streamExecutionList(@Query("category") String category,
+                                           @Query("symbol") String symbol,
+                                           @Query("orderId") String orderId,
+                                           @Query("orderLinkId") String orderLinkId,
+                                           @Query("baseCoin") String baseCoin,
+                                           @Query("startTime") Long startTime,
+                                           @Query("endTime") Long endTime,
+                                           @Query("execType") String execType,
+                                           @Query("limit") Integer limit,
+                                           @Query("cursor") String cursor);
+
+    @Streaming
+    @Headers(BybitApiConstants.ENDPOINT_SECURITY_TYPE_SIGNED_HEADER)
+    @GET("/v5/account/transaction-log")
+    Call<ResponseBody> streamTransactionLog(@Query("accountType") String accountType,
+                                            @Query("category") String category,
+                                            @Query("currency") String currency,
+                                            @Query("baseCoin") String baseCoin,
+                                            @Query("type") String type,
+                                            @Query("startTime") Long startTime,
+                                            @Query("endTime") Long endTime,
+                                            @Query("limit") Integer limit,
+                                            @Query("cursor") String cursor);
+
     // Trade
 
     /**
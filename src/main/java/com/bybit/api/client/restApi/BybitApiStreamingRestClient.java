@@ -0,0 +1,26 @@
+package com.bybit.api.client.restApi;
+
+import com.bybit.api.client.domain.StreamedListResult;
+import com.bybit.api.client.domain.account.request.AccountDataRequest;
+import com.bybit.api.client.domain.market.request.MarketDataRequest;
+import com.bybit.api.client.domain.market.response.kline.MarketKlineEntry;
+import com.bybit.api.client.domain.market.response.recentTrade.RecentTradeEntry;
+import com.bybit.api.client.domain.position.request.PositionDataRequest;
+
+import java.util.function.Consumer;
+
+/**
+ * List endpoints whose entries are decoded one by one from the response stream and pushed to a consumer on the
+ * calling thread. The returned {@link StreamedListResult} carries the return code and the next page cursor.
+ */
+public interface BybitApiStreamingRestClient {
+    // Market Data
+    StreamedListResult streamMarketLinesData(MarketDataRequest marketKlineRequest, Consumer<? super MarketKlineEntry> consumer);
+    StreamedListResult streamRecentTradeData(MarketDataRequest recentTradeRequest, Consumer<? super RecentTradeEntry> consumer);
+
+    // Position
+    <T> StreamedListResult streamExecutionList(PositionDataRequest executionHistoryRequest, Class<T> entryType, Consumer<? super T> consumer);
+
+    // Account
+    <T> StreamedListResult streamTransactionLog(AccountDataRequest transactionLogRequest, Class<T> entryType, Consumer<? super T> consumer);
+}
@@ -2,6 +2,8 @@ package com.bybit.api.client.security;
 
 import com.bybit.api.client.constant.BybitApiConstants;
 import com.bybit.api.client.constant.Util;
+import com.bybit.api.client.exception.BybitApiException;
+import com.bybit.api.client.service.JsonBytesRequestBody;
 import okhttp3.*;
 import okio.Buffer;
 import org.apache.commons.lang3.StringUtils;
@@ -10,8 +12,6 @@ import org.jetbrains.annotations.NotNull;
 import java.io.IOException;
 import java.util.Objects;
 
-import static com.bybit.api.client.security.HmacSHA256Signer.sign;
-
 /**
  * A request interceptor that injects the API Key Header into requests, and signs messages, whenever required.
  */
@@ -23,10 +23,13 @@ public class AuthenticationInterceptor implements Interceptor {
 
     private final Long recvWindow;
 
+    private final CachedHmacSHA256Signer signer;
+
     public AuthenticationInterceptor(String apiKey, String secret, Long recvWindow) {
         this.apiKey = apiKey;
         this.secret = secret;
         this.recvWindow = recvWindow;
+        this.signer = secret == null ? null : new CachedHmacSHA256Signer(secret);
     }
 
     @NotNull
@@ -38,22 +41,33 @@ public class AuthenticationInterceptor implements Interceptor {
         boolean isSignatureRequired = original.header(BybitApiConstants.SIGN_TYPE_HEADER) != null;
 
         // Endpoint requires signing the payload
-        String payload = "";
+        String query = null;
+        byte[] body = null;
         if ("GET".equals(original.method())) {
-            payload = original.url().query(); // extract query params
+            query = original.url().encodedQuery(); // sign the query exactly as it goes on the wire
             newRequestBuilder.get();
-        }else if ("POST".equals(original.method()) && original.body() != null) {
-            Buffer buffer = new Buffer();
-            original.body().writeTo(buffer);
-            payload = buffer.readUtf8();
-            MediaType mediaType = MediaType.parse("application/json");
-            RequestBody body = RequestBody.create(payload, mediaType);
-            newRequestBuilder.post(body);
+        } else if ("POST".equals(original.method()) && original.body() != null) {
+            RequestBody originalBody = original.body();
+            if (originalBody instanceof JsonBytesRequestBody) {
+                // Already serialized once by the converter: sign and send the same bytes
+                body = ((JsonBytesRequestBody) originalBody).content();
+            } else {
+                Buffer buffer = new Buffer();
+                originalBody.writeTo(buffer);
+                body = buffer.readByteArray();
+                originalBody = new JsonBytesRequestBody(body);
+            }
+            newRequestBuilder.post(originalBody);
         }
 
         if (isSignatureRequired) {
             long timestamp = Util.generateTimestamp();
-            String signature = sign(apiKey, secret, StringUtils.isEmpty(payload) ? ""  : payload, timestamp, recvWindow);
+            if (signer == null) {
+                throw new BybitApiException("Authenticated endpoints require keys.");
+            }
+            String signature = body != null
+                    ? signer.sign(apiKey, body, 0, body.length, timestamp, recvWindow)
+                    : signer.sign(apiKey, StringUtils.isEmpty(query) ? "" : query, timestamp, recvWindow);
             newRequestBuilder.addHeader(BybitApiConstants.API_KEY_HEADER, apiKey);
             newRequestBuilder.addHeader(BybitApiConstants.SIGN_HEADER, signature);
             newRequestBuilder.addHeader(BybitApiConstants.TIMESTAMP_HEADER, String.valueOf(timestamp));
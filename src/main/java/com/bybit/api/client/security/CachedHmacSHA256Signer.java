@@ -0,0 +1,195 @@
+package com.bybit.api.client.security;
+
+import com.bybit.api.client.exception.BybitApiException;
+
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Reusable HMAC-SHA256 signer bound to a single API secret.
+ *
+ * Unlike the static helpers in {@link HmacSHA256Signer}, every thread keeps its own pre-initialized {@link Mac}
+ * together with scratch buffers, so signing a request does not look up the JCE provider, rebuild the key or
+ * concatenate the message into an intermediate String. The only allocation per call is the returned hex String.
+ *
+ * A signer holds its secret for as long as it is reachable, so it is meant to be kept by the client that owns the
+ * secret and dropped with it.
+ */
+public final class CachedHmacSHA256Signer {
+    private static final String HMAC_SHA256 = "HmacSHA256";
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final int SCRATCH_SIZE = 256;
+
+    private final SecretKeySpec secretKeySpec;
+    private final ThreadLocal<SignerState> state;
+
+    /**
+     * @param apiSecret api secret
+     */
+    public CachedHmacSHA256Signer(String apiSecret) {
+        if (apiSecret == null) {
+            throw new BybitApiException("Authenticated endpoints require keys.");
+        }
+        this.secretKeySpec = new SecretKeySpec(apiSecret.getBytes(StandardCharsets.UTF_8), HMAC_SHA256);
+        this.state = ThreadLocal.withInitial(() -> new SignerState(newMac(secretKeySpec)));
+    }
+
+    /**
+     * Sign a REST request, equivalent to {@link HmacSHA256Signer#sign(String, String, String, long, long)}.
+     *
+     * @param apiKey     api key
+     * @param payload    query string or JSON body
+     * @param timestamp  current time in milliseconds
+     * @param recvWindow server receives window
+     * @return the lower-case hex signature
+     */
+    public String sign(String apiKey, CharSequence payload, long timestamp, long recvWindow) {
+        SignerState s = begin(apiKey);
+        updateHeader(s, apiKey, timestamp, recvWindow);
+        if (payload != null) {
+            updateChars(s, payload);
+        }
+        return finish(s);
+    }
+
+    /**
+     * Sign a REST request whose payload is already encoded as UTF-8 bytes.
+     *
+     * @param apiKey     api key
+     * @param payload    encoded body
+     * @param offset     start of the payload in the array
+     * @param length     number of payload bytes
+     * @param timestamp  current time in milliseconds
+     * @param recvWindow server receives window
+     * @return the lower-case hex signature
+     */
+    public String sign(String apiKey, byte[] payload, int offset, int length, long timestamp, long recvWindow) {
+        SignerState s = begin(apiKey);
+        updateHeader(s, apiKey, timestamp, recvWindow);
+        if (payload != null && length > 0) {
+            s.mac.update(payload, offset, length);
+        }
+        return finish(s);
+    }
+
+    /**
+     * Sign arbitrary data, equivalent to {@link HmacSHA256Signer#auth(String, String)}.
+     *
+     * @param data data to sign
+     * @return the lower-case hex signature
+     */
+    public String auth(CharSequence data) {
+        SignerState s = state.get();
+        s.mac.reset();
+        updateChars(s, data);
+        return finish(s);
+    }
+
+    /**
+     * Sign {@code prefix + value} without building the concatenated String, e.g. the websocket
+     * {@code "GET/realtime" + expires} auth payload.
+     *
+     * @param prefix text part of the message
+     * @param value  numeric suffix of the message
+     * @return the lower-case hex signature
+     */
+    public String auth(CharSequence prefix, long value) {
+        SignerState s = state.get();
+        s.mac.reset();
+        updateChars(s, prefix);
+        updateDecimal(s, value);
+        return finish(s);
+    }
+
+    private SignerState begin(String apiKey) {
+        if (apiKey == null) {
+            throw new BybitApiException("Authenticated endpoints require keys.");
+        }
+        SignerState s = state.get();
+        s.mac.reset();
+        return s;
+    }
+
+    private static void updateHeader(SignerState s, String apiKey, long timestamp, long recvWindow) {
+        updateDecimal(s, timestamp);
+        updateChars(s, apiKey);
+        updateDecimal(s, recvWindow);
+    }
+
+    private static void updateDecimal(SignerState s, long value) {
+        if (value < 0) {
+            updateChars(s, Long.toString(value));
+            return;
+        }
+        byte[] buf = s.scratch;
+        int pos = buf.length;
+        do {
+            buf[--pos] = (byte) ('0' + (value % 10));
+            value /= 10;
+        } while (value != 0);
+        s.mac.update(buf, pos, buf.length - pos);
+    }
+
+    private static void updateChars(SignerState s, CharSequence chars) {
+        byte[] buf = s.scratch;
+        int length = chars.length();
+        int pos = 0;
+        for (int i = 0; i < length; i++) {
+            char c = chars.charAt(i);
+            if (c >= 0x80) {
+                // Non-ASCII content: flush what we have and let the JDK encode the remainder.
+                s.mac.update(buf, 0, pos);
+                s.mac.update(chars.subSequence(i, length).toString().getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            buf[pos++] = (byte) c;
+            if (pos == buf.length) {
+                s.mac.update(buf, 0, pos);
+                pos = 0;
+            }
+        }
+        s.mac.update(buf, 0, pos);
+    }
+
+    private static String finish(SignerState s) {
+        try {
+            s.mac.doFinal(s.digest, 0);
+        } catch (ShortBufferException e) {
+            throw new IllegalStateException(e);
+        }
+        char[] hex = s.hex;
+        for (int i = 0, j = 0; i < s.digest.length; i++) {
+            int b = s.digest[i] & 0xff;
+            hex[j++] = HEX_DIGITS[b >>> 4];
+            hex[j++] = HEX_DIGITS[b & 0x0f];
+        }
+        return new String(hex);
+    }
+
+    private static Mac newMac(SecretKeySpec secretKeySpec) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_SHA256);
+            mac.init(secretKeySpec);
+            return mac;
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static final class SignerState {
+        private final Mac mac;
+        private final byte[] scratch = new byte[SCRATCH_SIZE];
+        private final byte[] digest;
+        private final char[] hex;
+
+        private SignerState(Mac mac) {
+            this.mac = mac;
+            this.digest = new byte[mac.getMacLength()];
+            this.hex = new char[digest.length * 2];
+        }
+    }
+}
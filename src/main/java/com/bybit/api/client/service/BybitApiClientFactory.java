@@ -1,12 +1,19 @@
 package com.bybit.api.client.service;
 
 
+import com.bybit.api.client.config.BybitApiTransportConfig;
+import com.bybit.api.client.domain.market.InstrumentPrecision;
 import com.bybit.api.client.impl.*;
 import com.bybit.api.client.log.LogOption;
 import com.bybit.api.client.restApi.*;
 import com.bybit.api.client.websocket.WebsocketClient;
 import com.bybit.api.client.websocket.WebsocketClientImpl;
 import com.bybit.api.client.websocket.WebsocketMessageHandler;
+import com.bybit.api.client.websocket.WebsocketStreamManager;
+import com.bybit.api.client.websocket.WebsocketTradeClient;
+import com.bybit.api.client.websocket.WebsocketTradeClientImpl;
+
+import java.time.Duration;
 
 import static com.bybit.api.client.config.BybitApiConfig.MAINNET_DOMAIN;
 import static com.bybit.api.client.constant.BybitApiConstants.*;
@@ -46,6 +53,16 @@ public class BybitApiClientFactory {
      */
     private final Long recvWindow;
 
+    /**
+     * HTTP transport settings of the REST clients
+     */
+    private final BybitApiTransportConfig transportConfig;
+
+    /**
+     * Caches the service proxies of the REST clients and provides their transport
+     */
+    private final BybitApiServiceRegistry registry;
+
     /**
      * Instantiates a new Bybit api client factory.
      *
@@ -55,12 +72,22 @@ public class BybitApiClientFactory {
      * @param debugMode debugMode
      */
     private BybitApiClientFactory(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption) {
+        this(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, BybitApiTransportConfig.DEFAULT);
+    }
+
+    private BybitApiClientFactory(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption, BybitApiTransportConfig transportConfig) {
+        this(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, transportConfig, BybitApiServiceRegistry.getInstance());
+    }
+
+    private BybitApiClientFactory(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption, BybitApiTransportConfig transportConfig, BybitApiServiceRegistry registry) {
         this.apiKey = apiKey;
         this.secret = secret;
         this.baseUrl = baseUrl;
         this.debugMode = debugMode;
         this.recvWindow = recvWindow;
         this.logOption = logOption;
+        this.transportConfig = transportConfig;
+        this.registry = registry;
     }
 
     /**
@@ -132,6 +159,34 @@ public class BybitApiClientFactory {
     }
 
 
+    /**
+     * New instance of Api Client with custom HTTP transport settings
+     *
+     * @param apiKey          the API key
+     * @param secret          the Secret
+     * @param baseUrl         base url
+     * @param transportConfig connection pool, timeouts and dispatcher settings
+     * @return the Bybit api client factory
+     */
+    public static BybitApiClientFactory newInstance(String apiKey, String secret, String baseUrl, BybitApiTransportConfig transportConfig) {
+        return new BybitApiClientFactory(apiKey, secret, baseUrl, false, DEFAULT_RECEIVING_WINDOW, LogOption.SLF4J.getLogOptionType(), transportConfig);
+    }
+
+    public static BybitApiClientFactory newInstance(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption, BybitApiTransportConfig transportConfig) {
+        return new BybitApiClientFactory(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, transportConfig);
+    }
+
+    /**
+     * New instance of Api Client whose REST clients get their services and transport from {@code registry}, so that
+     * {@link BybitApiServiceRegistry#shutdown()} releases their connections
+     *
+     * @param registry the registry of the REST clients, e.g. a new {@link BybitApiServiceRegistry}
+     * @return the Bybit api client factory.
+     */
+    public static BybitApiClientFactory newInstance(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption, BybitApiTransportConfig transportConfig, BybitApiServiceRegistry registry) {
+        return new BybitApiClientFactory(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, transportConfig, registry);
+    }
+
     /**
      * New instance without authentication.
      *
@@ -184,128 +239,210 @@ public class BybitApiClientFactory {
         return new BybitApiClientFactory(null, null, baseUrl, debugMode, DEFAULT_RECEIVING_WINDOW, LogOption.SLF4J.getLogOptionType());
     }
 
+    /**
+     * New instance without authentication and with custom HTTP transport settings
+     *
+     * @param baseUrl         base url
+     * @param transportConfig connection pool, timeouts and dispatcher settings
+     * @return the Bybit api client factory.
+     */
+    public static BybitApiClientFactory newInstance(String baseUrl, BybitApiTransportConfig transportConfig) {
+        return new BybitApiClientFactory(null, null, baseUrl, false, DEFAULT_RECEIVING_WINDOW, LogOption.SLF4J.getLogOptionType(), transportConfig);
+    }
+
     /**
      * Creates a new synchronous/blocking REST client to spot leverage token and spot margin endpoints.
      */
     public BybitApiSpotMarginRestClient newSpotMarginRestClient() {
-        return new BybitApiSpotMarginRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption);
+        return new BybitApiSpotMarginRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, transportConfig, registry);
     }
 
 
     public BybitApiAsyncSpotMarginRestClient newSpotMarginAsyncRestClient() {
-        return new BybitApiAsyncSpotMarginRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption);
+        return new BybitApiAsyncSpotMarginRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, transportConfig, registry);
     }
 
     /**
      * Creates a new synchronous/blocking REST client.
      */
     public BybitApiUserRestClient newUserRestClient() {
-        return new BybitApiUserRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption);
+        return new BybitApiUserRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, transportConfig, registry);
     }
 
     /**
      * Creates a new asynchronous/non-blocking REST client to User and upgrade endpoints.
      */
     public BybitApiAsyncUserRestClient newAsyncUserRestClient() {
-        return new BybitApiAsyncUserRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption);
+        return new BybitApiAsyncUserRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, transportConfig, registry);
     }
 
     /**
      * Creates a new synchronous/blocking REST client to Market Data Endpoints
      */
     public BybitApiMarketRestClient newMarketDataRestClient() {
-        return new BybitApiMarketRestClientImpl(baseUrl, debugMode, recvWindow, logOption);
+        return new BybitApiMarketRestClientImpl(baseUrl, debugMode, recvWindow, logOption, transportConfig, registry);
     }
 
     /**
      * Creates a new asynchronous/non-blocking client to Market Data Endpoints
      */
     public BybitApiAsyncMarketDataRestClient newAsyncMarketDataRestClient() {
-        return new BybitApiMarketAsyncRestClientImpl(baseUrl, debugMode, recvWindow, logOption);
+        return new BybitApiMarketAsyncRestClientImpl(baseUrl, debugMode, recvWindow, logOption, transportConfig, registry);
+    }
+
+    /**
+     * Creates a new synchronous/blocking REST client to Market Data Endpoints which decodes responses into typed results
+     */
+    public BybitApiTypedMarketRestClient newTypedMarketDataRestClient() {
+        return new BybitApiTypedMarketRestClientImpl(baseUrl, debugMode, recvWindow, logOption, transportConfig, registry);
+    }
+
+    /**
+     * Creates a new synchronous/blocking REST client to Market Data Endpoints which decodes prices and sizes into
+     * primitive fields, fixed-point values being scaled with the given precision
+     */
+    public BybitApiTypedMarketRestClient newTypedMarketDataRestClient(InstrumentPrecision numericPrecision) {
+        return new BybitApiTypedMarketRestClientImpl(baseUrl, debugMode, recvWindow, logOption, transportConfig, numericPrecision, registry);
+    }
+
+    /**
+     * Creates a new asynchronous/non-blocking client to Market Data Endpoints which decodes responses into typed results
+     */
+    public BybitApiAsyncTypedMarketRestClient newAsyncTypedMarketDataRestClient() {
+        return new BybitApiTypedMarketAsyncRestClientImpl(baseUrl, debugMode, recvWindow, logOption, transportConfig, registry);
+    }
+
+    /**
+     * Creates a new asynchronous/non-blocking client to Market Data Endpoints which decodes prices and sizes into
+     * primitive fields, fixed-point values being scaled with the given precision
+     */
+    public BybitApiAsyncTypedMarketRestClient newAsyncTypedMarketDataRestClient(InstrumentPrecision numericPrecision) {
+        return new BybitApiTypedMarketAsyncRestClientImpl(baseUrl, debugMode, recvWindow, logOption, transportConfig, numericPrecision, registry);
     }
 
     /**
      * Creates a new synchronous/blocking REST client to Institution and Broker Endpoints
      */
     public BybitApiLendingRestClient newLendingRestClient() {
-        return new BybitApiLendingRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption);
+        return new BybitApiLendingRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, transportConfig, registry);
     }
 
     /**
      * Creates a new asynchronous/non-blocking REST client to Institution Lending Endpoints
      */
     public BybitApiAsyncLendingRestClient newAsyncLendingRestClient() {
-        return new BybitApiAsyncLendingRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption);
+        return new BybitApiAsyncLendingRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, transportConfig, registry);
     }
 
     /**
      * Creates a new synchronous/blocking REST client to trading
      */
     public BybitApiTradeRestClient newTradeRestClient() {
-        return new BybitApiTradeRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption);
+        return new BybitApiTradeRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, transportConfig, registry);
     }
 
     /**
      * Creates a new asynchronous/non-blocking REST client to trading
      */
     public BybitApiAsyncTradeRestClient newAsyncTradeRestClient() {
-        return new BybitApiTradeAsyncRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption);
+        return new BybitApiTradeAsyncRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, transportConfig, registry);
+    }
+
+    /**
+     * Creates a connection warmer sharing the trade client's connection pool. Call {@link BybitApiConnectionWarmer#start()}
+     * to open the connections and keep them alive, and close it on shutdown.
+     *
+     * @param connections number of connections to keep open, one with HTTP/2 whatever the value
+     * @param interval    delay between two keep-alive rounds, positive
+     */
+    public BybitApiConnectionWarmer newTradeConnectionWarmer(int connections, Duration interval) {
+        BybitApiService bybitApiService = registry.getService(BybitApiService.class, apiKey, secret, baseUrl, debugMode, recvWindow, logOption, transportConfig);
+        return new BybitApiConnectionWarmer(bybitApiService, connections, interval, getConnectionMetrics());
+    }
+
+    /**
+     * Handshake count and connection reuse ratio of the REST clients created by this factory.
+     */
+    public BybitConnectionMetrics getConnectionMetrics() {
+        return BybitApiServiceGenerator.getConnectionMetrics(transportConfig);
     }
 
     /**
      * Creates a new synchronous/blocking REST client to position data
      */
     public BybitApiPositionRestClient newPositionRestClient() {
-        return new BybitApiPositionRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption);
+        return new BybitApiPositionRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, transportConfig, registry);
     }
 
     /**
      * Creates a new asynchronous/non-blocking client to position data
      */
     public BybitApiAsyncPositionRestClient newAsyncPositionRestClient() {
-        return new BybitApiAsyncPositionRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption);
+        return new BybitApiAsyncPositionRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, transportConfig, registry);
+    }
+
+    /**
+     * Creates a new REST client iterating over cursor-paginated endpoints with next page prefetch
+     */
+    public BybitApiPaginationRestClient newPaginationRestClient() {
+        return new BybitApiPaginationRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, transportConfig, registry);
+    }
+
+    /**
+     * Creates a new synchronous/blocking REST client streaming list endpoints entry by entry
+     */
+    public BybitApiStreamingRestClient newStreamingRestClient() {
+        return new BybitApiStreamingRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, transportConfig, null, registry);
+    }
+
+    /**
+     * Creates a new synchronous/blocking REST client streaming list endpoints entry by entry, market data entries
+     * being decoded into primitive fields with the given precision
+     */
+    public BybitApiStreamingRestClient newStreamingRestClient(InstrumentPrecision numericPrecision) {
+        return new BybitApiStreamingRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, transportConfig, numericPrecision, registry);
     }
 
     /**
      * Creates a new synchronous/blocking REST client to Account data
      */
     public BybitApiAccountRestClient newAccountRestClient() {
-        return new BybitApiAccountRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption);
+        return new BybitApiAccountRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, transportConfig, registry);
     }
 
     /**
      * Creates a new asynchronous/non-blocking client to Account data
      */
     public BybitApiAsyncAccountRestClient newAsyncAccountRestClient() {
-        return new BybitApiAsyncAccountRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption);
+        return new BybitApiAsyncAccountRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, transportConfig, registry);
     }
 
     /**
      * Creates a new synchronous/blocking REST client to Asset data
      */
     public BybitApiAssetRestClient newAssetRestClient() {
-        return new BybitApiAssetRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption);
+        return new BybitApiAssetRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, transportConfig, registry);
     }
 
     /**
      * Creates a new asynchronous/non-blocking client to Asset data
      */
     public BybitApiAsyncAssetRestClient newAsyncAssetRestClient() {
-        return new BybitApiAsyncAssetRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption);
+        return new BybitApiAsyncAssetRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, transportConfig, registry);
     }
 
     /**
      * Creates a new synchronous/blocking REST client to Broker earning data
      */
     public BybitApiBrokerRestClient newBrokerRestClient() {
-        return new BybitApBrokerRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption);
+        return new BybitApBrokerRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, transportConfig, registry);
     }
 
     /**
      * Creates a new asynchronous/non-blocking client to Broker earning data
      */
     public BybitApiAsyncBrokerRestClient newAsyncBrokerRestClient() {
-        return new BybitApiAsyncBrokerRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption);
+        return new BybitApiAsyncBrokerRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, transportConfig, registry);
     }
 
     /**
@@ -341,4 +478,28 @@ public class BybitApiClientFactory {
     public WebsocketClient newWebsocketClient(int pingInterval, String maxAliveTime, WebsocketMessageHandler messageHandler) {
         return new WebsocketClientImpl(apiKey, secret, baseUrl, pingInterval, maxAliveTime, debugMode, logOption, messageHandler);
     }
+
+    /**
+     * Access to many websocket topics spread over a pool of connections per stream path
+     */
+    public WebsocketStreamManager newWebsocketStreamManager(WebsocketMessageHandler messageHandler) {
+        return newWebsocketStreamManager(messageHandler, WebsocketStreamManager.DEFAULT_MAX_TOPICS_PER_CONNECTION);
+    }
+
+    public WebsocketStreamManager newWebsocketStreamManager(WebsocketMessageHandler messageHandler, int maxTopicsPerConnection) {
+        return new WebsocketStreamManager(handler -> new WebsocketClientImpl(apiKey, secret, baseUrl, DEFAULT_PING_INTERVAL, DEFAULT_MAX_ALIVE_TIME, debugMode, logOption, handler),
+                messageHandler, maxTopicsPerConnection);
+    }
+
+    /**
+     * Access to order entry over the trade websocket, the base url being the websocket domain; requires the api key
+     * and secret of the factory
+     */
+    public WebsocketTradeClient newWebsocketTradeClient() {
+        return newWebsocketTradeClient(WebsocketTradeClientImpl.DEFAULT_REQUEST_TIMEOUT);
+    }
+
+    public WebsocketTradeClient newWebsocketTradeClient(Duration requestTimeout) {
+        return new WebsocketTradeClientImpl(apiKey, secret, baseUrl, recvWindow, DEFAULT_PING_INTERVAL, requestTimeout, debugMode, logOption);
+    }
 }
@@ -0,0 +1,99 @@
+package com.bybit.api.client.service;
+
+import com.bybit.api.client.restApi.BybitApiService;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps pooled REST connections open so that latency sensitive calls such as order placement always hit a warm
+ * socket instead of paying a TCP and TLS handshake after an idle period.
+ *
+ * Every interval the warmer issues {@code connections} concurrent {@code /v5/market/time} requests through the given
+ * service. The service shares its connection pool with every client built for the same transport configuration,
+ * so the trade client benefits from the connections kept alive here. Pick an interval shorter than the pool
+ * keep-alive and the server idle timeout.
+ *
+ * With {@link com.bybit.api.client.config.BybitApiTransportConfig#isPreferHttp2() preferHttp2} the requests of a
+ * round are multiplexed onto one HTTP/2 connection, so the warmer keeps a single connection alive whatever
+ * {@code connections} is; that connection carries every concurrent call of the transport.
+ */
+public final class BybitApiConnectionWarmer implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BybitApiConnectionWarmer.class);
+
+    private final BybitApiService bybitApiService;
+    private final int connections;
+    private final Duration interval;
+    private final BybitConnectionMetrics metrics;
+    private final ScheduledExecutorService scheduler;
+    private ScheduledFuture<?> heartbeat;
+
+    public BybitApiConnectionWarmer(BybitApiService bybitApiService, int connections, Duration interval, BybitConnectionMetrics metrics) {
+        if (connections <= 0) {
+            throw new IllegalArgumentException("connections must be positive");
+        }
+        if (interval == null || interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("interval must be positive");
+        }
+        this.bybitApiService = bybitApiService;
+        this.connections = connections;
+        this.interval = interval;
+        this.metrics = metrics;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "bybit-connection-warmer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Open the connections now and keep them alive until {@link #close()}.
+     */
+    public synchronized BybitApiConnectionWarmer start() {
+        if (heartbeat == null) {
+            heartbeat = scheduler.scheduleAtFixedRate(this::touchConnections, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        return this;
+    }
+
+    /**
+     * Handshake and reuse counters of the transport this warmer keeps alive.
+     */
+    public BybitConnectionMetrics getMetrics() {
+        return metrics;
+    }
+
+    private void touchConnections() {
+        for (int i = 0; i < connections; i++) {
+            bybitApiService.getServerTime().enqueue(new Callback<>() {
+                @Override
+                public void onResponse(@NotNull Call<Object> call, @NotNull Response<Object> response) {
+                    // nothing to do, the connection is back in the pool
+                }
+
+                @Override
+                public void onFailure(@NotNull Call<Object> call, @NotNull Throwable t) {
+                    LOGGER.warn("Connection keep-alive request failed: {}", t.getMessage());
+                }
+            });
+        }
+        LOGGER.debug("Connection warmer: {}", metrics);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (heartbeat != null) {
+            heartbeat.cancel(false);
+        }
+        scheduler.shutdownNow();
+    }
+}
@@ -4,12 +4,17 @@ import com.bybit.api.client.restApi.BybitApiService;
 import com.bybit.api.client.exception.BybitApiError;
 import com.bybit.api.client.exception.BybitApiException;
 import com.bybit.api.client.security.AuthenticationInterceptor;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.bybit.api.client.config.BybitApiTransportConfig;
+import com.bybit.api.client.domain.market.InstrumentPrecision;
 import lombok.Getter;
-import okhttp3.Dispatcher;
-import okhttp3.OkHttpClient;
-import okhttp3.ResponseBody;
+import okhttp3.*;
 import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import retrofit2.Call;
 import retrofit2.Converter;
 import retrofit2.Response;
@@ -18,6 +23,9 @@ import retrofit2.converter.jackson.JacksonConverterFactory;
 
 import java.io.IOException;
 import java.lang.annotation.Annotation;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 
 import static com.bybit.api.client.log.Slf4jLoggingInterceptor.HandleLoggingInterceptor;
@@ -26,25 +34,28 @@ import static com.bybit.api.client.log.Slf4jLoggingInterceptor.HandleLoggingInte
  * Generates a Bybit API implementation based on @see {@link BybitApiService}.
  */
 public class BybitApiServiceGenerator {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BybitApiServiceGenerator.class);
     /**
      * -- GETTER --
      * Returns the shared OkHttpClient instance.
      */
     @Getter
     private static final OkHttpClient sharedClient;
-    private static final Converter.Factory converterFactory = JacksonConverterFactory.create();
+    // Typed responses only map the fields we model; newer fields added by the exchange must not break decoding.
+    private static final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private static final Converter.Factory requestBodyConverterFactory = JsonBytesConverterFactory.create(objectMapper);
+    private static final Converter.Factory converterFactory = JacksonConverterFactory.create(objectMapper);
+
+    private static final ConcurrentMap<InstrumentPrecision, Converter.Factory> numericConverterFactories = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<BybitApiTransportConfig, OkHttpClient> transportClients = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<BybitApiTransportConfig, BybitConnectionMetrics> transportMetrics = new ConcurrentHashMap<>();
 
     static {
-        Dispatcher dispatcher = new Dispatcher();
-        dispatcher.setMaxRequestsPerHost(500);
-        dispatcher.setMaxRequests(500);
-        sharedClient = new OkHttpClient.Builder()
-                .dispatcher(dispatcher)
-                .pingInterval(20, TimeUnit.SECONDS)
-                .build();
+        sharedClient = buildClient(BybitApiTransportConfig.DEFAULT);
+        transportClients.put(BybitApiTransportConfig.DEFAULT, sharedClient);
     }
 
-
     @SuppressWarnings("unchecked")
     @Nullable
     private static final Converter<ResponseBody, BybitApiError> errorBodyConverter =
@@ -55,19 +66,68 @@ public class BybitApiServiceGenerator {
         return createService(serviceClass, null, null, baseUrl, debugMode, recvWindow, logOption);
     }
 
+    public static <S> S createService(Class<S> serviceClass, String baseUrl, boolean debugMode, long recvWindow, String logOption, BybitApiTransportConfig transportConfig) {
+        return createService(serviceClass, null, null, baseUrl, debugMode, recvWindow, logOption, transportConfig);
+    }
+
+    /**
+     * Get a public Bybit API service whose market data entries are decoded into primitive fields by
+     * {@link BybitNumericModule}, using {@code numericPrecision} for the fixed-point values.
+     */
+    public static <S> S createService(Class<S> serviceClass, String baseUrl, boolean debugMode, long recvWindow, String logOption, BybitApiTransportConfig transportConfig, InstrumentPrecision numericPrecision) {
+        return BybitApiServiceRegistry.getInstance().getService(serviceClass, null, null, baseUrl, debugMode, recvWindow, logOption, transportConfig, numericPrecision);
+    }
+
+    public static <S> S createService(Class<S> serviceClass, String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption) {
+        return createService(serviceClass, apiKey, secret, baseUrl, debugMode, recvWindow, logOption, BybitApiTransportConfig.DEFAULT);
+    }
+
     /**
-     * Create a Bybit API service.
+     * Get a Bybit API service, shared with every other client created for the same credential set.
      *
-     * @param serviceClass the type of service.
-     * @param apiKey       Bybit API key.
-     * @param secret       Bybit secret.
+     * @param serviceClass    the type of service.
+     * @param apiKey          Bybit API key.
+     * @param secret          Bybit secret.
+     * @param transportConfig HTTP transport settings.
+     * @return the cached implementation of the API endpoints for the Bybit API service.
+     * @see BybitApiServiceRegistry
+     */
+    public static <S> S createService(Class<S> serviceClass, String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption, BybitApiTransportConfig transportConfig) {
+        return BybitApiServiceRegistry.getInstance().getService(serviceClass, apiKey, secret, baseUrl, debugMode, recvWindow, logOption, transportConfig);
+    }
+
+    /**
+     * Create a new Bybit API service, bypassing the {@link BybitApiServiceRegistry} cache.
+     *
+     * @param serviceClass    the type of service.
+     * @param apiKey          Bybit API key.
+     * @param secret          Bybit secret.
+     * @param transportConfig HTTP transport settings.
      * @return a new implementation of the API endpoints for the Bybit API service.
      */
-    public static <S> S createService(Class<S> serviceClass, String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption) {
+    public static <S> S newService(Class<S> serviceClass, String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption, BybitApiTransportConfig transportConfig) {
+        return newService(serviceClass, apiKey, secret, baseUrl, debugMode, recvWindow, logOption, transportConfig, null);
+    }
+
+    /**
+     * Create a new Bybit API service, bypassing the {@link BybitApiServiceRegistry} cache.
+     *
+     * @param numericPrecision when not null, market data entries are decoded with {@link BybitNumericModule}.
+     * @return a new implementation of the API endpoints for the Bybit API service.
+     */
+    public static <S> S newService(Class<S> serviceClass, String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption, BybitApiTransportConfig transportConfig, InstrumentPrecision numericPrecision) {
+        return newService(serviceClass, apiKey, secret, baseUrl, debugMode, recvWindow, logOption, transportConfig, numericPrecision, getHttpClient(transportConfig));
+    }
+
+    /**
+     * Create a new Bybit API service sending its requests through {@code transportClient}.
+     */
+    static <S> S newService(Class<S> serviceClass, String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption, BybitApiTransportConfig transportConfig, InstrumentPrecision numericPrecision, OkHttpClient transportClient) {
         Retrofit.Builder retrofitBuilder = new Retrofit.Builder()
                 .baseUrl(baseUrl)
-                .addConverterFactory(converterFactory);
-        OkHttpClient.Builder clientBuilder = sharedClient.newBuilder();
+                .addConverterFactory(requestBodyConverterFactory)
+                .addConverterFactory(numericPrecision == null ? converterFactory : getNumericConverterFactory(numericPrecision));
+        OkHttpClient.Builder clientBuilder = transportClient.newBuilder();
         if (!StringUtils.isEmpty(apiKey) && !StringUtils.isEmpty(secret)) {
             AuthenticationInterceptor interceptor = new AuthenticationInterceptor(apiKey, secret, recvWindow);
             clientBuilder.addInterceptor(interceptor);
@@ -77,14 +137,80 @@ public class BybitApiServiceGenerator {
         }
         retrofitBuilder.client(clientBuilder.build());
         Retrofit retrofit = retrofitBuilder.build();
+        if (transportConfig.getPreWarmConnections() > 0) {
+            preWarm(transportClient, baseUrl, transportConfig.getPreWarmConnections());
+        }
         return retrofit.create(serviceClass);
     }
 
+    /**
+     * Returns the OkHttpClient owning the dispatcher and connection pool for this transport configuration.
+     */
+    public static OkHttpClient getHttpClient(BybitApiTransportConfig transportConfig) {
+        return transportClients.computeIfAbsent(transportConfig, BybitApiServiceGenerator::buildClient);
+    }
+
+    /**
+     * Returns the handshake and connection reuse counters for this transport configuration.
+     */
+    public static BybitConnectionMetrics getConnectionMetrics(BybitApiTransportConfig transportConfig) {
+        return transportMetrics.computeIfAbsent(transportConfig, k -> new BybitConnectionMetrics());
+    }
+
+    private static Converter.Factory getNumericConverterFactory(InstrumentPrecision numericPrecision) {
+        return numericConverterFactories.computeIfAbsent(numericPrecision,
+                precision -> JacksonConverterFactory.create(objectMapper.copy().registerModule(new BybitNumericModule(precision))));
+    }
+
+    /**
+     * Build an OkHttpClient with its own dispatcher and connection pool for this transport configuration.
+     */
+    static OkHttpClient buildClient(BybitApiTransportConfig transportConfig) {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequestsPerHost(transportConfig.getMaxRequestsPerHost());
+        dispatcher.setMaxRequests(transportConfig.getMaxRequests());
+        return new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .connectionPool(new ConnectionPool(transportConfig.getMaxIdleConnections(), transportConfig.getKeepAlive().toMillis(), TimeUnit.MILLISECONDS))
+                .connectTimeout(transportConfig.getConnectTimeout())
+                .readTimeout(transportConfig.getReadTimeout())
+                .writeTimeout(transportConfig.getWriteTimeout())
+                .pingInterval(transportConfig.getPingInterval())
+                .protocols(transportConfig.isPreferHttp2() ? List.of(Protocol.HTTP_2, Protocol.HTTP_1_1) : List.of(Protocol.HTTP_1_1))
+                .socketFactory(new TcpNoDelaySocketFactory(transportConfig.isTcpNoDelay()))
+                .eventListener(getConnectionMetrics(transportConfig))
+                .build();
+    }
+
+    /**
+     * Open up to {@code connections} pooled connections to the base url by issuing concurrent server time requests.
+     */
+    private static void preWarm(OkHttpClient client, String baseUrl, int connections) {
+        HttpUrl url = HttpUrl.get(baseUrl).resolve("/v5/market/time");
+        if (url == null) {
+            return;
+        }
+        Request request = new Request.Builder().url(url).get().build();
+        for (int i = 0; i < connections; i++) {
+            client.newCall(request).enqueue(new Callback() {
+                @Override
+                public void onFailure(@NotNull okhttp3.Call call, @NotNull IOException e) {
+                    LOGGER.warn("Connection pre-warming to {} failed: {}", baseUrl, e.getMessage());
+                }
+
+                @Override
+                public void onResponse(@NotNull okhttp3.Call call, @NotNull okhttp3.Response response) {
+                    response.close();
+                }
+            });
+        }
+    }
+
 
     /**
      * Execute a REST call and block until the response is received.
      */
-    public static <T> Object executeSync(Call<T> call) {
+    public static <T> T executeSync(Call<T> call) {
         try {
             var response = call.execute();
             if (response.isSuccessful()) {
@@ -0,0 +1,207 @@
+package com.bybit.api.client.service;
+
+import com.bybit.api.client.config.BybitApiTransportConfig;
+import com.bybit.api.client.domain.market.InstrumentPrecision;
+import okhttp3.OkHttpClient;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Caches Retrofit service proxies so that every REST client built for the same credential set shares one
+ * {@link okhttp3.OkHttpClient}, one {@link com.bybit.api.client.security.AuthenticationInterceptor} and one proxy.
+ *
+ * Services are keyed by service class, base url, api key, secret, recv window, debug mode, log option,
+ * transport configuration and numeric decoding precision; the secret and recv window are part of the key because they drive request signing.
+ * The key holds a SHA-256 digest of the secret, never the secret itself.
+ *
+ * {@link #getInstance()} is the registry used by {@link BybitApiServiceGenerator#createService} and by default by
+ * the clients of {@link BybitApiClientFactory}; its services share the transport clients of the generator for the
+ * life of the process. Applications that need to release their connections create their own registry and pass it
+ * to {@link BybitApiClientFactory#newInstance(String, String, String, boolean, long, String, BybitApiTransportConfig, BybitApiServiceRegistry)}:
+ * such a registry owns one transport client per configuration, which {@link #shutdown()} closes.
+ *
+ * <pre>{@code
+ * BybitApiServiceRegistry registry = new BybitApiServiceRegistry();
+ * BybitApiClientFactory factory = BybitApiClientFactory.newInstance(key, secret, MAINNET_DOMAIN, false, 5000, "SLF4J", transportConfig, registry);
+ * BybitApiTradeRestClient trade = factory.newTradeRestClient();
+ * // ...
+ * registry.shutdown();
+ * }</pre>
+ */
+public final class BybitApiServiceRegistry {
+    private static final BybitApiServiceRegistry INSTANCE = new BybitApiServiceRegistry(null);
+
+    private final ConcurrentMap<ServiceKey, Object> services = new ConcurrentHashMap<>();
+    /**
+     * Transport clients owned by this registry, null for the shared one.
+     */
+    private final ConcurrentMap<BybitApiTransportConfig, OkHttpClient> transportClients;
+    private volatile boolean shutdown;
+
+    /**
+     * A registry owning the transport clients of its services.
+     */
+    public BybitApiServiceRegistry() {
+        this(new ConcurrentHashMap<>());
+    }
+
+    private BybitApiServiceRegistry(ConcurrentMap<BybitApiTransportConfig, OkHttpClient> transportClients) {
+        this.transportClients = transportClients;
+    }
+
+    public static BybitApiServiceRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the cached service for this credential set, creating it on first use.
+     */
+    public <S> S getService(Class<S> serviceClass, String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption) {
+        return getService(serviceClass, apiKey, secret, baseUrl, debugMode, recvWindow, logOption, BybitApiTransportConfig.DEFAULT);
+    }
+
+    /**
+     * Returns the cached service for this credential set and transport configuration, creating it on first use.
+     */
+    public <S> S getService(Class<S> serviceClass, String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption, BybitApiTransportConfig transportConfig) {
+        return getService(serviceClass, apiKey, secret, baseUrl, debugMode, recvWindow, logOption, transportConfig, null);
+    }
+
+    /**
+     * Returns the cached service decoding market data entries with {@link BybitNumericModule} when
+     * {@code numericPrecision} is not null, creating it on first use.
+     */
+    public <S> S getService(Class<S> serviceClass, String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption, BybitApiTransportConfig transportConfig, InstrumentPrecision numericPrecision) {
+        if (shutdown) {
+            throw new IllegalStateException("BybitApiServiceRegistry has been shut down");
+        }
+        ServiceKey key = new ServiceKey(serviceClass, apiKey, digest(secret), baseUrl, debugMode, recvWindow, logOption, transportConfig, numericPrecision);
+        Object service = services.computeIfAbsent(key, k ->
+                BybitApiServiceGenerator.newService(serviceClass, apiKey, secret, baseUrl, debugMode, recvWindow, logOption, transportConfig, numericPrecision, getHttpClient(transportConfig)));
+        return serviceClass.cast(service);
+    }
+
+    /**
+     * Returns the OkHttpClient owning the dispatcher and connection pool of this registry's services for this
+     * transport configuration.
+     */
+    public OkHttpClient getHttpClient(BybitApiTransportConfig transportConfig) {
+        if (transportClients == null) {
+            return BybitApiServiceGenerator.getHttpClient(transportConfig);
+        }
+        if (shutdown) {
+            throw new IllegalStateException("BybitApiServiceRegistry has been shut down");
+        }
+        return transportClients.computeIfAbsent(transportConfig, BybitApiServiceGenerator::buildClient);
+    }
+
+    /**
+     * Number of cached service proxies.
+     */
+    public int size() {
+        return services.size();
+    }
+
+    /**
+     * Drops every cached service created for the given api key, e.g. after the key was rotated.
+     * Clients already holding the proxy keep working; new clients get a fresh one.
+     */
+    public void evict(String apiKey) {
+        services.keySet().removeIf(key -> Objects.equals(key.apiKey, apiKey));
+    }
+
+    /**
+     * Drops all cached services.
+     */
+    public void clear() {
+        services.clear();
+    }
+
+    /**
+     * Drops all cached services, rejects further lookups and closes the transport clients of this registry: idle
+     * connections are closed and the dispatchers stop taking asynchronous calls, while calls in flight complete.
+     * The clients created with this registry must not be used afterwards.
+     *
+     * @throws UnsupportedOperationException on the shared registry returned by {@link #getInstance()}, which other
+     *                                       clients in the process depend on; use {@link #clear()} instead.
+     */
+    public synchronized void shutdown() {
+        if (transportClients == null) {
+            throw new UnsupportedOperationException("The shared BybitApiServiceRegistry cannot be shut down, use clear()");
+        }
+        shutdown = true;
+        services.clear();
+        for (OkHttpClient client : transportClients.values()) {
+            client.dispatcher().executorService().shutdown();
+            client.connectionPool().evictAll();
+        }
+        transportClients.clear();
+    }
+
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    private static byte[] digest(String secret) {
+        if (secret == null) {
+            return null;
+        }
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class ServiceKey {
+        private final Class<?> serviceClass;
+        private final String apiKey;
+        private final byte[] secretDigest;
+        private final String baseUrl;
+        private final boolean debugMode;
+        private final long recvWindow;
+        private final String logOption;
+        private final BybitApiTransportConfig transportConfig;
+        private final InstrumentPrecision numericPrecision;
+
+        private ServiceKey(Class<?> serviceClass, String apiKey, byte[] secretDigest, String baseUrl, boolean debugMode, long recvWindow, String logOption, BybitApiTransportConfig transportConfig, InstrumentPrecision numericPrecision) {
+            this.serviceClass = serviceClass;
+            this.apiKey = apiKey;
+            this.secretDigest = secretDigest;
+            this.baseUrl = baseUrl;
+            this.debugMode = debugMode;
+            this.recvWindow = recvWindow;
+            this.logOption = logOption;
+            this.transportConfig = transportConfig;
+            this.numericPrecision = numericPrecision;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            ServiceKey that = (ServiceKey) o;
+            return debugMode == that.debugMode &&
+                    recvWindow == that.recvWindow &&
+                    serviceClass.equals(that.serviceClass) &&
+                    Objects.equals(apiKey, that.apiKey) &&
+                    Arrays.equals(secretDigest, that.secretDigest) &&
+                    Objects.equals(baseUrl, that.baseUrl) &&
+                    Objects.equals(logOption, that.logOption) &&
+                    Objects.equals(transportConfig, that.transportConfig) &&
+                    Objects.equals(numericPrecision, that.numericPrecision);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Objects.hash(serviceClass, apiKey, baseUrl, debugMode, recvWindow, logOption, transportConfig, numericPrecision)
+                    + Arrays.hashCode(secretDigest);
+        }
+    }
+}
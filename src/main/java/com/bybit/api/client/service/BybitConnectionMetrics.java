@@ -0,0 +1,100 @@
+package com.bybit.api.client.service;
+
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.EventListener;
+import okhttp3.Handshake;
+import okhttp3.Protocol;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Connection level counters of one HTTP transport, collected from OkHttp call events.
+ *
+ * A call either reuses a pooled connection or pays a new TCP (and TLS) handshake; the reuse ratio is the share of
+ * calls served by an already open connection.
+ */
+public final class BybitConnectionMetrics extends EventListener {
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder connectionsAcquired = new LongAdder();
+    private final LongAdder connectStarts = new LongAdder();
+    private final LongAdder connectFailures = new LongAdder();
+    private final LongAdder tlsHandshakes = new LongAdder();
+
+    @Override
+    public void callStart(@NotNull Call call) {
+        calls.increment();
+    }
+
+    @Override
+    public void connectStart(@NotNull Call call, @NotNull InetSocketAddress inetSocketAddress, @NotNull Proxy proxy) {
+        connectStarts.increment();
+    }
+
+    @Override
+    public void connectFailed(@NotNull Call call, @NotNull InetSocketAddress inetSocketAddress, @NotNull Proxy proxy, @Nullable Protocol protocol, @NotNull IOException ioe) {
+        connectFailures.increment();
+    }
+
+    @Override
+    public void secureConnectEnd(@NotNull Call call, @Nullable Handshake handshake) {
+        tlsHandshakes.increment();
+    }
+
+    @Override
+    public void connectionAcquired(@NotNull Call call, @NotNull Connection connection) {
+        connectionsAcquired.increment();
+    }
+
+    public long getCallCount() {
+        return calls.sum();
+    }
+
+    public long getConnectionAcquiredCount() {
+        return connectionsAcquired.sum();
+    }
+
+    /**
+     * Number of new TCP connections attempted.
+     */
+    public long getConnectCount() {
+        return connectStarts.sum();
+    }
+
+    public long getConnectFailureCount() {
+        return connectFailures.sum();
+    }
+
+    /**
+     * Number of completed TLS handshakes.
+     */
+    public long getHandshakeCount() {
+        return tlsHandshakes.sum();
+    }
+
+    /**
+     * Share of connection acquisitions served by an already open connection, between 0 and 1.
+     */
+    public double getReuseRatio() {
+        long acquired = connectionsAcquired.sum();
+        if (acquired == 0) {
+            return 0d;
+        }
+        long opened = connectStarts.sum() - connectFailures.sum();
+        return Math.max(0d, (double) (acquired - opened) / acquired);
+    }
+
+    @Override
+    public String toString() {
+        return "BybitConnectionMetrics[calls=" + getCallCount() +
+                ",acquired=" + getConnectionAcquiredCount() +
+                ",connects=" + getConnectCount() +
+                ",handshakes=" + getHandshakeCount() +
+                ",reuseRatio=" + getReuseRatio() + "]";
+    }
+}
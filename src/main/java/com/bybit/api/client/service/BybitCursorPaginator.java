@@ -0,0 +1,199 @@
+package com.bybit.api.client.service;
+
+import com.bybit.api.client.exception.BybitApiError;
+import com.bybit.api.client.exception.BybitApiException;
+import org.jetbrains.annotations.NotNull;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.bybit.api.client.service.BybitApiServiceGenerator.getBybitApiError;
+
+/**
+ * Lazy iterator over every entry of a cursor-paginated endpoint, following {@code nextPageCursor} transparently.
+ *
+ * Nothing is requested until the first call to {@link #hasNext()}. As soon as a page is handed out, the next one is
+ * requested asynchronously, so the network round trip overlaps with the caller processing the current page. At most
+ * two pages are held at any time: the one being iterated and the one being prefetched.
+ *
+ * Not thread safe; iterate from a single thread.
+ *
+ * @param <T> entry type
+ */
+public final class BybitCursorPaginator<T> implements Iterator<T>, AutoCloseable {
+    private final Function<String, Call<Object>> pageFetcher;
+    private final Function<Map<String, Object>, T> entryMapper;
+
+    private Iterator<Map<String, Object>> current = Collections.emptyIterator();
+    private CompletableFuture<Page> next;
+    private Call<Object> inFlight;
+    private boolean started;
+    private boolean closed;
+    private int pagesFetched;
+
+    private BybitCursorPaginator(Function<String, Call<Object>> pageFetcher, Function<Map<String, Object>, T> entryMapper) {
+        this.pageFetcher = pageFetcher;
+        this.entryMapper = entryMapper;
+    }
+
+    /**
+     * @param pageFetcher builds the call for a page given its cursor, {@code null} for the first page
+     */
+    public static BybitCursorPaginator<Map<String, Object>> of(Function<String, Call<Object>> pageFetcher) {
+        return new BybitCursorPaginator<>(pageFetcher, Function.identity());
+    }
+
+    /**
+     * @param pageFetcher builds the call for a page given its cursor, {@code null} for the first page
+     * @param entryMapper converts each raw entry, e.g. with {@code ObjectMapper.convertValue}
+     */
+    public static <T> BybitCursorPaginator<T> of(Function<String, Call<Object>> pageFetcher, Function<Map<String, Object>, T> entryMapper) {
+        return new BybitCursorPaginator<>(pageFetcher, entryMapper);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!started) {
+            started = true;
+            next = fetch(null);
+        }
+        while (!current.hasNext()) {
+            if (next == null || closed) {
+                return false;
+            }
+            Page page = await(next);
+            pagesFetched++;
+            String cursor = page.nextPageCursor;
+            boolean last = cursor == null || cursor.isEmpty() || cursor.equals(page.cursor) || page.entries.isEmpty();
+            next = last ? null : fetch(cursor);
+            current = page.entries.iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return entryMapper.apply(current.next());
+    }
+
+    /**
+     * Returns a sequential stream over the remaining entries; closing the stream cancels any prefetch in flight.
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(this::close);
+    }
+
+    /**
+     * Number of pages received so far.
+     */
+    public int getPagesFetched() {
+        return pagesFetched;
+    }
+
+    /**
+     * Stop iterating and cancel the prefetch in flight, if any.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        current = Collections.emptyIterator();
+        if (inFlight != null) {
+            inFlight.cancel();
+        }
+        next = null;
+    }
+
+    private CompletableFuture<Page> fetch(String cursor) {
+        CompletableFuture<Page> future = new CompletableFuture<>();
+        Call<Object> call = pageFetcher.apply(cursor);
+        inFlight = call;
+        call.enqueue(new Callback<Object>() {
+            @Override
+            public void onResponse(@NotNull Call<Object> call, @NotNull Response<Object> response) {
+                try {
+                    if (!response.isSuccessful()) {
+                        future.completeExceptionally(new BybitApiException(getBybitApiError(response)));
+                        return;
+                    }
+                    future.complete(toPage(cursor, response.body()));
+                } catch (IOException | RuntimeException e) {
+                    future.completeExceptionally(e);
+                }
+            }
+
+            @Override
+            public void onFailure(@NotNull Call<Object> call, @NotNull Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        return future;
+    }
+
+    private static Page await(CompletableFuture<Page> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof BybitApiException) {
+                throw (BybitApiException) cause;
+            }
+            throw new BybitApiException(cause);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Page toPage(String cursor, Object body) {
+        if (!(body instanceof Map)) {
+            throw new BybitApiException("Unexpected paginated response: " + body);
+        }
+        Map<String, Object> response = (Map<String, Object>) body;
+        Object retCode = response.get("retCode");
+        if (retCode instanceof Number && ((Number) retCode).intValue() != 0) {
+            BybitApiError error = new BybitApiError();
+            error.setCode(((Number) retCode).intValue());
+            error.setMsg(String.valueOf(response.get("retMsg")));
+            throw new BybitApiException(error);
+        }
+        Object result = response.get("result");
+        if (!(result instanceof Map)) {
+            return new Page(cursor, Collections.emptyList(), null);
+        }
+        Map<String, Object> resultMap = (Map<String, Object>) result;
+        // Asset records use "rows" where trade, position and account endpoints use "list".
+        Object entries = resultMap.containsKey("list") ? resultMap.get("list") : resultMap.get("rows");
+        Object nextPageCursor = resultMap.get("nextPageCursor");
+        return new Page(cursor,
+                entries instanceof List ? (List<Map<String, Object>>) entries : Collections.emptyList(),
+                nextPageCursor == null ? null : nextPageCursor.toString());
+    }
+
+    private static final class Page {
+        private final String cursor;
+        private final List<Map<String, Object>> entries;
+        private final String nextPageCursor;
+
+        private Page(String cursor, List<Map<String, Object>> entries, String nextPageCursor) {
+            this.cursor = cursor;
+            this.entries = entries;
+            this.nextPageCursor = nextPageCursor;
+        }
+    }
+}
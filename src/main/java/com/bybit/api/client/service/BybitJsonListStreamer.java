@@ -0,0 +1,120 @@
+package com.bybit.api.client.service;
+
+import com.bybit.api.client.domain.StreamedListResult;
+import com.bybit.api.client.exception.BybitApiException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import okhttp3.ResponseBody;
+import retrofit2.Call;
+import retrofit2.Response;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+import static com.bybit.api.client.service.BybitApiServiceGenerator.getBybitApiError;
+
+/**
+ * Walks a Bybit list response with a streaming {@link JsonParser} and hands each {@code result.list} entry to a
+ * consumer as soon as it is decoded, so a full page never exists as one object graph.
+ */
+public final class BybitJsonListStreamer {
+    private BybitJsonListStreamer() {
+    }
+
+    /**
+     * Execute a {@code @Streaming} call and stream its body.
+     *
+     * @param call      call returning the raw response body
+     * @param reader    reader carrying the mapper configuration, e.g. its modules
+     * @param entryType type of the {@code result.list} entries
+     * @param consumer  receives each entry in response order
+     * @return the response envelope, without the entries
+     */
+    public static <T> StreamedListResult execute(Call<ResponseBody> call, ObjectReader reader, Class<T> entryType, Consumer<? super T> consumer) {
+        try {
+            Response<ResponseBody> response = call.execute();
+            if (!response.isSuccessful()) {
+                throw new BybitApiException(getBybitApiError(response));
+            }
+            try (ResponseBody body = response.body()) {
+                if (body == null) {
+                    throw new BybitApiException("Response body was null.");
+                }
+                return stream(body.byteStream(), reader, entryType, consumer);
+            }
+        } catch (IOException e) {
+            throw new BybitApiException(e);
+        }
+    }
+
+    /**
+     * Stream a list response read from {@code in}. The stream is not closed.
+     */
+    public static <T> StreamedListResult stream(InputStream in, ObjectReader reader, Class<T> entryType, Consumer<? super T> consumer) throws IOException {
+        StreamedListResult result = new StreamedListResult();
+        ObjectReader entryReader = reader.forType(entryType);
+        try (JsonParser p = entryReader.getFactory().createParser(in)) {
+            if (p.nextToken() != JsonToken.START_OBJECT) {
+                throw new BybitApiException("Unexpected response, expected a JSON object but got " + p.currentToken());
+            }
+            for (String name = p.nextFieldName(); name != null; name = p.nextFieldName()) {
+                JsonToken token = p.nextToken();
+                switch (name) {
+                    case "retCode":
+                        result.setRetCode(p.getValueAsInt());
+                        break;
+                    case "retMsg":
+                        result.setRetMsg(p.getValueAsString());
+                        break;
+                    case "time":
+                        result.setTime(p.getValueAsLong());
+                        break;
+                    case "result":
+                        if (token == JsonToken.START_OBJECT) {
+                            readResult(p, entryReader, entryType, consumer, result);
+                        } else {
+                            p.skipChildren();
+                        }
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+        }
+        return result;
+    }
+
+    private static <T> void readResult(JsonParser p, ObjectReader entryReader, Class<T> entryType, Consumer<? super T> consumer, StreamedListResult result) throws IOException {
+        for (String name = p.nextFieldName(); name != null; name = p.nextFieldName()) {
+            JsonToken token = p.nextToken();
+            switch (name) {
+                case "list":
+                    if (token == JsonToken.START_ARRAY) {
+                        int size = 0;
+                        while (p.nextToken() != JsonToken.END_ARRAY) {
+                            T entry = entryType.cast(entryReader.readValue(p));
+                            consumer.accept(entry);
+                            size++;
+                        }
+                        result.setSize(size);
+                    } else {
+                        p.skipChildren();
+                    }
+                    break;
+                case "nextPageCursor":
+                    result.setNextPageCursor(p.getValueAsString());
+                    break;
+                case "category":
+                    result.setCategory(p.getValueAsString());
+                    break;
+                case "symbol":
+                    result.setSymbol(p.getValueAsString());
+                    break;
+                default:
+                    p.skipChildren();
+            }
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package com.bybit.api.client.service;
+
+import com.bybit.api.client.domain.market.InstrumentPrecision;
+import com.bybit.api.client.domain.market.response.kline.MarketKlineEntry;
+import com.bybit.api.client.domain.market.response.orderbook.OrderBookAskEntry;
+import com.bybit.api.client.domain.market.response.orderbook.OrderbookBidEntry;
+import com.bybit.api.client.domain.market.response.recentTrade.RecentTradeEntry;
+import com.bybit.api.client.domain.market.response.tickers.TickerEntry;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import java.io.IOException;
+
+/**
+ * Opt-in Jackson module decoding market data prices and sizes straight from the parser's token buffer into the
+ * primitive fields of the entry DTOs ({@code *Scaled} fixed-point longs and {@code *Value} doubles), instead of the
+ * String fields. The String price and size fields stay null in this mode.
+ *
+ * Fixed-point fields use the {@link InstrumentPrecision} given to the module, which can be overridden per read
+ * with {@link #reader(ObjectMapper, InstrumentPrecision)}.
+ */
+public class BybitNumericModule extends SimpleModule {
+    private static final long serialVersionUID = 1L;
+    private final InstrumentPrecision precision;
+
+    public BybitNumericModule() {
+        this(InstrumentPrecision.DEFAULT);
+    }
+
+    public BybitNumericModule(InstrumentPrecision precision) {
+        super("BybitNumericModule");
+        this.precision = precision;
+        addDeserializer(OrderbookBidEntry.class, new OrderbookBidEntryDeserializer(precision));
+        addDeserializer(OrderBookAskEntry.class, new OrderBookAskEntryDeserializer(precision));
+        addDeserializer(RecentTradeEntry.class, new RecentTradeEntryDeserializer(precision));
+        addDeserializer(TickerEntry.class, new TickerEntryDeserializer(precision));
+        addDeserializer(MarketKlineEntry.class, new MarketKlineEntryDeserializer(precision));
+    }
+
+    public InstrumentPrecision getPrecision() {
+        return precision;
+    }
+
+    /**
+     * Returns a reader decoding fixed-point fields with the given precision, e.g. the one of the symbol being polled.
+     * The mapper must have a {@link BybitNumericModule} registered.
+     */
+    public static ObjectReader reader(ObjectMapper mapper, InstrumentPrecision precision) {
+        return mapper.reader().withAttribute(InstrumentPrecision.class, precision);
+    }
+
+    private abstract static class NumericDeserializer<T> extends StdDeserializer<T> {
+        private static final long serialVersionUID = 1L;
+        private final InstrumentPrecision defaultPrecision;
+
+        NumericDeserializer(Class<T> type, InstrumentPrecision defaultPrecision) {
+            super(type);
+            this.defaultPrecision = defaultPrecision;
+        }
+
+        InstrumentPrecision precision(DeserializationContext ctxt) {
+            Object precision = ctxt.getAttribute(InstrumentPrecision.class);
+            return precision instanceof InstrumentPrecision ? (InstrumentPrecision) precision : defaultPrecision;
+        }
+
+        static long scaled(JsonParser p, int scale) throws IOException {
+            if (p.currentToken() == JsonToken.VALUE_NULL) {
+                return 0L;
+            }
+            return FixedPointParser.parseScaled(p.getTextCharacters(), p.getTextOffset(), p.getTextLength(), scale);
+        }
+
+        static double doubleValue(JsonParser p) throws IOException {
+            if (p.currentToken() == JsonToken.VALUE_NULL) {
+                return Double.NaN;
+            }
+            return FixedPointParser.parseDouble(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+        }
+
+        @SuppressWarnings("unchecked")
+        T unexpected(JsonParser p, DeserializationContext ctxt) throws IOException {
+            return (T) ctxt.handleUnexpectedToken(handledType(), p);
+        }
+
+        /**
+         * Skip what is left of an array-shaped entry, e.g. fields added by the exchange.
+         */
+        static void skipToEndArray(JsonParser p) throws IOException {
+            while (p.currentToken() != JsonToken.END_ARRAY) {
+                p.skipChildren();
+                p.nextToken();
+            }
+        }
+
+        /**
+         * Returns the first field name of an object, whether the parser is positioned on START_OBJECT or FIELD_NAME.
+         */
+        static String firstFieldName(JsonParser p) throws IOException {
+            if (p.isExpectedStartObjectToken()) {
+                return p.nextFieldName();
+            }
+            return p.hasToken(JsonToken.FIELD_NAME) ? p.currentName() : null;
+        }
+    }
+
+    private static final class OrderbookBidEntryDeserializer extends NumericDeserializer<OrderbookBidEntry> {
+        private static final long serialVersionUID = 1L;
+
+        OrderbookBidEntryDeserializer(InstrumentPrecision precision) {
+            super(OrderbookBidEntry.class, precision);
+        }
+
+        @Override
+        public OrderbookBidEntry deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (!p.isExpectedStartArrayToken()) {
+                return unexpected(p, ctxt);
+            }
+            InstrumentPrecision precision = precision(ctxt);
+            OrderbookBidEntry entry = new OrderbookBidEntry();
+            if (p.nextToken() != JsonToken.END_ARRAY) {
+                entry.setBidPriceScaled(scaled(p, precision.getPriceScale()));
+                if (p.nextToken() != JsonToken.END_ARRAY) {
+                    entry.setBidSizeScaled(scaled(p, precision.getQtyScale()));
+                    p.nextToken();
+                }
+            }
+            skipToEndArray(p);
+            return entry;
+        }
+    }
+
+    private static final class OrderBookAskEntryDeserializer extends NumericDeserializer<OrderBookAskEntry> {
+        private static final long serialVersionUID = 1L;
+
+        OrderBookAskEntryDeserializer(InstrumentPrecision precision) {
+            super(OrderBookAskEntry.class, precision);
+        }
+
+        @Override
+        public OrderBookAskEntry deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (!p.isExpectedStartArrayToken()) {
+                return unexpected(p, ctxt);
+            }
+            InstrumentPrecision precision = precision(ctxt);
+            OrderBookAskEntry entry = new OrderBookAskEntry();
+            if (p.nextToken() != JsonToken.END_ARRAY) {
+                entry.setAskPriceScaled(scaled(p, precision.getPriceScale()));
+                if (p.nextToken() != JsonToken.END_ARRAY) {
+                    entry.setAskSizeScaled(scaled(p, precision.getQtyScale()));
+                    p.nextToken();
+                }
+            }
+            skipToEndArray(p);
+            return entry;
+        }
+    }
+
+    private static final class MarketKlineEntryDeserializer extends NumericDeserializer<MarketKlineEntry> {
+        private static final long serialVersionUID = 1L;
+
+        MarketKlineEntryDeserializer(InstrumentPrecision precision) {
+            super(MarketKlineEntry.class, precision);
+        }
+
+        @Override
+        public MarketKlineEntry deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (!p.isExpectedStartArrayToken()) {
+                return unexpected(p, ctxt);
+            }
+            MarketKlineEntry entry = new MarketKlineEntry();
+            // Mark, index and premium index klines only have the first five columns.
+            for (int column = 0; p.nextToken() != JsonToken.END_ARRAY; column++) {
+                switch (column) {
+                    case 0: entry.setStartTime(scaled(p, 0)); break;
+                    case 1: entry.setOpenPriceValue(doubleValue(p)); break;
+                    case 2: entry.setHighPriceValue(doubleValue(p)); break;
+                    case 3: entry.setLowPriceValue(doubleValue(p)); break;
+                    case 4: entry.setClosePriceValue(doubleValue(p)); break;
+                    case 5: entry.setVolumeValue(doubleValue(p)); break;
+                    case 6: entry.setTurnoverValue(doubleValue(p)); break;
+                    default: p.skipChildren();
+                }
+            }
+            return entry;
+        }
+    }
+
+    private static final class RecentTradeEntryDeserializer extends NumericDeserializer<RecentTradeEntry> {
+        private static final long serialVersionUID = 1L;
+
+        RecentTradeEntryDeserializer(InstrumentPrecision precision) {
+            super(RecentTradeEntry.class, precision);
+        }
+
+        @Override
+        public RecentTradeEntry deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            InstrumentPrecision precision = precision(ctxt);
+            RecentTradeEntry entry = new RecentTradeEntry();
+            for (String name = firstFieldName(p); name != null; name = p.nextFieldName()) {
+                p.nextToken();
+                switch (name) {
+                    case "execId": entry.setExecId(p.getValueAsString()); break;
+                    case "symbol": entry.setSymbol(p.getValueAsString()); break;
+                    case "price": entry.setPriceScaled(scaled(p, precision.getPriceScale())); break;
+                    case "size": entry.setSizeScaled(scaled(p, precision.getQtyScale())); break;
+                    case "side": entry.setSide(p.getValueAsString()); break;
+                    case "time": entry.setTime(p.getValueAsString()); break;
+                    case "isBlockTrade": entry.setIsBlockTrade(p.getValueAsBoolean()); break;
+                    default: p.skipChildren();
+                }
+            }
+            return entry;
+        }
+    }
+
+    private static final class TickerEntryDeserializer extends NumericDeserializer<TickerEntry> {
+        private static final long serialVersionUID = 1L;
+
+        TickerEntryDeserializer(InstrumentPrecision precision) {
+            super(TickerEntry.class, precision);
+        }
+
+        @Override
+        public TickerEntry deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            InstrumentPrecision precision = precision(ctxt);
+            TickerEntry entry = new TickerEntry();
+            for (String name = firstFieldName(p); name != null; name = p.nextFieldName()) {
+                p.nextToken();
+                switch (name) {
+                    case "symbol": entry.setSymbol(p.getValueAsString()); break;
+                    case "bid1Price": entry.setBid1PriceScaled(scaledOrZero(p, precision.getPriceScale())); break;
+                    case "bid1Size": entry.setBid1SizeScaled(scaledOrZero(p, precision.getQtyScale())); break;
+                    case "ask1Price": entry.setAsk1PriceScaled(scaledOrZero(p, precision.getPriceScale())); break;
+                    case "ask1Size": entry.setAsk1SizeScaled(scaledOrZero(p, precision.getQtyScale())); break;
+                    case "lastPrice": entry.setLastPriceScaled(scaledOrZero(p, precision.getPriceScale())); break;
+                    case "prevPrice24h": entry.setPrevPrice24hValue(doubleValue(p)); break;
+                    case "price24hPcnt": entry.setPrice24hPcntValue(doubleValue(p)); break;
+                    case "highPrice24h": entry.setHighPrice24hValue(doubleValue(p)); break;
+                    case "lowPrice24h": entry.setLowPrice24hValue(doubleValue(p)); break;
+                    case "turnover24h": entry.setTurnover24hValue(doubleValue(p)); break;
+                    case "volume24h": entry.setVolume24hValue(doubleValue(p)); break;
+                    case "usdIndexPrice": entry.setUsdIndexPriceValue(doubleValue(p)); break;
+                    default: p.skipChildren();
+                }
+            }
+            return entry;
+        }
+
+        /**
+         * Tickers of illiquid symbols come with an empty best bid or ask.
+         */
+        private static long scaledOrZero(JsonParser p, int scale) throws IOException {
+            return p.getTextLength() == 0 ? 0L : scaled(p, scale);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.bybit.api.client.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Parses decimal text straight from a character buffer, e.g. the token buffer of a Jackson parser, into a scaled
+ * {@code long} or a {@code double} without creating an intermediate String or BigDecimal.
+ *
+ * Plain decimals such as {@code "37202.8"} take the fast path; anything else (exponents, more than 15 significant
+ * digits for doubles) falls back to the JDK parsers so the result is always correctly rounded.
+ */
+public final class FixedPointParser {
+    private static final double[] DOUBLE_POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final long[] LONG_POWERS_OF_TEN = new long[19];
+    private static final int MAX_EXACT_DIGITS = 15;
+
+    static {
+        LONG_POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < LONG_POWERS_OF_TEN.length; i++) {
+            LONG_POWERS_OF_TEN[i] = LONG_POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private FixedPointParser() {
+    }
+
+    /**
+     * Parse a decimal into a fixed-point value with {@code scale} fractional digits, e.g. {@code "37202.8"} with scale
+     * 2 gives {@code 3720280}. Extra fractional digits are rounded half-up.
+     *
+     * @throws NumberFormatException if the text is not a decimal or does not fit in a long once scaled
+     */
+    public static long parseScaled(char[] buf, int offset, int length, int scale) {
+        if (scale < 0 || scale >= LONG_POWERS_OF_TEN.length) {
+            throw new IllegalArgumentException("Unsupported scale: " + scale);
+        }
+        if (length == 0) {
+            throw new NumberFormatException("Empty numeric value");
+        }
+        int i = offset;
+        int end = offset + length;
+        boolean negative = false;
+        if (buf[i] == '-' || buf[i] == '+') {
+            negative = buf[i] == '-';
+            i++;
+        }
+        long value = 0;
+        int fractionDigits = -1;
+        boolean hasDigits = false;
+        boolean roundUp = false;
+        for (; i < end; i++) {
+            char c = buf[i];
+            if (c == '.') {
+                if (fractionDigits >= 0) {
+                    throw numberFormat(buf, offset, length);
+                }
+                fractionDigits = 0;
+                continue;
+            }
+            int digit = c - '0';
+            if (digit < 0 || digit > 9) {
+                if (c == 'e' || c == 'E') {
+                    return parseScaledSlow(buf, offset, length, scale);
+                }
+                throw numberFormat(buf, offset, length);
+            }
+            hasDigits = true;
+            if (fractionDigits >= scale) {
+                // Beyond the requested precision: only the first dropped digit matters for rounding.
+                if (fractionDigits == scale) {
+                    roundUp = digit >= 5;
+                    fractionDigits++;
+                }
+                continue;
+            }
+            if (fractionDigits >= 0) {
+                fractionDigits++;
+            }
+            if (value > (Long.MAX_VALUE - digit) / 10) {
+                throw numberFormat(buf, offset, length);
+            }
+            value = value * 10 + digit;
+        }
+        if (!hasDigits) {
+            throw numberFormat(buf, offset, length);
+        }
+        int missing = scale - Math.min(Math.max(fractionDigits, 0), scale);
+        try {
+            value = Math.multiplyExact(value, LONG_POWERS_OF_TEN[missing]);
+            if (roundUp) {
+                value = Math.addExact(value, 1);
+            }
+        } catch (ArithmeticException e) {
+            throw numberFormat(buf, offset, length);
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parse a decimal String into a fixed-point value, see {@link #parseScaled(char[], int, int, int)}.
+     */
+    public static long parseScaled(String text, int scale) {
+        return parseScaled(text.toCharArray(), 0, text.length(), scale);
+    }
+
+    /**
+     * Parse a decimal into a double. Empty text, as sent by Bybit for fields that do not apply, gives {@code NaN}.
+     *
+     * @throws NumberFormatException if the text is not a number
+     */
+    public static double parseDouble(char[] buf, int offset, int length) {
+        if (length == 0) {
+            return Double.NaN;
+        }
+        int i = offset;
+        int end = offset + length;
+        boolean negative = false;
+        if (buf[i] == '-' || buf[i] == '+') {
+            negative = buf[i] == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int significantDigits = 0;
+        int fractionDigits = -1;
+        boolean hasDigits = false;
+        for (; i < end; i++) {
+            char c = buf[i];
+            if (c == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+                continue;
+            }
+            int digit = c - '0';
+            if (digit < 0 || digit > 9) {
+                return parseDoubleSlow(buf, offset, length);
+            }
+            hasDigits = true;
+            if (mantissa != 0 || digit != 0) {
+                significantDigits++;
+            }
+            if (significantDigits > MAX_EXACT_DIGITS) {
+                return parseDoubleSlow(buf, offset, length);
+            }
+            mantissa = mantissa * 10 + digit;
+            if (fractionDigits >= 0) {
+                fractionDigits++;
+            }
+        }
+        if (!hasDigits || fractionDigits >= DOUBLE_POWERS_OF_TEN.length) {
+            return parseDoubleSlow(buf, offset, length);
+        }
+        // Both operands are exact doubles, so a single division is correctly rounded.
+        double value = fractionDigits > 0 ? mantissa / DOUBLE_POWERS_OF_TEN[fractionDigits] : mantissa;
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parse a decimal String into a double, see {@link #parseDouble(char[], int, int)}.
+     */
+    public static double parseDouble(String text) {
+        return parseDouble(text.toCharArray(), 0, text.length());
+    }
+
+    /**
+     * Convert a fixed-point value back to a double.
+     */
+    public static double toDouble(long value, int scale) {
+        return value / DOUBLE_POWERS_OF_TEN[scale];
+    }
+
+    private static long parseScaledSlow(char[] buf, int offset, int length, int scale) {
+        try {
+            return new BigDecimal(buf, offset, length).setScale(scale, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            throw numberFormat(buf, offset, length);
+        }
+    }
+
+    private static double parseDoubleSlow(char[] buf, int offset, int length) {
+        return Double.parseDouble(new String(buf, offset, length));
+    }
+
+    private static NumberFormatException numberFormat(char[] buf, int offset, int length) {
+        return new NumberFormatException("Not a decimal value: \"" + new String(buf, offset, length) + "\"");
+    }
+}
@@ -0,0 +1,32 @@
+package com.bybit.api.client.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import okhttp3.RequestBody;
+import retrofit2.Converter;
+import retrofit2.Retrofit;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+/**
+ * Serializes {@code @Body} parameters straight to a {@link JsonBytesRequestBody}.
+ * Response conversion is left to the Jackson converter registered after this factory.
+ */
+public final class JsonBytesConverterFactory extends Converter.Factory {
+    private final ObjectMapper mapper;
+
+    private JsonBytesConverterFactory(ObjectMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    public static JsonBytesConverterFactory create(ObjectMapper mapper) {
+        return new JsonBytesConverterFactory(mapper);
+    }
+
+    @Override
+    public Converter<?, RequestBody> requestBodyConverter(Type type, Annotation[] parameterAnnotations, Annotation[] methodAnnotations, Retrofit retrofit) {
+        ObjectWriter writer = mapper.writerFor(mapper.getTypeFactory().constructType(type));
+        return value -> new JsonBytesRequestBody(writer.writeValueAsBytes(value));
+    }
+}
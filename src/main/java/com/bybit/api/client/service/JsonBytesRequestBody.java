@@ -0,0 +1,46 @@
+package com.bybit.api.client.service;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+/**
+ * A JSON request body backed by the bytes produced when the request object was serialized.
+ *
+ * The same array is signed by {@link com.bybit.api.client.security.AuthenticationInterceptor} and written to the wire,
+ * so a signed POST is serialized exactly once.
+ */
+public final class JsonBytesRequestBody extends RequestBody {
+    public static final MediaType JSON_MEDIA_TYPE = MediaType.get("application/json");
+
+    private final byte[] content;
+
+    public JsonBytesRequestBody(byte[] content) {
+        this.content = content;
+    }
+
+    /**
+     * The serialized payload. Callers must not modify the returned array.
+     */
+    public byte[] content() {
+        return content;
+    }
+
+    @Override
+    public MediaType contentType() {
+        return JSON_MEDIA_TYPE;
+    }
+
+    @Override
+    public long contentLength() {
+        return content.length;
+    }
+
+    @Override
+    public void writeTo(@NotNull BufferedSink sink) throws IOException {
+        sink.write(content);
+    }
+}
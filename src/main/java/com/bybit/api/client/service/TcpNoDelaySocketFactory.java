@@ -0,0 +1,48 @@
+package com.bybit.api.client.service;
+
+import javax.net.SocketFactory;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+
+/**
+ * Socket factory applying TCP_NODELAY to every socket it creates.
+ */
+public final class TcpNoDelaySocketFactory extends SocketFactory {
+    private final SocketFactory delegate = SocketFactory.getDefault();
+    private final boolean tcpNoDelay;
+
+    public TcpNoDelaySocketFactory(boolean tcpNoDelay) {
+        this.tcpNoDelay = tcpNoDelay;
+    }
+
+    @Override
+    public Socket createSocket() throws IOException {
+        return configure(delegate.createSocket());
+    }
+
+    @Override
+    public Socket createSocket(String host, int port) throws IOException {
+        return configure(delegate.createSocket(host, port));
+    }
+
+    @Override
+    public Socket createSocket(String host, int port, InetAddress localHost, int localPort) throws IOException {
+        return configure(delegate.createSocket(host, port, localHost, localPort));
+    }
+
+    @Override
+    public Socket createSocket(InetAddress host, int port) throws IOException {
+        return configure(delegate.createSocket(host, port));
+    }
+
+    @Override
+    public Socket createSocket(InetAddress address, int port, InetAddress localAddress, int localPort) throws IOException {
+        return configure(delegate.createSocket(address, port, localAddress, localPort));
+    }
+
+    private Socket configure(Socket socket) throws IOException {
+        socket.setTcpNoDelay(tcpNoDelay);
+        return socket;
+    }
+}
@@ -0,0 +1,175 @@
+package com.bybit.api.client.websocket;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Message handler keeping only the latest state of each conflated topic until the consumer asks for it.
+ *
+ * Tickers or the top of the book push every few milliseconds, while a UI or a risk check only needs the latest value
+ * when it gets to run. Each conflated topic has a lock-free slot holding one pending message: the reader thread
+ * replaces it with a newer snapshot, or merges a newer delta into it so that the fields and levels changed by earlier
+ * deltas are not lost, and the consumer takes it by calling {@link #drain(WebsocketMessageHandler)} or {@link #poll()}
+ * at its own pace. Memory is bounded by the number of topics and a slow consumer never holds back the socket.
+ *
+ * Messages of other topics and control frames are passed through to the {@code passThrough} handler as they arrive,
+ * on the reader thread.
+ *
+ * <pre>{@code
+ * ConflatingMessageHandler tickers = new ConflatingMessageHandler(orderHandler);
+ * WebsocketClient client = factory.newWebsocketClient(tickers);
+ * // on each UI refresh
+ * tickers.drain(message -> view.update(message));
+ * }</pre>
+ */
+public class ConflatingMessageHandler implements WebsocketMessageHandler {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConflatingMessageHandler.class);
+
+    /**
+     * {@code tickers.{symbol}} and {@code orderbook.1.{symbol}}; both push deltas on derivatives, which are merged.
+     */
+    public static final List<String> DEFAULT_CONFLATED_PREFIXES = List.of("tickers.", "orderbook.1.");
+
+    private final WebsocketMessageHandler passThrough;
+    private final List<String> conflatedPrefixes;
+    private final ConcurrentMap<String, TopicSlot> topicSlots = new ConcurrentHashMap<>();
+    private final Queue<TopicSlot> readySlots = new ConcurrentLinkedQueue<>();
+    private volatile Runnable readyListener;
+
+    private final LongAdder received = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder conflated = new LongAdder();
+
+    public ConflatingMessageHandler(WebsocketMessageHandler passThrough) {
+        this(passThrough, DEFAULT_CONFLATED_PREFIXES);
+    }
+
+    /**
+     * @param passThrough       receives the messages of the other topics, may be null to ignore them
+     * @param conflatedPrefixes topic prefixes to conflate, matched as by {@link WebsocketTopicRouter}
+     */
+    public ConflatingMessageHandler(WebsocketMessageHandler passThrough, Collection<String> conflatedPrefixes) {
+        this.passThrough = passThrough;
+        this.conflatedPrefixes = List.copyOf(conflatedPrefixes);
+    }
+
+    /**
+     * Called on the reader thread whenever a topic gets a pending message after having been drained, for instance
+     * to schedule a drain on the consumer thread. Not called again for that topic until it is drained.
+     */
+    public ConflatingMessageHandler setReadyListener(Runnable readyListener) {
+        this.readyListener = readyListener;
+        return this;
+    }
+
+    @Override
+    public void handleMessage(String message) {
+        int topicStart = WebsocketTopicRouter.findTopic(message);
+        if (topicStart >= 0 && isConflated(message, topicStart)) {
+            received.increment();
+            TopicSlot slot = topicSlots.computeIfAbsent(WebsocketTopicRouter.readTopic(message, topicStart), key -> new TopicSlot());
+            if (!slot.offer(message)) {
+                conflated.increment();
+                return;
+            }
+            readySlots.add(slot);
+            Runnable listener = readyListener;
+            if (listener != null) {
+                listener.run();
+            }
+        } else if (passThrough != null) {
+            passThrough.handleMessage(message);
+        }
+    }
+
+    private boolean isConflated(String message, int topicStart) {
+        for (String prefix : conflatedPrefixes) {
+            if (WebsocketTopicRouter.matchesTopic(message, topicStart, prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the newest message of the next topic having one pending, or null if there is none.
+     */
+    public String poll() {
+        TopicSlot slot;
+        while ((slot = readySlots.poll()) != null) {
+            String message = slot.take();
+            if (message != null) {
+                delivered.increment();
+                return message;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Hand the newest message of every topic having one pending to {@code consumer}, on the calling thread.
+     * Messages arriving meanwhile are left for the next drain.
+     *
+     * @return the number of messages delivered
+     */
+    public int drain(WebsocketMessageHandler consumer) {
+        int count = 0;
+        for (int pending = readySlots.size(); pending > 0; pending--) {
+            String message = poll();
+            if (message == null) {
+                break;
+            }
+            count++;
+            try {
+                consumer.handleMessage(message);
+            } catch (RuntimeException e) {
+                LOGGER.error("Websocket message handler failed: ", e);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Topics having a message waiting for the consumer.
+     */
+    public int getPendingCount() {
+        return readySlots.size();
+    }
+
+    /**
+     * Conflated topics seen so far.
+     */
+    public int getTopicCount() {
+        return topicSlots.size();
+    }
+
+    /**
+     * Messages of the conflated topics received.
+     */
+    public long getReceivedCount() {
+        return received.sum();
+    }
+
+    public long getDeliveredCount() {
+        return delivered.sum();
+    }
+
+    /**
+     * Messages superseded by, or merged with, a newer message of the same topic before delivery.
+     */
+    public long getConflatedCount() {
+        return conflated.sum();
+    }
+
+    public List<String> getConflatedPrefixes() {
+        return conflatedPrefixes;
+    }
+}
@@ -0,0 +1,96 @@
+package com.bybit.api.client.websocket;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-free bounded multi-producer multi-consumer queue (Vyukov's array queue). Each cell carries a sequence number
+ * telling whether it is free for the producer of a given position or filled for the consumer of that position, so
+ * producers and consumers only contend on their own index.
+ *
+ * @param <E> element type
+ */
+final class MpmcRingBuffer<E> {
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * @param capacity rounded up to a power of two
+     */
+    MpmcRingBuffer(int capacity) {
+        if (capacity < 2 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("capacity must be between 2 and 2^30");
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        mask = size - 1;
+        elements = new AtomicReferenceArray<>(size);
+        sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Returns false if the queue is full.
+     */
+    boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long available = sequences.get(index) - position;
+            if (available == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements.lazySet(index, element);
+                    sequences.lazySet(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (available < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Returns null if the queue is empty.
+     */
+    E poll() {
+        long position = head.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long filled = sequences.get(index) - (position + 1);
+            if (filled == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    E element = elements.get(index);
+                    elements.lazySet(index, null);
+                    sequences.lazySet(index, position + mask + 1);
+                    return element;
+                }
+                position = head.get();
+            } else if (filled < 0) {
+                return null;
+            } else {
+                position = head.get();
+            }
+        }
+    }
+
+    int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, mask + 1));
+    }
+
+    boolean isEmpty() {
+        return tail.get() == head.get();
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+}
@@ -0,0 +1,34 @@
+package com.bybit.api.client.websocket;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Latest undelivered message of a topic. A newer snapshot replaces the pending message and a newer delta is merged
+ * into it by {@link WebsocketDeltaMerger}, so the slot holds at most one message whatever the push rate, and needs
+ * to be queued for delivery only when it goes from empty to pending.
+ */
+final class TopicSlot {
+    private final AtomicReference<String> latest = new AtomicReference<>();
+
+    /**
+     * Returns true if the slot was empty, that is if the caller has to queue it for delivery; false if a pending
+     * message was replaced or updated.
+     */
+    boolean offer(String message) {
+        boolean delta = WebsocketDeltaMerger.isDelta(message);
+        while (true) {
+            String pending = latest.get();
+            String next = pending != null && delta ? WebsocketDeltaMerger.merge(pending, message) : message;
+            if (latest.compareAndSet(pending, next)) {
+                return pending == null;
+            }
+        }
+    }
+
+    /**
+     * Returns the pending message and empties the slot, or null if it was empty.
+     */
+    String take() {
+        return latest.getAndSet(null);
+    }
+}
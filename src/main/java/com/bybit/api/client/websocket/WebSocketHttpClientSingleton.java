@@ -1,37 +1,236 @@
 package com.bybit.api.client.websocket;
 
+import com.bybit.api.client.config.BybitWebsocketConfig;
+import com.bybit.api.client.service.TcpNoDelaySocketFactory;
 import lombok.Getter;
+import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.WebSocket;
 import okhttp3.WebSocketListener;
+import okio.ByteString;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 import static com.bybit.api.client.log.Slf4jLoggingInterceptor.HandleLoggingInterceptor;
 
+/**
+ * Opens websocket connections on one OkHttp client shared by the whole process, so all sockets share a single
+ * dispatcher, reader thread pool and connection pool whatever the number of {@link WebsocketClient}s.
+ *
+ * The shared client is built on first use from the {@link BybitWebsocketConfig} given to {@link #configure}, or from
+ * {@link BybitWebsocketConfig#DEFAULT}. Debug clients add their logging interceptor on top of the shared client and
+ * keep sharing its threads and pools. An instance created with {@link #createInstance(WebSocket.Factory)} opens its
+ * connections with the given factory instead, e.g. an OkHttp client going through a proxy.
+ */
 @Getter
 public final class WebSocketHttpClientSingleton {
+    private static final Object LOCK = new Object();
+    private static final ConcurrentMap<String, OkHttpClient> debugClients = new ConcurrentHashMap<>();
+    private static final AtomicInteger openSockets = new AtomicInteger();
+    private static final LongAdder connects = new LongAdder();
+    private static final LongAdder failures = new LongAdder();
+
+    private static BybitWebsocketConfig config = BybitWebsocketConfig.DEFAULT;
+    private static volatile OkHttpClient sharedClient;
+    private static ThreadPoolExecutor readerExecutor;
+
     private final boolean debugMode;
     private final String logOption;
+    /**
+     * Opens the connections instead of the shared client when not null.
+     */
+    private final WebSocket.Factory socketFactory;
 
-    private WebSocketHttpClientSingleton(boolean debugMode, String logOption) {
+    private WebSocketHttpClientSingleton(boolean debugMode, String logOption, WebSocket.Factory socketFactory) {
         this.debugMode = debugMode;
         this.logOption = logOption;
+        this.socketFactory = socketFactory;
     }
 
     public static WebSocketHttpClientSingleton createInstance(boolean debugMode, String logOption) {
-        return new WebSocketHttpClientSingleton(debugMode, logOption);
+        return new WebSocketHttpClientSingleton(debugMode, logOption, null);
+    }
+
+    /**
+     * Returns an instance opening its connections with {@code socketFactory} rather than the shared client.
+     */
+    public static WebSocketHttpClientSingleton createInstance(WebSocket.Factory socketFactory) {
+        return new WebSocketHttpClientSingleton(false, null, socketFactory);
+    }
+
+    /**
+     * Set the transport settings of the shared client. Must be called before the first websocket connects.
+     *
+     * @throws IllegalStateException if the shared client has already been built
+     */
+    public static void configure(BybitWebsocketConfig websocketConfig) {
+        synchronized (LOCK) {
+            if (sharedClient != null) {
+                throw new IllegalStateException("The shared websocket client is already in use");
+            }
+            config = websocketConfig;
+        }
+    }
+
+    public static BybitWebsocketConfig getConfig() {
+        synchronized (LOCK) {
+            return config;
+        }
+    }
+
+    /**
+     * Returns the OkHttp client shared by every websocket connection, building it on first use.
+     */
+    public static OkHttpClient getSharedClient() {
+        OkHttpClient client = sharedClient;
+        if (client == null) {
+            synchronized (LOCK) {
+                if (sharedClient == null) {
+                    sharedClient = buildClient(config);
+                }
+                client = sharedClient;
+            }
+        }
+        return client;
+    }
+
+    private static OkHttpClient buildClient(BybitWebsocketConfig websocketConfig) {
+        AtomicInteger threadCount = new AtomicInteger();
+        // The reader loop of a websocket occupies its dispatcher thread until the socket closes.
+        readerExecutor = new ThreadPoolExecutor(0, websocketConfig.getMaxConnections(),
+                websocketConfig.getThreadKeepAlive().toMillis(), TimeUnit.MILLISECONDS, new SynchronousQueue<>(),
+                runnable -> new Thread(runnable, "bybit-websocket-" + threadCount.incrementAndGet()));
+        Dispatcher dispatcher = new Dispatcher(readerExecutor);
+        dispatcher.setMaxRequests(websocketConfig.getMaxConnections());
+        dispatcher.setMaxRequestsPerHost(websocketConfig.getMaxConnections());
+        return new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .connectTimeout(websocketConfig.getConnectTimeout())
+                .writeTimeout(websocketConfig.getWriteTimeout())
+                .readTimeout(0, TimeUnit.MILLISECONDS)
+                .pingInterval(websocketConfig.getPingInterval())
+                .socketFactory(new TcpNoDelaySocketFactory(websocketConfig.isTcpNoDelay()))
+                .build();
     }
 
     public OkHttpClient createOkHttpClient(boolean debugMode, String logOption) {
-        OkHttpClient.Builder clientBuilder = new OkHttpClient.Builder();
-        if (debugMode) {
-            HandleLoggingInterceptor(clientBuilder, logOption);
+        if (!debugMode) {
+            return getSharedClient();
         }
-        return clientBuilder.build();
+        return debugClients.computeIfAbsent(logOption, option -> {
+            OkHttpClient.Builder clientBuilder = getSharedClient().newBuilder();
+            HandleLoggingInterceptor(clientBuilder, option);
+            return clientBuilder.build();
+        });
     }
 
-    public void createWebSocket(String url, WebSocketListener listener) {
+    public WebSocket createWebSocket(String url, WebSocketListener listener) {
         Request request = new Request.Builder().url(url).build();
-        OkHttpClient okHttpClient = createOkHttpClient(debugMode, logOption);
-        okHttpClient.newWebSocket(request, listener);
+        WebSocket.Factory factory = socketFactory != null ? socketFactory : createOkHttpClient(debugMode, logOption);
+        connects.increment();
+        return factory.newWebSocket(request, new CountingListener(listener));
+    }
+
+    /**
+     * Number of websocket connections currently open.
+     */
+    public static int getOpenSocketCount() {
+        return openSockets.get();
+    }
+
+    /**
+     * Number of websocket connections requested since startup.
+     */
+    public static long getConnectCount() {
+        return connects.sum();
+    }
+
+    /**
+     * Number of websocket connections that failed, either while connecting or once open.
+     */
+    public static long getFailureCount() {
+        return failures.sum();
+    }
+
+    /**
+     * Number of live reader threads of the shared client.
+     */
+    public static int getThreadCount() {
+        synchronized (LOCK) {
+            return readerExecutor == null ? 0 : readerExecutor.getPoolSize();
+        }
+    }
+
+    /**
+     * Number of connections waiting for a free slot because {@code maxConnections} sockets are already open.
+     */
+    public static int getQueuedConnectCount() {
+        OkHttpClient client = sharedClient;
+        return client == null ? 0 : client.dispatcher().queuedCallsCount();
+    }
+
+    /**
+     * Tracks the open sockets; every other event is passed through unchanged.
+     */
+    private static final class CountingListener extends WebSocketListener {
+        private final WebSocketListener delegate;
+        private final AtomicBoolean open = new AtomicBoolean();
+
+        private CountingListener(WebSocketListener delegate) {
+            this.delegate = delegate;
+        }
+
+        private void released() {
+            if (open.compareAndSet(true, false)) {
+                openSockets.decrementAndGet();
+            }
+        }
+
+        @Override
+        public void onOpen(@NotNull WebSocket webSocket, @NotNull Response response) {
+            if (open.compareAndSet(false, true)) {
+                openSockets.incrementAndGet();
+            }
+            delegate.onOpen(webSocket, response);
+        }
+
+        @Override
+        public void onMessage(@NotNull WebSocket webSocket, @NotNull String text) {
+            delegate.onMessage(webSocket, text);
+        }
+
+        @Override
+        public void onMessage(@NotNull WebSocket webSocket, @NotNull ByteString bytes) {
+            delegate.onMessage(webSocket, bytes);
+        }
+
+        @Override
+        public void onClosing(@NotNull WebSocket webSocket, int code, @NotNull String reason) {
+            delegate.onClosing(webSocket, code, reason);
+        }
+
+        @Override
+        public void onClosed(@NotNull WebSocket webSocket, int code, @NotNull String reason) {
+            released();
+            delegate.onClosed(webSocket, code, reason);
+        }
+
+        @Override
+        public void onFailure(@NotNull WebSocket webSocket, @NotNull Throwable t, @Nullable Response response) {
+            failures.increment();
+            released();
+            delegate.onFailure(webSocket, t, response);
+        }
     }
 }
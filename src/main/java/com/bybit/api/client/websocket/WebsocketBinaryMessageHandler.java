@@ -0,0 +1,17 @@
+package com.bybit.api.client.websocket;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Message handler also accepting frames as raw UTF-8 bytes, so that they can be parsed without first being decoded
+ * to a String. Binary frames larger than a control frame are passed to {@link #handleMessage(ByteBuffer)}; text
+ * frames, which OkHttp decodes itself, and small frames such as acks and pongs still go to
+ * {@link #handleMessage(String)}.
+ */
+public interface WebsocketBinaryMessageHandler extends WebsocketMessageHandler {
+    /**
+     * @param message read-only view of the frame bytes, from its position to its limit. It is only valid during the
+     *                call: copy what must be kept.
+     */
+    void handleMessage(ByteBuffer message);
+}
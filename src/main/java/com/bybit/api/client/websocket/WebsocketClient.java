@@ -3,6 +3,8 @@ package com.bybit.api.client.websocket;
 import okhttp3.WebSocket;
 
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 public interface WebsocketClient {
     void onMessage(String msg);
@@ -11,6 +13,51 @@ public interface WebsocketClient {
     void onOpen(WebSocket ws);
     void connect();
 
+    /**
+     * Close the connection for good; no reconnect is attempted afterwards.
+     */
+    void close();
+
+    /**
+     * How the connection is re-established after it drops, {@link WebsocketReconnectPolicy#DEFAULT} unless set.
+     * After a reconnect the private streams are authenticated again and every topic is subscribed again.
+     */
+    void setReconnectPolicy(WebsocketReconnectPolicy reconnectPolicy);
+
+    /**
+     * Listener notified each time the connection is re-established, so that state built from the stream can be
+     * resynchronised.
+     */
+    void setGapListener(WebsocketGapListener gapListener);
+
+    /**
+     * Listener notified each time the connection drops.
+     */
+    void setDisconnectListener(WebsocketDisconnectListener disconnectListener);
+
+    /**
+     * Whether the connection is open and its topics have been sent.
+     */
+    boolean isConnected();
+
+    /**
+     * Subscribe to more topics on the open connection. Topics already subscribed are skipped, so only new topics
+     * are sent. The future completes once the exchange has acknowledged them, or fails if it rejected them, in
+     * which case they are dropped from the subscription set. Topics added while disconnected are subscribed as
+     * soon as the connection is open.
+     */
+    CompletableFuture<Void> subscribe(List<String> topics);
+
+    /**
+     * Unsubscribe topics on the open connection; topics not subscribed are skipped.
+     */
+    CompletableFuture<Void> unsubscribe(List<String> topics);
+
+    /**
+     * The topics currently subscribed, or to be subscribed when the connection opens.
+     */
+    Set<String> getTopics();
+
     /**
      * Orderbook
      * Subscribe to the orderbook stream. Supports different depths.
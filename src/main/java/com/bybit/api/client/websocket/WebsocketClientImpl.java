@@ -1,19 +1,27 @@
 package com.bybit.api.client.websocket;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.bybit.api.client.config.BybitApiConfig;
-import com.bybit.api.client.security.HmacSHA256Signer;
+import com.bybit.api.client.exception.BybitApiException;
+import com.bybit.api.client.security.CachedHmacSHA256Signer;
 import lombok.Getter;
 import okhttp3.*;
+import okio.ByteString;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -21,10 +29,15 @@ import static com.bybit.api.client.constant.Util.generateTransferID;
 
 @Getter
 public class WebsocketClientImpl implements WebsocketClient {
-    private static final String THREAD_PUBLIC_PING = "thread-public-ping";
-    private static final String THREAD_PRIVATE_AUTH = "thread-private-auth";
-    private static final String THREAD_PRIVATE_PING = "thread-private-ping";
-    private static final String PING_DATA = "{\"op\":\"ping\"}";
+    /**
+     * Bybit accepts at most 10 args per subscribe request on the spot streams; the same limit is used everywhere.
+     */
+    private static final int MAX_ARGS_PER_REQUEST = 10;
+    private static final Duration ACK_TIMEOUT = Duration.ofSeconds(10);
+    /**
+     * Acks, pongs and auth replies are shorter than this; stream pushes are usually longer.
+     */
+    private static final int CONTROL_FRAME_MAX_LENGTH = 512;
     private static final Logger LOGGER = LoggerFactory.getLogger(WebsocketClientImpl.class);
     private static final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -33,6 +46,10 @@ public class WebsocketClientImpl implements WebsocketClient {
 
     private final String apikey;
     private final String secret;
+    /**
+     * Signer of the auth messages, null without a secret.
+     */
+    private final CachedHmacSHA256Signer signer;
     private final String baseUrl;
     private final Boolean debugMode;
     private final String logOption;
@@ -40,21 +57,50 @@ public class WebsocketClientImpl implements WebsocketClient {
     private final String maxAliveTime;
     private List<String> argNames;
     private String path;
+    private volatile WebsocketHeartbeat heartbeat;
+    private volatile WebSocket webSocket;
+    private volatile WebsocketReconnectPolicy reconnectPolicy = WebsocketReconnectPolicy.DEFAULT;
+    private volatile WebsocketGapListener gapListener;
+    private volatile WebsocketDisconnectListener disconnectListener;
+    private final AtomicInteger generation = new AtomicInteger();
+    private volatile boolean closed;
+    private volatile boolean wasConnected;
+    private volatile long disconnectedAtMillis;
+    private volatile int reconnectAttempts;
+    private volatile ScheduledFuture<?> pendingReconnect;
+    private final Set<String> topics = new LinkedHashSet<>();
+    private final WebsocketRequestTracker requestTracker = new WebsocketRequestTracker(ACK_TIMEOUT);
+    /**
+     * Socket on which the current topics have been subscribed, null while connecting.
+     */
+    private WebSocket subscribedSocket;
+    private CompletableFuture<Void> openSubscription = new CompletableFuture<>();
 
     public WebsocketClientImpl(String apikey, String secret, String baseUrl, Integer pingInterval, String maxAliveTime, Boolean debugMode, String logOption, WebsocketMessageHandler messageHandler) {
+        this(apikey, secret, baseUrl, pingInterval, maxAliveTime, debugMode, logOption, messageHandler,
+                WebSocketHttpClientSingleton.createInstance(debugMode, logOption));
+    }
+
+    /**
+     * @param webSocketHttpClientSingleton opens the connections of this client
+     */
+    public WebsocketClientImpl(String apikey, String secret, String baseUrl, Integer pingInterval, String maxAliveTime, Boolean debugMode, String logOption, WebsocketMessageHandler messageHandler, WebSocketHttpClientSingleton webSocketHttpClientSingleton) {
         this.messageHandler = messageHandler;
         this.apikey = apikey;
         this.secret = secret;
+        this.signer = secret == null ? null : new CachedHmacSHA256Signer(secret);
         this.baseUrl = baseUrl;
         this.pingInterval = pingInterval;
         this.debugMode = debugMode;
         this.logOption = logOption;
         this.maxAliveTime = maxAliveTime;
-        webSocketHttpClientSingleton = WebSocketHttpClientSingleton.createInstance(this.debugMode, this.logOption);
+        this.webSocketHttpClientSingleton = webSocketHttpClientSingleton;
     }
 
-    private void setupPublicChannelStream(List<String> argNames, String path) {
-        this.argNames = new ArrayList<>(argNames);
+    private synchronized void setupPublicChannelStream(List<String> argNames, String path) {
+        topics.clear();
+        topics.addAll(argNames);
+        this.argNames = new ArrayList<>(topics);
         this.path = path;
     }
 
@@ -68,52 +114,154 @@ public class WebsocketClientImpl implements WebsocketClient {
         }
     }
 
-    private void sendSubscribeMessage(WebSocket ws) {
-        Map<String, Object> subscribeMsg = createSubscribeMessage();
-        sendJsonMessage(ws, subscribeMsg, "Subscribe");
+    /**
+     * Send the topics in requests of at most {@value #MAX_ARGS_PER_REQUEST} args; the future completes once every
+     * request has been acknowledged. Topics of a rejected subscribe request are dropped from the subscription set.
+     */
+    private CompletableFuture<Void> sendTopicRequests(WebSocket ws, String op, List<String> requestTopics) {
+        List<CompletableFuture<JsonNode>> acks = new ArrayList<>();
+        for (int from = 0; from < requestTopics.size(); from += MAX_ARGS_PER_REQUEST) {
+            List<String> chunk = requestTopics.subList(from, Math.min(from + MAX_ARGS_PER_REQUEST, requestTopics.size()));
+            Map<String, Object> topicMsg = createTopicMessage(op, chunk);
+            CompletableFuture<JsonNode> ack = requestTracker.register((String) topicMsg.get("req_id")).thenApply(response -> checkAck(op, response));
+            if ("subscribe".equals(op)) {
+                List<String> chunkTopics = new ArrayList<>(chunk);
+                ack.whenComplete((response, error) -> {
+                    if (error != null && error.getCause() instanceof BybitApiException) {
+                        forgetTopics(chunkTopics);
+                    }
+                });
+            }
+            acks.add(ack);
+            sendJsonMessage(ws, topicMsg, op);
+        }
+        return CompletableFuture.allOf(acks.toArray(new CompletableFuture<?>[0]));
     }
 
     @NotNull
-    private Map<String, Object> createSubscribeMessage() {
-        Map<String, Object> subscribeMsg = new LinkedHashMap<>();
-        subscribeMsg.put("op", "subscribe");
-        subscribeMsg.put("req_id", generateTransferID());
-        subscribeMsg.put("args", argNames);
-        return subscribeMsg;
+    private Map<String, Object> createTopicMessage(String op, List<String> args) {
+        Map<String, Object> topicMsg = new LinkedHashMap<>();
+        topicMsg.put("op", op);
+        topicMsg.put("req_id", generateTransferID());
+        topicMsg.put("args", new ArrayList<>(args));
+        return topicMsg;
     }
 
-    private boolean requiresAuthentication(String path) {
-        return BybitApiConfig.V5_PRIVATE.equals(path) ||
-                BybitApiConfig.V3_CONTRACT_PRIVATE.equals(path) ||
-                BybitApiConfig.V3_UNIFIED_PRIVATE.equals(path) ||
-                BybitApiConfig.V3_SPOT_PRIVATE.equals(path);
+    private static JsonNode checkAck(String op, JsonNode ack) {
+        if (!ack.path("success").asBoolean(false)) {
+            throw new BybitApiException(op + " failed: " + ack.path("ret_msg").asText());
+        }
+        return ack;
     }
 
-    @NotNull
-    private Thread createPingThread(WebSocket ws) {
-        return new Thread(() -> {
-            try {
-                while (true) {
-                    if (ws != null) { // check if the WebSocket is still valid
-                        ws.send(PING_DATA);
-                        LOGGER.info(PING_DATA);
-                        TimeUnit.SECONDS.sleep(pingInterval); // waits for 10 seconds before the next iteration
-                    } else {
-                        break;
-                    }
+    /**
+     * Route short control messages carrying a {@code req_id}, e.g. subscribe acks, to the request waiting for them.
+     */
+    private void handleAck(String msg) {
+        if (requestTracker.isEmpty() || msg.length() > CONTROL_FRAME_MAX_LENGTH || !msg.contains("\"req_id\"")) {
+            return;
+        }
+        try {
+            JsonNode ack = objectMapper.readTree(msg);
+            String reqId = ack.path("req_id").asText("");
+            if (!reqId.isEmpty()) {
+                requestTracker.complete(reqId, ack);
+            }
+        } catch (JsonProcessingException e) {
+            LOGGER.warn("Unreadable websocket response: {}", msg);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> subscribe(List<String> newTopics) {
+        List<String> added = new ArrayList<>();
+        CompletableFuture<Void> sent;
+        synchronized (this) {
+            for (String topic : newTopics) {
+                if (topics.add(topic)) {
+                    added.add(topic);
                 }
-            } catch (InterruptedException e) {
-                LOGGER.error("Ping thread was interrupted", e);
-                Thread.currentThread().interrupt();
             }
+            if (added.isEmpty()) {
+                return CompletableFuture.completedFuture(null);
+            }
+            argNames = new ArrayList<>(topics);
+            if (subscribedSocket == null) {
+                // Subscribed together with the other topics as soon as the connection is open.
+                return openSubscription.copy();
+            }
+            sent = sendTopicRequests(subscribedSocket, "subscribe", added);
+        }
+        return sent.handle((ack, error) -> error).thenCompose(error -> {
+            if (error == null) {
+                return CompletableFuture.completedFuture(null);
+            }
+            Throwable cause = error.getCause() != null ? error.getCause() : error;
+            if (cause instanceof IOException) {
+                // The connection dropped, the topics are subscribed again on the next one.
+                return awaitOpenSubscription();
+            }
+            return CompletableFuture.failedFuture(cause);
         });
     }
 
+    @Override
+    public CompletableFuture<Void> unsubscribe(List<String> oldTopics) {
+        List<String> removed = new ArrayList<>();
+        CompletableFuture<Void> sent;
+        synchronized (this) {
+            for (String topic : oldTopics) {
+                if (topics.remove(topic)) {
+                    removed.add(topic);
+                }
+            }
+            if (removed.isEmpty()) {
+                return CompletableFuture.completedFuture(null);
+            }
+            argNames = new ArrayList<>(topics);
+            if (subscribedSocket == null) {
+                // The topics will not be subscribed on the next connection.
+                return CompletableFuture.completedFuture(null);
+            }
+            sent = sendTopicRequests(subscribedSocket, "unsubscribe", removed);
+        }
+        return sent.handle((ack, error) -> {
+            Throwable cause = error != null && error.getCause() != null ? error.getCause() : error;
+            if (cause == null || cause instanceof IOException) {
+                return null;
+            }
+            throw new BybitApiException("unsubscribe failed", cause);
+        });
+    }
+
+    @Override
+    public synchronized Set<String> getTopics() {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(topics));
+    }
+
+    private synchronized void forgetTopics(List<String> rejected) {
+        topics.removeAll(rejected);
+        argNames = new ArrayList<>(topics);
+    }
+
+    private synchronized CompletableFuture<Void> awaitOpenSubscription() {
+        return openSubscription.copy();
+    }
+
+    private boolean requiresAuthentication(String path) {
+        return BybitApiConfig.V5_PRIVATE.equals(path) ||
+                BybitApiConfig.V3_CONTRACT_PRIVATE.equals(path) ||
+                BybitApiConfig.V3_UNIFIED_PRIVATE.equals(path) ||
+                BybitApiConfig.V3_SPOT_PRIVATE.equals(path);
+    }
+
     @NotNull
     private Map<String, Object> createAuthMessage() {
         long expires = Instant.now().toEpochMilli() + 10000;
-        String val = "GET/realtime" + expires;
-        String signature = HmacSHA256Signer.auth(val, secret);
+        if (signer == null) {
+            throw new BybitApiException("Authenticated endpoints require keys.");
+        }
+        String signature = signer.auth("GET/realtime", expires);
 
         var args = List.of(apikey, expires, signature);
         return Map.of("req_id", generateTransferID(), "op", "auth", "args", args);
@@ -124,20 +272,6 @@ public class WebsocketClientImpl implements WebsocketClient {
         sendJsonMessage(ws, authMessage, "Auth");
     }
 
-    @NotNull
-    private Thread createAuthThread(WebSocket ws, Runnable afterAuth) {
-        return new Thread(() -> {
-            try {
-                sendAuthMessage(ws);
-                if (afterAuth != null) {
-                    afterAuth.run();
-                }
-            } catch (Exception e) {
-                LOGGER.error("Error during authentication: ", e);
-            }
-        });
-    }
-
     @NotNull
     private String getWssUrl() {
         Pattern pattern = Pattern.compile("(\\d+)([sm])");
@@ -161,33 +295,69 @@ public class WebsocketClientImpl implements WebsocketClient {
         return timeValue >= minValue && timeValue <= maxValue;
     }
 
+    /**
+     * Events of a superseded connection, e.g. the late failure of a socket already replaced by a reconnect, are
+     * ignored.
+     */
     @NotNull
-    private WebSocketListener createWebSocketListener() {
+    private WebSocketListener createWebSocketListener(int connectionGeneration) {
         return new WebSocketListener() {
+            private boolean isCurrent() {
+                return generation.get() == connectionGeneration;
+            }
+
+            @Override
+            public void onClosing(@NotNull WebSocket webSocket, int code, @NotNull String reason) {
+                // Answer the server's close frame so that the socket is released and onClosed follows.
+                webSocket.close(code, null);
+            }
+
             @Override
             public void onClosed(@NotNull WebSocket webSocket, int code, @NotNull String reason) {
-                WebsocketClientImpl.this.onClose(code, reason);
+                if (isCurrent()) {
+                    WebsocketClientImpl.this.onClose(code, reason);
+                }
             }
 
             @Override
             public void onFailure(@NotNull WebSocket webSocket, @NotNull Throwable t, @Nullable Response response) {
-                WebsocketClientImpl.this.onError(t);
+                if (isCurrent()) {
+                    WebsocketClientImpl.this.onError(t);
+                }
             }
 
             @Override
             public void onMessage(@NotNull WebSocket webSocket, @NotNull String text) {
-                WebsocketClientImpl.this.onMessage(text);
+                if (isCurrent()) {
+                    WebsocketClientImpl.this.onMessage(text);
+                }
+            }
+
+            @Override
+            public void onMessage(@NotNull WebSocket webSocket, @NotNull ByteString bytes) {
+                if (isCurrent()) {
+                    WebsocketClientImpl.this.onMessage(bytes);
+                }
             }
 
             @Override
             public void onOpen(@NotNull WebSocket webSocket, @NotNull Response response) {
-                WebsocketClientImpl.this.onOpen(webSocket);
+                if (isCurrent()) {
+                    WebsocketClientImpl.this.onOpen(webSocket);
+                } else {
+                    webSocket.close(1000, null);
+                }
             }
         };
     }
 
     @Override
     public void onMessage(String msg) {
+        WebsocketHeartbeat currentHeartbeat = heartbeat;
+        if (currentHeartbeat != null && WebsocketHeartbeat.isPong(msg)) {
+            currentHeartbeat.onPong();
+        }
+        handleAck(msg);
         if (messageHandler != null) {
             messageHandler.handleMessage(msg);
         } else {
@@ -195,42 +365,212 @@ public class WebsocketClientImpl implements WebsocketClient {
         }
     }
 
+    /**
+     * Binary frames go to a {@link WebsocketBinaryMessageHandler} as bytes, without decoding; small frames, which
+     * may be control replies, and frames for other handlers are decoded and take the text path.
+     */
+    private void onMessage(ByteString bytes) {
+        WebsocketMessageHandler handler = messageHandler;
+        if (bytes.size() <= CONTROL_FRAME_MAX_LENGTH || !(handler instanceof WebsocketBinaryMessageHandler)) {
+            onMessage(bytes.utf8());
+            return;
+        }
+        ((WebsocketBinaryMessageHandler) handler).handleMessage(bytes.asByteBuffer());
+    }
+
     @Override
     public void onError(Throwable t) {
+        stopHeartbeat();
         LOGGER.error(t.getMessage());
+        IOException cause = new IOException("Websocket connection failed", t);
+        connectionLost(cause);
+        notifyDisconnect(cause);
+        scheduleReconnect();
     }
 
     @Override
     public void onClose(int code, String reason) {
+        stopHeartbeat();
         LOGGER.warn("websocket connection is about to close: " + reason);
+        IOException cause = new IOException("Websocket connection closed: " + reason);
+        connectionLost(cause);
+        notifyDisconnect(cause);
+        scheduleReconnect();
     }
 
     @Override
     public void onOpen(WebSocket ws) {
-        // Start the ping thread immediately.
-        Thread pingThread = createPingThread(ws);
-        pingThread.setName(THREAD_PUBLIC_PING); // Default to public ping name
-        pingThread.start();
-
-        // If it requires authentication, authenticate first, then subscribe.
-        if (requiresAuthentication(path)) {
-            Thread authThread = createAuthThread(ws, () -> {
-                // After auth, send a subscribed message.
-                sendSubscribeMessage(ws);
-            });
-            authThread.start();
-            pingThread.setName(THREAD_PRIVATE_PING);
-        } else {
-            // If no authentication is needed, just send the subscribed message.
-            sendSubscribeMessage(ws);
+        webSocket = ws;
+        // Start the heartbeat immediately.
+        stopHeartbeat();
+        heartbeat = WebsocketHeartbeat.start(ws, pingInterval);
+        boolean reconnected = wasConnected;
+        wasConnected = true;
+        reconnectAttempts = 0;
+
+        synchronized (this) {
+            // If it requires authentication, authenticate first, then subscribe. Frames are sent in order, so the
+            // subscription is processed after the authentication.
+            if (requiresAuthentication(path)) {
+                sendAuthMessage(ws);
+            }
+            CompletableFuture<Void> subscription = openSubscription;
+            if (topics.isEmpty()) {
+                subscription.complete(null);
+            } else {
+                sendTopicRequests(ws, "subscribe", new ArrayList<>(topics)).whenComplete((ack, error) -> {
+                    if (error != null) {
+                        subscription.completeExceptionally(error);
+                    } else {
+                        subscription.complete(null);
+                    }
+                });
+            }
+            subscribedSocket = ws;
+        }
+        if (reconnected) {
+            notifyGap();
+        }
+    }
+
+    private void notifyGap() {
+        long downtimeMillis = System.currentTimeMillis() - disconnectedAtMillis;
+        LOGGER.warn("Reconnected to {} after {} ms, stream data may have been missed", path, downtimeMillis);
+        WebsocketGapListener listener = gapListener;
+        if (listener != null) {
+            try {
+                listener.onGap(path, Collections.unmodifiableList(new ArrayList<>(argNames)), downtimeMillis);
+            } catch (RuntimeException e) {
+                LOGGER.error("Gap listener failed: ", e);
+            }
+        }
+    }
+
+    private void notifyDisconnect(Throwable cause) {
+        WebsocketDisconnectListener listener = disconnectListener;
+        if (listener != null) {
+            try {
+                listener.onDisconnect(path, cause);
+            } catch (RuntimeException e) {
+                LOGGER.error("Disconnect listener failed: ", e);
+            }
+        }
+    }
+
+    /**
+     * Forget the socket that dropped; requests still waiting for an ack follow the subscription of the next one.
+     */
+    private synchronized void connectionLost(Throwable cause) {
+        webSocket = null;
+        subscribedSocket = null;
+        if (openSubscription.isDone()) {
+            openSubscription = new CompletableFuture<>();
+        }
+        requestTracker.failAll(cause);
+    }
+
+    private synchronized void scheduleReconnect() {
+        if (closed || pendingReconnect != null) {
+            return;
+        }
+        if (reconnectAttempts == 0) {
+            disconnectedAtMillis = System.currentTimeMillis();
+        }
+        if (!reconnectPolicy.shouldRetry(reconnectAttempts)) {
+            LOGGER.error("Giving up reconnecting to {} after {} attempts", path, reconnectAttempts);
+            return;
+        }
+        long delayMillis = reconnectPolicy.delayMillis(reconnectAttempts);
+        reconnectAttempts++;
+        LOGGER.info("Reconnecting to {} in {} ms (attempt {})", path, delayMillis, reconnectAttempts);
+        pendingReconnect = WebsocketScheduler.get().schedule(() -> {
+            synchronized (this) {
+                pendingReconnect = null;
+                // Checked and acted on under the lock, so that a concurrent close() is never undone.
+                if (!closed) {
+                    openSocket();
+                }
+            }
+        }, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void stopHeartbeat() {
+        WebsocketHeartbeat currentHeartbeat = heartbeat;
+        if (currentHeartbeat != null) {
+            currentHeartbeat.cancel();
         }
     }
 
+    /**
+     * Open a new connection, replacing the current one if any: the previous socket is closed and its pending
+     * requests follow the subscription of the new one.
+     */
     @Override
-    public void connect() {
+    public synchronized void connect() {
+        closed = false;
+        if (pendingReconnect != null) {
+            pendingReconnect.cancel(false);
+            pendingReconnect = null;
+        }
+        WebSocket previous = webSocket;
+        if (previous != null) {
+            stopHeartbeat();
+            // Invalidate the listener first so that the closing handshake does not trigger a reconnect.
+            generation.incrementAndGet();
+            connectionLost(new IOException("Websocket connection replaced"));
+            disconnectedAtMillis = System.currentTimeMillis();
+            previous.close(1000, "client reconnecting");
+        }
+        openSocket();
+    }
+
+    /**
+     * Create the socket of a new connection generation. Called with the lock held, by {@link #connect()} and by
+     * the reconnect task, which must not clear {@link #closed}.
+     */
+    private void openSocket() {
         String wssUrl = getWssUrl();
         LOGGER.info(wssUrl);
-        webSocketHttpClientSingleton.createWebSocket(wssUrl, createWebSocketListener());
+        webSocket = webSocketHttpClientSingleton.createWebSocket(wssUrl, createWebSocketListener(generation.incrementAndGet()));
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (pendingReconnect != null) {
+            pendingReconnect.cancel(false);
+            pendingReconnect = null;
+        }
+        stopHeartbeat();
+        // Invalidate the listener so that the closing handshake does not trigger a reconnect.
+        generation.incrementAndGet();
+        WebSocket ws = webSocket;
+        webSocket = null;
+        subscribedSocket = null;
+        requestTracker.failAll(new IllegalStateException("Websocket client closed"));
+        if (ws != null) {
+            ws.close(1000, "client closed");
+        }
+    }
+
+    @Override
+    public void setReconnectPolicy(WebsocketReconnectPolicy reconnectPolicy) {
+        this.reconnectPolicy = reconnectPolicy;
+    }
+
+    @Override
+    public void setGapListener(WebsocketGapListener gapListener) {
+        this.gapListener = gapListener;
+    }
+
+    @Override
+    public void setDisconnectListener(WebsocketDisconnectListener disconnectListener) {
+        this.disconnectListener = disconnectListener;
+    }
+
+    @Override
+    public synchronized boolean isConnected() {
+        return subscribedSocket != null;
     }
 
     @Override
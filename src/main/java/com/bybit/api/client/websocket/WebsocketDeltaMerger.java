@@ -0,0 +1,119 @@
+package com.bybit.api.client.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Folds a {@code "type":"delta"} push into the pending message of its topic, so that conflating a delta stream
+ * does not lose the fields or levels changed by the deltas it replaces.
+ *
+ * Fields of the delta's {@code data} object overwrite those of the pending message, as for tickers, where a delta
+ * only carries the fields that changed. The {@code b} and {@code a} order book sides are merged level by level: into
+ * a pending snapshot, a level of size zero is removed and the book is cut back to the depth of the topic; into a
+ * pending delta, the newer level of a price wins, size zero included. The merged message keeps the type of the
+ * pending one. Messages whose {@code data} is not an object cannot be merged and the newest one is kept.
+ */
+final class WebsocketDeltaMerger {
+    private static final Logger LOGGER = LoggerFactory.getLogger(WebsocketDeltaMerger.class);
+    private static final String DELTA_TYPE = "\"type\":\"delta\"";
+    private static final String SNAPSHOT = "snapshot";
+    private static final String ORDER_BOOK_PREFIX = "orderbook.";
+    private static final String BIDS = "b";
+    private static final String ASKS = "a";
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private WebsocketDeltaMerger() {
+    }
+
+    static boolean isDelta(String message) {
+        return message.contains(DELTA_TYPE);
+    }
+
+    /**
+     * Returns {@code pending} updated with {@code delta}.
+     */
+    static String merge(String pending, String delta) {
+        try {
+            JsonNode base = objectMapper.readTree(pending);
+            JsonNode update = objectMapper.readTree(delta);
+            if (!base.path("data").isObject() || !update.path("data").isObject()) {
+                return delta;
+            }
+            ObjectNode merged = (ObjectNode) base;
+            ObjectNode data = (ObjectNode) merged.get("data");
+            boolean snapshot = SNAPSHOT.equals(merged.path("type").asText());
+            Iterator<Map.Entry<String, JsonNode>> fields = update.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                if (!"data".equals(field.getKey()) && !"type".equals(field.getKey())) {
+                    merged.set(field.getKey(), field.getValue());
+                }
+            }
+            int depth = depth(merged.path("topic").asText());
+            Iterator<Map.Entry<String, JsonNode>> changes = update.get("data").fields();
+            while (changes.hasNext()) {
+                Map.Entry<String, JsonNode> change = changes.next();
+                String key = change.getKey();
+                if ((BIDS.equals(key) || ASKS.equals(key)) && change.getValue().isArray() && data.path(key).isArray()) {
+                    data.set(key, mergeLevels(data.get(key), change.getValue(), snapshot, BIDS.equals(key), depth));
+                } else {
+                    data.set(key, change.getValue());
+                }
+            }
+            return objectMapper.writeValueAsString(merged);
+        } catch (JsonProcessingException | NumberFormatException e) {
+            LOGGER.warn("Unable to merge websocket delta, keeping the newest message: {}", e.getMessage());
+            return delta;
+        }
+    }
+
+    private static ArrayNode mergeLevels(JsonNode levels, JsonNode changes, boolean snapshot, boolean bids, int depth) {
+        Map<String, JsonNode> byPrice = new LinkedHashMap<>();
+        levels.forEach(level -> byPrice.put(level.path(0).asText(), level));
+        changes.forEach(level -> {
+            String price = level.path(0).asText();
+            if (snapshot && new BigDecimal(level.path(1).asText()).signum() == 0) {
+                byPrice.remove(price);
+            } else {
+                byPrice.put(price, level);
+            }
+        });
+        List<JsonNode> sorted = new ArrayList<>(byPrice.values());
+        if (snapshot) {
+            Comparator<JsonNode> byPriceAscending = Comparator.comparing(level -> new BigDecimal(level.path(0).asText()));
+            sorted.sort(bids ? byPriceAscending.reversed() : byPriceAscending);
+            if (depth > 0 && sorted.size() > depth) {
+                sorted = sorted.subList(0, depth);
+            }
+        }
+        return objectMapper.createArrayNode().addAll(sorted);
+    }
+
+    /**
+     * Depth of an {@code orderbook.{depth}.{symbol}} topic, or 0 for other topics.
+     */
+    private static int depth(String topic) {
+        if (!topic.startsWith(ORDER_BOOK_PREFIX)) {
+            return 0;
+        }
+        int end = topic.indexOf('.', ORDER_BOOK_PREFIX.length());
+        try {
+            return end < 0 ? 0 : Integer.parseInt(topic.substring(ORDER_BOOK_PREFIX.length(), end));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
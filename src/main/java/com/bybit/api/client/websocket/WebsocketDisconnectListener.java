@@ -0,0 +1,13 @@
+package com.bybit.api.client.websocket;
+
+/**
+ * Notified when a websocket connection drops, before any reconnect is scheduled.
+ */
+@FunctionalInterface
+public interface WebsocketDisconnectListener {
+    /**
+     * @param path  the stream path, e.g. {@code /v5/public/linear}
+     * @param cause why the connection dropped
+     */
+    void onDisconnect(String path, Throwable cause);
+}
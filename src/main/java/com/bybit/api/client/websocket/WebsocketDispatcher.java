@@ -0,0 +1,241 @@
+package com.bybit.api.client.websocket;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Message handler moving stream processing off the websocket reader thread: messages are put in a lock-free bounded
+ * ring buffer and handed to the downstream handler by a dedicated consumer thread, so a slow handler no longer
+ * stalls reads from the socket.
+ *
+ * When the consumer falls behind, the {@link OverflowPolicy} decides what happens to the reader thread and to the
+ * messages. One dispatcher may serve several connections.
+ *
+ * <pre>{@code
+ * WebsocketDispatcher dispatcher = new WebsocketDispatcher(handler, 8192, WebsocketDispatcher.OverflowPolicy.DROP_OLDEST);
+ * WebsocketClient client = factory.newWebsocketClient(dispatcher);
+ * }</pre>
+ */
+public class WebsocketDispatcher implements WebsocketMessageHandler, AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(WebsocketDispatcher.class);
+    private static final AtomicInteger threadCount = new AtomicInteger();
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long BLOCKED_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    public enum OverflowPolicy {
+        /**
+         * Hold the reader thread until there is room. Nothing is lost, but the socket is not read meanwhile and the
+         * exchange may drop a connection that lags too far.
+         */
+        BLOCK,
+        /**
+         * Discard the oldest queued message to make room for the new one.
+         */
+        DROP_OLDEST,
+        /**
+         * Keep at most one pending message per topic: a snapshot replaces the pending message of its topic and a
+         * delta is merged into it instead of being queued. Meant for streams such as tickers, where only the latest
+         * value matters. Messages without a topic are queued as they are.
+         */
+        CONFLATE_LATEST_PER_TOPIC
+    }
+
+    private final WebsocketMessageHandler downstream;
+    private final OverflowPolicy overflowPolicy;
+    private final MpmcRingBuffer<Object> ringBuffer;
+    private final ConcurrentMap<String, TopicSlot> topicSlots = new ConcurrentHashMap<>();
+    private final Thread consumer;
+    private volatile boolean running = true;
+    private volatile boolean consumerWaiting;
+
+    private final LongAdder received = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder conflated = new LongAdder();
+    private final LongAdder blocked = new LongAdder();
+    private volatile int maxQueueDepth;
+
+    /**
+     * @param downstream     receives the messages on the consumer thread
+     * @param capacity       queued messages at most, rounded up to a power of two
+     * @param overflowPolicy what to do when the queue is full
+     */
+    public WebsocketDispatcher(WebsocketMessageHandler downstream, int capacity, OverflowPolicy overflowPolicy) {
+        this.downstream = downstream;
+        this.overflowPolicy = overflowPolicy;
+        this.ringBuffer = new MpmcRingBuffer<>(capacity);
+        this.consumer = new Thread(this::consume, "bybit-websocket-dispatcher-" + threadCount.incrementAndGet());
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    @Override
+    public void handleMessage(String message) {
+        if (!running) {
+            dropped.increment();
+            return;
+        }
+        received.increment();
+        if (overflowPolicy == OverflowPolicy.CONFLATE_LATEST_PER_TOPIC) {
+            int topicStart = WebsocketTopicRouter.findTopic(message);
+            if (topicStart >= 0) {
+                conflate(WebsocketTopicRouter.readTopic(message, topicStart), message);
+                return;
+            }
+        }
+        enqueue(message);
+    }
+
+    private void conflate(String topic, String message) {
+        TopicSlot slot = topicSlots.computeIfAbsent(topic, key -> new TopicSlot());
+        if (!slot.offer(message)) {
+            // The pending message of the topic was replaced, the slot is already queued.
+            conflated.increment();
+            return;
+        }
+        enqueue(slot);
+    }
+
+    private void enqueue(Object entry) {
+        boolean wasBlocked = false;
+        while (!ringBuffer.offer(entry)) {
+            if (overflowPolicy == OverflowPolicy.BLOCK) {
+                if (!running) {
+                    dropped.increment();
+                    return;
+                }
+                if (!wasBlocked) {
+                    blocked.increment();
+                    wasBlocked = true;
+                }
+                LockSupport.parkNanos(this, BLOCKED_PARK_NANOS);
+            } else {
+                discard(ringBuffer.poll());
+            }
+        }
+        int depth = ringBuffer.size();
+        if (depth > maxQueueDepth) {
+            maxQueueDepth = depth;
+        }
+        if (consumerWaiting) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    private void discard(Object entry) {
+        if (entry instanceof TopicSlot) {
+            if (((TopicSlot) entry).take() != null) {
+                dropped.increment();
+            }
+        } else if (entry != null) {
+            dropped.increment();
+        }
+    }
+
+    private void consume() {
+        while (running || !ringBuffer.isEmpty()) {
+            Object entry = ringBuffer.poll();
+            if (entry == null) {
+                consumerWaiting = true;
+                if (ringBuffer.isEmpty() && running) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                consumerWaiting = false;
+                continue;
+            }
+            String message = entry instanceof TopicSlot ? ((TopicSlot) entry).take() : (String) entry;
+            if (message == null) {
+                continue;
+            }
+            try {
+                downstream.handleMessage(message);
+            } catch (RuntimeException e) {
+                LOGGER.error("Websocket message handler failed: ", e);
+            }
+            delivered.increment();
+        }
+    }
+
+    /**
+     * Messages waiting for the consumer.
+     */
+    public int getQueueDepth() {
+        return ringBuffer.size();
+    }
+
+    public int getMaxQueueDepth() {
+        return maxQueueDepth;
+    }
+
+    public int getCapacity() {
+        return ringBuffer.capacity();
+    }
+
+    public long getReceivedCount() {
+        return received.sum();
+    }
+
+    public long getDeliveredCount() {
+        return delivered.sum();
+    }
+
+    /**
+     * Messages discarded because the queue was full or the dispatcher closed.
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Messages superseded by, or merged with, a newer message of the same topic before delivery.
+     */
+    public long getConflatedCount() {
+        return conflated.sum();
+    }
+
+    /**
+     * Number of times the reader thread had to wait for room in the queue.
+     */
+    public long getBlockedCount() {
+        return blocked.sum();
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * Stop accepting messages, deliver the queued ones and stop the consumer thread.
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(consumer);
+        if (Thread.currentThread() != consumer) {
+            try {
+                consumer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "WebsocketDispatcher[policy=" + overflowPolicy +
+                ",depth=" + getQueueDepth() +
+                ",maxDepth=" + maxQueueDepth +
+                ",received=" + getReceivedCount() +
+                ",delivered=" + getDeliveredCount() +
+                ",dropped=" + getDroppedCount() +
+                ",conflated=" + getConflatedCount() +
+                ",blocked=" + getBlockedCount() + "]";
+    }
+}
@@ -0,0 +1,18 @@
+package com.bybit.api.client.websocket;
+
+import java.util.List;
+
+/**
+ * Notified when a websocket connection has been re-established after a drop. Messages pushed while the connection
+ * was down are lost, so local state built from the stream, such as order books or open orders, should be
+ * resynchronised from REST.
+ */
+@FunctionalInterface
+public interface WebsocketGapListener {
+    /**
+     * @param path           the stream path, e.g. {@code /v5/public/linear}
+     * @param topics         the topics subscribed again on the new connection
+     * @param downtimeMillis time between the drop and the new connection being open
+     */
+    void onGap(String path, List<String> topics, long downtimeMillis);
+}
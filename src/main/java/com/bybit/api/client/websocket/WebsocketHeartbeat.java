@@ -0,0 +1,167 @@
+package com.bybit.api.client.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.WebSocket;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Application level heartbeat of one websocket connection, with the round trip time of its pongs.
+ *
+ * Pings of every connection are sent from a single shared scheduler thread; sending only enqueues the frame on
+ * the socket, so one thread serves any number of connections. The heartbeat stops by itself once the socket
+ * refuses the ping, and must be cancelled when the connection closes or fails. A connection missing
+ * {@value #MAX_MISSED_PONGS} pongs in a row is cancelled, which reports it as failed to its listener.
+ */
+public final class WebsocketHeartbeat {
+    private static final Logger LOGGER = LoggerFactory.getLogger(WebsocketHeartbeat.class);
+    private static final String PING_DATA = "{\"op\":\"ping\"}";
+    private static final String PONG = "pong";
+    /**
+     * Pongs are around a hundred characters; longer messages are not parsed.
+     */
+    private static final int PONG_MAX_LENGTH = 256;
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    /**
+     * Consecutive unanswered pings after which the connection is considered dead and cancelled.
+     */
+    private static final int MAX_MISSED_PONGS = 2;
+
+    private final WebSocket ws;
+    private volatile ScheduledFuture<?> task;
+    private volatile long pingSentNanos;
+    private volatile long lastRttNanos = -1;
+    private volatile long maxRttNanos = -1;
+    private volatile long pongCount;
+    private volatile long missedPongCount;
+    private int consecutiveMissedPongs;
+
+    private WebsocketHeartbeat(WebSocket ws) {
+        this.ws = ws;
+    }
+
+    /**
+     * Send a ping on the socket now and then every {@code intervalSeconds}. A non-positive interval disables the
+     * heartbeat: no ping is sent and the connection is never dropped for missing pongs.
+     */
+    public static WebsocketHeartbeat start(WebSocket ws, long intervalSeconds) {
+        WebsocketHeartbeat heartbeat = new WebsocketHeartbeat(ws);
+        if (intervalSeconds > 0) {
+            heartbeat.task = WebsocketScheduler.get().scheduleAtFixedRate(heartbeat::ping, 0, intervalSeconds, TimeUnit.SECONDS);
+        }
+        return heartbeat;
+    }
+
+    /**
+     * Whether a message is the exchange's answer to a ping, i.e. {@code {"success":true,"ret_msg":"pong",...}} on
+     * public streams or {@code {"op":"pong",...}} on private and trade ones. Only short messages are parsed, so it is
+     * cheap enough to call on every message.
+     */
+    public static boolean isPong(String message) {
+        if (message.length() >= PONG_MAX_LENGTH || !message.contains(PONG)) {
+            return false;
+        }
+        try {
+            return isPong(objectMapper.readTree(message));
+        } catch (JsonProcessingException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Whether an already parsed message is the exchange's answer to a ping, see {@link #isPong(String)}.
+     */
+    public static boolean isPong(JsonNode message) {
+        return PONG.equals(message.path("op").asText()) || PONG.equals(message.path("ret_msg").asText());
+    }
+
+    private void ping() {
+        if (pingSentNanos != 0) {
+            missedPongCount++;
+            if (++consecutiveMissedPongs >= MAX_MISSED_PONGS) {
+                LOGGER.warn("No pong received for {} pings, dropping the connection", consecutiveMissedPongs);
+                cancel();
+                ws.cancel();
+                return;
+            }
+        } else {
+            consecutiveMissedPongs = 0;
+        }
+        // Set before sending: the pong may be read before send returns.
+        pingSentNanos = System.nanoTime();
+        if (!ws.send(PING_DATA)) {
+            // The socket is closing or already gone.
+            cancel();
+            return;
+        }
+        LOGGER.debug(PING_DATA);
+    }
+
+    /**
+     * Record the pong answering the last ping.
+     */
+    public void onPong() {
+        long sent = pingSentNanos;
+        if (sent == 0) {
+            return;
+        }
+        long rtt = System.nanoTime() - sent;
+        pingSentNanos = 0;
+        lastRttNanos = rtt;
+        if (rtt > maxRttNanos) {
+            maxRttNanos = rtt;
+        }
+        pongCount++;
+        LOGGER.debug("Pong received after {} us", TimeUnit.NANOSECONDS.toMicros(rtt));
+    }
+
+    public void cancel() {
+        ScheduledFuture<?> scheduled = task;
+        if (scheduled != null) {
+            scheduled.cancel(false);
+        }
+    }
+
+    public boolean isCancelled() {
+        ScheduledFuture<?> scheduled = task;
+        return scheduled != null && scheduled.isCancelled();
+    }
+
+    /**
+     * Round trip time of the last pong in nanoseconds, -1 before the first pong.
+     */
+    public long getLastRttNanos() {
+        return lastRttNanos;
+    }
+
+    /**
+     * Highest round trip time observed on this connection in nanoseconds, -1 before the first pong.
+     */
+    public long getMaxRttNanos() {
+        return maxRttNanos;
+    }
+
+    public long getPongCount() {
+        return pongCount;
+    }
+
+    /**
+     * Pings still unanswered when the next one was due.
+     */
+    public long getMissedPongCount() {
+        return missedPongCount;
+    }
+
+    @Override
+    public String toString() {
+        return "WebsocketHeartbeat[lastRttMicros=" + TimeUnit.NANOSECONDS.toMicros(Math.max(lastRttNanos, 0)) +
+                ",maxRttMicros=" + TimeUnit.NANOSECONDS.toMicros(Math.max(maxRttNanos, 0)) +
+                ",pongs=" + pongCount +
+                ",missedPongs=" + missedPongCount + "]";
+    }
+}
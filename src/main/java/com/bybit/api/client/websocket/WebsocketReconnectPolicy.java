@@ -0,0 +1,60 @@
+package com.bybit.api.client.websocket;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * When a dropped websocket connection is opened again: exponential backoff from {@code initialDelay} up to
+ * {@code maxDelay}, each delay randomised by {@code jitter} so that many connections dropped at once do not
+ * reconnect in lockstep.
+ */
+@Getter
+@Builder(toBuilder = true)
+@ToString
+public class WebsocketReconnectPolicy {
+    public static final WebsocketReconnectPolicy DEFAULT = WebsocketReconnectPolicy.builder().build();
+    /**
+     * Never reconnect, the behaviour of the client before reconnects were supported.
+     */
+    public static final WebsocketReconnectPolicy DISABLED = WebsocketReconnectPolicy.builder().enabled(false).build();
+
+    @Builder.Default
+    private final boolean enabled = true;
+    @Builder.Default
+    private final Duration initialDelay = Duration.ofMillis(500);
+    @Builder.Default
+    private final Duration maxDelay = Duration.ofSeconds(30);
+    @Builder.Default
+    private final double multiplier = 2.0;
+    /**
+     * Share of each delay that is randomised, between 0 and 1.
+     */
+    @Builder.Default
+    private final double jitter = 0.5;
+    /**
+     * Consecutive failed attempts after which the client gives up, 0 to retry forever.
+     */
+    @Builder.Default
+    private final int maxAttempts = 0;
+
+    /**
+     * Whether another attempt is allowed after {@code attempt} consecutive failures.
+     */
+    public boolean shouldRetry(int attempt) {
+        return enabled && (maxAttempts == 0 || attempt < maxAttempts);
+    }
+
+    /**
+     * Delay before attempt number {@code attempt}, counted from 0.
+     */
+    public long delayMillis(int attempt) {
+        double backoff = initialDelay.toMillis() * Math.pow(multiplier, Math.min(attempt, 30));
+        double capped = Math.min(backoff, maxDelay.toMillis());
+        double randomised = capped * (1 - jitter * ThreadLocalRandom.current().nextDouble());
+        return Math.max(0L, (long) randomised);
+    }
+}
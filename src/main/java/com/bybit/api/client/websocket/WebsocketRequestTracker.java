@@ -0,0 +1,74 @@
+package com.bybit.api.client.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Matches websocket responses to the requests that caused them by {@code req_id} (or {@code reqId} on the trade
+ * stream). A request left unanswered fails with a {@link java.util.concurrent.TimeoutException} after the timeout.
+ */
+public final class WebsocketRequestTracker {
+    private final ConcurrentMap<String, CompletableFuture<JsonNode>> pending = new ConcurrentHashMap<>();
+    private final Duration timeout;
+
+    public WebsocketRequestTracker(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    /**
+     * Register a request before sending it; the future completes with the raw response.
+     */
+    public CompletableFuture<JsonNode> register(String reqId) {
+        return register(reqId, timeout);
+    }
+
+    /**
+     * Register a request with its own timeout instead of the tracker's.
+     */
+    public CompletableFuture<JsonNode> register(String reqId, Duration timeout) {
+        CompletableFuture<JsonNode> future = new CompletableFuture<>();
+        pending.put(reqId, future);
+        future.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((response, error) -> pending.remove(reqId, future));
+        return future;
+    }
+
+    /**
+     * Complete the request with the given id, returns false if no such request is pending.
+     */
+    public boolean complete(String reqId, JsonNode response) {
+        CompletableFuture<JsonNode> future = pending.remove(reqId);
+        return future != null && future.complete(response);
+    }
+
+    public boolean completeExceptionally(String reqId, Throwable cause) {
+        CompletableFuture<JsonNode> future = pending.remove(reqId);
+        return future != null && future.completeExceptionally(cause);
+    }
+
+    /**
+     * Fail every pending request, e.g. because the connection they were sent on dropped.
+     */
+    public void failAll(Throwable cause) {
+        List<CompletableFuture<JsonNode>> futures = new ArrayList<>(pending.values());
+        pending.clear();
+        for (CompletableFuture<JsonNode> future : futures) {
+            future.completeExceptionally(cause);
+        }
+    }
+
+    public boolean isEmpty() {
+        return pending.isEmpty();
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+}
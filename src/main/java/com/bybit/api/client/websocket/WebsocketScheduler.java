@@ -0,0 +1,23 @@
+package com.bybit.api.client.websocket;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Single daemon timer thread shared by the heartbeats and reconnects of every websocket connection. Tasks run on it
+ * must only enqueue work on a socket, never block.
+ */
+final class WebsocketScheduler {
+    private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "bybit-websocket-scheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private WebsocketScheduler() {
+    }
+
+    static ScheduledExecutorService get() {
+        return scheduler;
+    }
+}
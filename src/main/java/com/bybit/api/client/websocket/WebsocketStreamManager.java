@@ -0,0 +1,283 @@
+package com.bybit.api.client.websocket;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Spreads topics over a pool of websocket connections per stream path, so that thousands of topics can be followed
+ * from one process without exceeding the per-connection limits of the exchange.
+ *
+ * New topics go to the least loaded connection of their path with room left, and a new connection is opened when
+ * every connection holds {@code maxTopicsPerConnection} topics. Every message of every connection is delivered to
+ * the single handler given to the manager.
+ *
+ * When a connection drops, its topics move to the other open connections of the path as far as they have room, and
+ * a gap is signalled for them once they are subscribed there. The remaining topics stay with the dropped connection,
+ * which reconnects on its own and signals its gap when it is back.
+ *
+ * <pre>{@code
+ * WebsocketStreamManager streams = factory.newWebsocketStreamManager(message -> router.route(message));
+ * streams.setGapListener((path, topics, downtimeMillis) -> resync(topics));
+ * streams.subscribe(BybitApiConfig.V5_PUBLIC_LINEAR, orderbookTopics);
+ * }</pre>
+ */
+public class WebsocketStreamManager implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(WebsocketStreamManager.class);
+    public static final int DEFAULT_MAX_TOPICS_PER_CONNECTION = 200;
+
+    private final Function<WebsocketMessageHandler, WebsocketClient> clientFactory;
+    private final WebsocketMessageHandler messageHandler;
+    private final int maxTopicsPerConnection;
+
+    private final Map<String, List<Shard>> shardsByPath = new HashMap<>();
+    private final Map<String, Map<String, Shard>> ownersByPath = new HashMap<>();
+    private volatile WebsocketGapListener gapListener;
+    private boolean closed;
+
+    /**
+     * @param clientFactory          creates an unconnected client delivering its messages to the given handler
+     * @param messageHandler         receives the messages of every connection, on their reader threads
+     * @param maxTopicsPerConnection topics subscribed on one connection at most
+     */
+    public WebsocketStreamManager(Function<WebsocketMessageHandler, WebsocketClient> clientFactory, WebsocketMessageHandler messageHandler, int maxTopicsPerConnection) {
+        if (maxTopicsPerConnection <= 0) {
+            throw new IllegalArgumentException("maxTopicsPerConnection must be positive");
+        }
+        this.clientFactory = clientFactory;
+        this.messageHandler = messageHandler;
+        this.maxTopicsPerConnection = maxTopicsPerConnection;
+    }
+
+    /**
+     * Listener notified of the topics whose stream data may have been missed, whichever connection they were on.
+     */
+    public void setGapListener(WebsocketGapListener gapListener) {
+        this.gapListener = gapListener;
+    }
+
+    /**
+     * Subscribe topics of one stream path; topics already subscribed are skipped. The future completes once every
+     * connection involved has acknowledged its share.
+     */
+    public synchronized CompletableFuture<Void> subscribe(String path, List<String> topics) {
+        if (closed) {
+            throw new IllegalStateException("Websocket stream manager closed");
+        }
+        Map<String, Shard> owners = ownersByPath.computeIfAbsent(path, p -> new HashMap<>());
+        List<String> added = new ArrayList<>();
+        for (String topic : topics) {
+            if (!owners.containsKey(topic) && !added.contains(topic)) {
+                added.add(topic);
+            }
+        }
+        List<CompletableFuture<Void>> acks = new ArrayList<>();
+        assign(path, added, null).forEach((shard, shardTopics) -> acks.add(subscribeOn(shard, shardTopics)));
+        return CompletableFuture.allOf(acks.toArray(new CompletableFuture<?>[0]));
+    }
+
+    /**
+     * Unsubscribe topics of one stream path; a connection left without topics is closed.
+     */
+    public synchronized CompletableFuture<Void> unsubscribe(String path, List<String> topics) {
+        Map<String, Shard> owners = ownersByPath.getOrDefault(path, Collections.emptyMap());
+        Map<Shard, List<String>> byShard = new LinkedHashMap<>();
+        for (String topic : topics) {
+            Shard shard = owners.remove(topic);
+            if (shard != null) {
+                shard.topicCount--;
+                byShard.computeIfAbsent(shard, s -> new ArrayList<>()).add(topic);
+            }
+        }
+        List<CompletableFuture<Void>> acks = new ArrayList<>();
+        byShard.forEach((shard, shardTopics) -> {
+            if (shard.topicCount == 0) {
+                removeShard(shard);
+            } else {
+                acks.add(shard.client.unsubscribe(shardTopics));
+            }
+        });
+        return CompletableFuture.allOf(acks.toArray(new CompletableFuture<?>[0]));
+    }
+
+    /**
+     * Distribute topics over the connections of the path other than {@code excluded}, least loaded first, opening
+     * connections as needed when {@code excluded} is null.
+     */
+    private Map<Shard, List<String>> assign(String path, List<String> topics, Shard excluded) {
+        Map<Shard, List<String>> assignment = new LinkedHashMap<>();
+        if (topics.isEmpty()) {
+            return assignment;
+        }
+        List<Shard> candidates = new ArrayList<>();
+        for (Shard shard : shardsByPath.getOrDefault(path, Collections.emptyList())) {
+            if (shard != excluded && (excluded == null || shard.client.isConnected())) {
+                candidates.add(shard);
+            }
+        }
+        candidates.sort(Comparator.comparingInt(shard -> shard.topicCount));
+        Map<String, Shard> owners = ownersByPath.computeIfAbsent(path, p -> new HashMap<>());
+        int next = 0;
+        for (Shard shard : candidates) {
+            while (next < topics.size() && shard.topicCount < maxTopicsPerConnection) {
+                assignTopic(owners, shard, topics.get(next++), assignment);
+            }
+        }
+        while (next < topics.size() && excluded == null) {
+            Shard shard = openShard(path);
+            while (next < topics.size() && shard.topicCount < maxTopicsPerConnection) {
+                assignTopic(owners, shard, topics.get(next++), assignment);
+            }
+        }
+        return assignment;
+    }
+
+    private static void assignTopic(Map<String, Shard> owners, Shard shard, String topic, Map<Shard, List<String>> assignment) {
+        owners.put(topic, shard);
+        shard.topicCount++;
+        assignment.computeIfAbsent(shard, s -> new ArrayList<>()).add(topic);
+    }
+
+    private CompletableFuture<Void> subscribeOn(Shard shard, List<String> topics) {
+        return shard.client.subscribe(topics).whenComplete((ack, error) -> {
+            if (error != null) {
+                forgetRejected(shard, topics);
+            }
+        });
+    }
+
+    /**
+     * Topics rejected by the exchange are dropped by the client; drop them here too.
+     */
+    private synchronized void forgetRejected(Shard shard, List<String> topics) {
+        Map<String, Shard> owners = ownersByPath.getOrDefault(shard.path, Collections.emptyMap());
+        for (String topic : topics) {
+            if (owners.get(topic) == shard && !shard.client.getTopics().contains(topic)) {
+                owners.remove(topic);
+                shard.topicCount--;
+            }
+        }
+    }
+
+    private Shard openShard(String path) {
+        WebsocketClient client = clientFactory.apply(messageHandler);
+        Shard shard = new Shard(path, client);
+        client.setGapListener(this::notifyGap);
+        client.setDisconnectListener((p, cause) -> rebalance(shard));
+        shardsByPath.computeIfAbsent(path, p -> new ArrayList<>()).add(shard);
+        client.getPublicChannelStream(Collections.emptyList(), path);
+        LOGGER.info("Opened websocket connection {} to {}", shardsByPath.get(path).size(), path);
+        return shard;
+    }
+
+    private void removeShard(Shard shard) {
+        List<Shard> shards = shardsByPath.get(shard.path);
+        if (shards != null) {
+            shards.remove(shard);
+        }
+        shard.client.close();
+    }
+
+    /**
+     * Move the topics of a dropped connection to the open connections of its path that have room left.
+     */
+    private void rebalance(Shard dropped) {
+        long droppedAtMillis = System.currentTimeMillis();
+        Map<Shard, List<String>> moved;
+        synchronized (this) {
+            if (closed || !shardsByPath.getOrDefault(dropped.path, Collections.emptyList()).contains(dropped)) {
+                return;
+            }
+            Map<String, Shard> owners = ownersByPath.getOrDefault(dropped.path, Collections.emptyMap());
+            List<String> stranded = new ArrayList<>();
+            owners.forEach((topic, shard) -> {
+                if (shard == dropped) {
+                    stranded.add(topic);
+                }
+            });
+            moved = assign(dropped.path, stranded, dropped);
+            if (moved.isEmpty()) {
+                return;
+            }
+            List<String> movedTopics = new ArrayList<>();
+            moved.values().forEach(movedTopics::addAll);
+            dropped.topicCount -= movedTopics.size();
+            if (dropped.topicCount == 0) {
+                removeShard(dropped);
+            } else {
+                dropped.client.unsubscribe(movedTopics);
+            }
+            LOGGER.info("Moved {} topics of a dropped {} connection, {} wait for it to reconnect", movedTopics.size(), dropped.path, dropped.topicCount);
+        }
+        moved.forEach((shard, topics) -> subscribeOn(shard, topics).thenRun(() ->
+                notifyGap(dropped.path, Collections.unmodifiableList(topics), System.currentTimeMillis() - droppedAtMillis)));
+    }
+
+    private void notifyGap(String path, List<String> topics, long downtimeMillis) {
+        WebsocketGapListener listener = gapListener;
+        if (listener != null) {
+            try {
+                listener.onGap(path, topics, downtimeMillis);
+            } catch (RuntimeException e) {
+                LOGGER.error("Gap listener failed: ", e);
+            }
+        }
+    }
+
+    /**
+     * Number of connections of the path, connected or reconnecting.
+     */
+    public synchronized int getConnectionCount(String path) {
+        return shardsByPath.getOrDefault(path, Collections.emptyList()).size();
+    }
+
+    public synchronized int getConnectionCount() {
+        int count = 0;
+        for (List<Shard> shards : shardsByPath.values()) {
+            count += shards.size();
+        }
+        return count;
+    }
+
+    /**
+     * Number of topics of the path, on whichever connection.
+     */
+    public synchronized int getTopicCount(String path) {
+        return ownersByPath.getOrDefault(path, Collections.emptyMap()).size();
+    }
+
+    /**
+     * Close every connection.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        for (List<Shard> shards : shardsByPath.values()) {
+            for (Shard shard : shards) {
+                shard.client.close();
+            }
+        }
+        shardsByPath.clear();
+        ownersByPath.clear();
+    }
+
+    private static final class Shard {
+        private final String path;
+        private final WebsocketClient client;
+        private int topicCount;
+
+        private Shard(String path, WebsocketClient client) {
+            this.path = path;
+            this.client = client;
+        }
+    }
+}
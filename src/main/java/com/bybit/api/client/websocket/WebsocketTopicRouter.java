@@ -0,0 +1,340 @@
+package com.bybit.api.client.websocket;
+
+import com.bybit.api.client.domain.market.InstrumentPrecision;
+import com.bybit.api.client.domain.market.response.orderbook.OrderbookResult;
+import com.bybit.api.client.domain.market.response.tickers.TickerEntry;
+import com.bybit.api.client.domain.websocket.WebsocketExecutionEntry;
+import com.bybit.api.client.domain.websocket.WebsocketKlineEntry;
+import com.bybit.api.client.domain.websocket.WebsocketMessage;
+import com.bybit.api.client.domain.websocket.WebsocketOrderEntry;
+import com.bybit.api.client.domain.websocket.WebsocketPositionEntry;
+import com.bybit.api.client.domain.websocket.WebsocketTradeEntry;
+import com.bybit.api.client.domain.websocket.WebsocketWalletEntry;
+import com.bybit.api.client.service.BybitNumericModule;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Message handler dispatching stream pushes by topic to typed handlers.
+ *
+ * The topic is located with a scan of the first characters of the frame, and the frame is only decoded when a
+ * handler is registered for it: a frame whose topic nobody listens to costs a short scan. Control frames without
+ * a topic, such as subscribe acks and pongs, and frames of unrouted topics go to the fallback handler, undecoded.
+ *
+ * A route matches a topic equal to its prefix, or starting with it followed by a dot; a prefix ending with a dot
+ * matches any continuation. {@code order} therefore matches {@code order} and {@code order.linear} but not
+ * {@code orderbook.50.BTCUSDT}. When several routes match, the longest prefix wins.
+ *
+ * Binary frames are routed the same way on their bytes and decoded straight from them, without a String copy.
+ *
+ * <pre>{@code
+ * WebsocketTopicRouter router = new WebsocketTopicRouter()
+ *         .onOrderbook(message -> book.apply(message))
+ *         .onOrder(message -> orders.update(message.getData()));
+ * WebsocketClient client = factory.newWebsocketClient(router);
+ * }</pre>
+ */
+public class WebsocketTopicRouter implements WebsocketBinaryMessageHandler {
+    private static final Logger LOGGER = LoggerFactory.getLogger(WebsocketTopicRouter.class);
+    private static final String TOPIC_KEY = "\"topic\"";
+    private static final byte[] TOPIC_KEY_BYTES = TOPIC_KEY.getBytes(StandardCharsets.US_ASCII);
+    /**
+     * The topic comes first in public pushes and after the message id in private ones.
+     */
+    private static final int TOPIC_SCAN_LIMIT = 256;
+
+    private final ObjectMapper objectMapper;
+    private final List<Route<?>> routes = new CopyOnWriteArrayList<>();
+    private volatile WebsocketMessageHandler fallbackHandler;
+
+    public WebsocketTopicRouter() {
+        this(new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false));
+    }
+
+    /**
+     * Decode orderbook and ticker prices and sizes into their fixed-point fields with the given precision, see
+     * {@link BybitNumericModule}.
+     */
+    public WebsocketTopicRouter(InstrumentPrecision precision) {
+        this(new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .registerModule(new BybitNumericModule(precision)));
+    }
+
+    public WebsocketTopicRouter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Route the topics matching {@code topicPrefix} to a handler receiving the message decoded as {@code payloadType}.
+     */
+    public <T> WebsocketTopicRouter on(String topicPrefix, JavaType payloadType, Consumer<WebsocketMessage<T>> handler) {
+        JavaType messageType = objectMapper.getTypeFactory().constructParametricType(WebsocketMessage.class, payloadType);
+        Route<T> route = new Route<>(topicPrefix, objectMapper.readerFor(messageType), handler);
+        // Longest prefix first, so that the first match is the most specific one.
+        int index = 0;
+        while (index < routes.size() && routes.get(index).prefix.length() >= topicPrefix.length()) {
+            index++;
+        }
+        routes.add(index, route);
+        return this;
+    }
+
+    public <T> WebsocketTopicRouter on(String topicPrefix, Class<T> payloadType, Consumer<WebsocketMessage<T>> handler) {
+        return on(topicPrefix, objectMapper.constructType(payloadType), handler);
+    }
+
+    public <T> WebsocketTopicRouter onList(String topicPrefix, Class<T> entryType, Consumer<WebsocketMessage<List<T>>> handler) {
+        return on(topicPrefix, objectMapper.getTypeFactory().constructCollectionType(List.class, entryType), handler);
+    }
+
+    /**
+     * {@code orderbook.{depth}.{symbol}}
+     */
+    public WebsocketTopicRouter onOrderbook(Consumer<WebsocketMessage<OrderbookResult>> handler) {
+        return on("orderbook.", OrderbookResult.class, handler);
+    }
+
+    /**
+     * {@code publicTrade.{symbol}}
+     */
+    public WebsocketTopicRouter onPublicTrade(Consumer<WebsocketMessage<List<WebsocketTradeEntry>>> handler) {
+        return onList("publicTrade.", WebsocketTradeEntry.class, handler);
+    }
+
+    /**
+     * {@code kline.{interval}.{symbol}}
+     */
+    public WebsocketTopicRouter onKline(Consumer<WebsocketMessage<List<WebsocketKlineEntry>>> handler) {
+        return onList("kline.", WebsocketKlineEntry.class, handler);
+    }
+
+    /**
+     * {@code tickers.{symbol}}
+     */
+    public WebsocketTopicRouter onTicker(Consumer<WebsocketMessage<TickerEntry>> handler) {
+        return on("tickers.", TickerEntry.class, handler);
+    }
+
+    /**
+     * {@code order}, {@code order.{category}}
+     */
+    public WebsocketTopicRouter onOrder(Consumer<WebsocketMessage<List<WebsocketOrderEntry>>> handler) {
+        return onList("order", WebsocketOrderEntry.class, handler);
+    }
+
+    /**
+     * {@code execution}, {@code execution.{category}}
+     */
+    public WebsocketTopicRouter onExecution(Consumer<WebsocketMessage<List<WebsocketExecutionEntry>>> handler) {
+        return onList("execution", WebsocketExecutionEntry.class, handler);
+    }
+
+    /**
+     * {@code position}, {@code position.{category}}
+     */
+    public WebsocketTopicRouter onPosition(Consumer<WebsocketMessage<List<WebsocketPositionEntry>>> handler) {
+        return onList("position", WebsocketPositionEntry.class, handler);
+    }
+
+    /**
+     * {@code wallet}
+     */
+    public WebsocketTopicRouter onWallet(Consumer<WebsocketMessage<List<WebsocketWalletEntry>>> handler) {
+        return onList("wallet", WebsocketWalletEntry.class, handler);
+    }
+
+    /**
+     * Handler of the frames without a topic or whose topic is not routed, passed as received.
+     */
+    public WebsocketTopicRouter otherwise(WebsocketMessageHandler fallbackHandler) {
+        this.fallbackHandler = fallbackHandler;
+        return this;
+    }
+
+    @Override
+    public void handleMessage(String message) {
+        int topicStart = findTopic(message);
+        Route<?> route = topicStart < 0 ? null : findRoute(message, topicStart);
+        if (route == null) {
+            WebsocketMessageHandler fallback = fallbackHandler;
+            if (fallback != null) {
+                fallback.handleMessage(message);
+            }
+            return;
+        }
+        try {
+            route.dispatch(message);
+        } catch (IOException e) {
+            LOGGER.error("Unreadable {} message: {}", route.prefix, message, e);
+        } catch (RuntimeException e) {
+            LOGGER.error("Handler of {} failed: ", route.prefix, e);
+        }
+    }
+
+    @Override
+    public void handleMessage(ByteBuffer message) {
+        int topicStart = findTopic(message);
+        Route<?> route = topicStart < 0 ? null : findRoute(message, topicStart);
+        if (route == null) {
+            WebsocketMessageHandler fallback = fallbackHandler;
+            if (fallback != null) {
+                fallback.handleMessage(StandardCharsets.UTF_8.decode(message.duplicate()).toString());
+            }
+            return;
+        }
+        try {
+            route.dispatch(message.duplicate());
+        } catch (IOException e) {
+            LOGGER.error("Unreadable {} message: {}", route.prefix, StandardCharsets.UTF_8.decode(message.duplicate()), e);
+        } catch (RuntimeException e) {
+            LOGGER.error("Handler of {} failed: ", route.prefix, e);
+        }
+    }
+
+    /**
+     * Returns the index of the first character of the topic value, or -1 if the frame has no topic near its start.
+     */
+    static int findTopic(String message) {
+        int limit = Math.min(message.length(), TOPIC_SCAN_LIMIT) - TOPIC_KEY.length();
+        int key = 0;
+        while (key <= limit && !message.startsWith(TOPIC_KEY, key)) {
+            key++;
+        }
+        if (key > limit) {
+            return -1;
+        }
+        int i = key + TOPIC_KEY.length();
+        while (i < message.length() && (message.charAt(i) == ' ' || message.charAt(i) == ':')) {
+            i++;
+        }
+        return i < message.length() && message.charAt(i) == '"' ? i + 1 : -1;
+    }
+
+    /**
+     * Returns the topic starting at {@code topicStart}, as found by {@link #findTopic(String)}.
+     */
+    static String readTopic(String message, int topicStart) {
+        int end = message.indexOf('"', topicStart);
+        return message.substring(topicStart, end < 0 ? message.length() : end);
+    }
+
+    /**
+     * Whether the topic starting at {@code topicStart} is matched by {@code prefix}, see the class documentation.
+     */
+    static boolean matchesTopic(String message, int topicStart, String prefix) {
+        if (!message.startsWith(prefix, topicStart)) {
+            return false;
+        }
+        int end = topicStart + prefix.length();
+        if (prefix.endsWith(".") || end >= message.length()) {
+            return true;
+        }
+        char next = message.charAt(end);
+        return next == '"' || next == '.';
+    }
+
+    /**
+     * Returns the absolute index of the first byte of the topic value, or -1 if the frame has no topic near its
+     * start.
+     */
+    static int findTopic(ByteBuffer message) {
+        int end = message.limit();
+        int limit = Math.min(end, message.position() + TOPIC_SCAN_LIMIT) - TOPIC_KEY_BYTES.length;
+        int key = message.position();
+        while (key <= limit && !startsWith(message, key, TOPIC_KEY_BYTES)) {
+            key++;
+        }
+        if (key > limit) {
+            return -1;
+        }
+        int i = key + TOPIC_KEY_BYTES.length;
+        while (i < end && (message.get(i) == ' ' || message.get(i) == ':')) {
+            i++;
+        }
+        return i < end && message.get(i) == '"' ? i + 1 : -1;
+    }
+
+    static boolean matchesTopic(ByteBuffer message, int topicStart, byte[] prefix) {
+        if (!startsWith(message, topicStart, prefix)) {
+            return false;
+        }
+        int end = topicStart + prefix.length;
+        if (prefix.length > 0 && prefix[prefix.length - 1] == '.' || end >= message.limit()) {
+            return true;
+        }
+        byte next = message.get(end);
+        return next == '"' || next == '.';
+    }
+
+    private static boolean startsWith(ByteBuffer message, int offset, byte[] prefix) {
+        if (offset + prefix.length > message.limit()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (message.get(offset + i) != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Route<?> findRoute(String message, int topicStart) {
+        for (Route<?> route : routes) {
+            if (route.matches(message, topicStart)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private Route<?> findRoute(ByteBuffer message, int topicStart) {
+        for (Route<?> route : routes) {
+            if (matchesTopic(message, topicStart, route.prefixBytes)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private static final class Route<T> {
+        private final String prefix;
+        private final byte[] prefixBytes;
+        private final ObjectReader reader;
+        private final Consumer<WebsocketMessage<T>> handler;
+
+        private Route(String prefix, ObjectReader reader, Consumer<WebsocketMessage<T>> handler) {
+            this.prefix = prefix;
+            this.prefixBytes = prefix.getBytes(StandardCharsets.UTF_8);
+            this.reader = reader;
+            this.handler = handler;
+        }
+
+        private boolean matches(String message, int topicStart) {
+            return matchesTopic(message, topicStart, prefix);
+        }
+
+        private void dispatch(String message) throws IOException {
+            handler.accept(reader.readValue(message));
+        }
+
+        private void dispatch(ByteBuffer message) throws IOException {
+            if (message.hasArray()) {
+                handler.accept(reader.readValue(message.array(), message.arrayOffset() + message.position(), message.remaining()));
+            } else {
+                handler.accept(reader.readValue(new ByteBufferBackedInputStream(message)));
+            }
+        }
+    }
+}
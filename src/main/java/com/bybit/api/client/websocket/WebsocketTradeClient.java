@@ -0,0 +1,75 @@
+package com.bybit.api.client.websocket;
+
+import com.bybit.api.client.domain.trade.request.TradeOrderRequest;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Order entry over the V5 trade websocket ({@code /v5/trade}), an authenticated connection on which orders are
+ * placed, amended and cancelled without the HTTP framing and per-request signing of the REST endpoints.
+ *
+ * Each request returns a future completed with the exchange's response, matched by {@code reqId}. The future fails
+ * with a {@link com.bybit.api.client.exception.BybitApiException} if the exchange rejected the request, with a
+ * {@link java.util.concurrent.TimeoutException} if no response came in time, and with an
+ * {@link java.io.IOException} if the connection dropped first. In the last two cases the order may still have
+ * reached the exchange: check it by its {@code orderLinkId} before sending it again.
+ *
+ * https://bybit-exchange.github.io/docs/v5/websocket/trade/guideline
+ */
+public interface WebsocketTradeClient {
+    String ORDER_CREATE = "order.create";
+    String ORDER_AMEND = "order.amend";
+    String ORDER_CANCEL = "order.cancel";
+
+    /**
+     * Open and authenticate the connection; the future completes once the login has been accepted. Requests sent
+     * before that fail immediately.
+     */
+    CompletableFuture<Void> connect();
+
+    /**
+     * Close the connection for good; pending requests fail and no reconnect is attempted afterwards.
+     */
+    void close();
+
+    /**
+     * Whether the connection is open and authenticated.
+     */
+    boolean isConnected();
+
+    /**
+     * How the connection is re-established after it drops, {@link WebsocketReconnectPolicy#DEFAULT} unless set.
+     * Requests are never resent after a reconnect.
+     */
+    void setReconnectPolicy(WebsocketReconnectPolicy reconnectPolicy);
+
+    /**
+     * Listener notified each time the connection drops.
+     */
+    void setDisconnectListener(WebsocketDisconnectListener disconnectListener);
+
+    CompletableFuture<JsonNode> createOrder(TradeOrderRequest order);
+
+    CompletableFuture<JsonNode> createOrder(TradeOrderRequest order, Duration timeout);
+
+    CompletableFuture<JsonNode> amendOrder(TradeOrderRequest order);
+
+    CompletableFuture<JsonNode> amendOrder(TradeOrderRequest order, Duration timeout);
+
+    CompletableFuture<JsonNode> cancelOrder(TradeOrderRequest order);
+
+    CompletableFuture<JsonNode> cancelOrder(TradeOrderRequest order, Duration timeout);
+
+    /**
+     * The rate limit reported by the last response to {@code op}, e.g. {@link #ORDER_CREATE}, or null before the
+     * first one. While it is exhausted, requests of that operation fail without being sent.
+     */
+    WebsocketTradeRateLimit getRateLimit(String op);
+
+    /**
+     * Requests waiting for their response.
+     */
+    int getPendingCount();
+}
@@ -0,0 +1,393 @@
+package com.bybit.api.client.websocket;
+
+import com.bybit.api.client.config.BybitApiConfig;
+import com.bybit.api.client.domain.trade.request.TradeOrderRequest;
+import com.bybit.api.client.exception.BybitApiError;
+import com.bybit.api.client.exception.BybitApiException;
+import com.bybit.api.client.security.CachedHmacSHA256Signer;
+import com.bybit.api.client.service.BybitJsonConverter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import okhttp3.Response;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class WebsocketTradeClientImpl implements WebsocketTradeClient {
+    public static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(5);
+    private static final Logger LOGGER = LoggerFactory.getLogger(WebsocketTradeClientImpl.class);
+    private static final ObjectWriter objectWriter = new ObjectMapper().writer();
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final long AUTH_EXPIRY_MILLIS = 10000;
+
+    private final String apikey;
+    /**
+     * Signer of the auth messages.
+     */
+    private final CachedHmacSHA256Signer signer;
+    private final String baseUrl;
+    private final long recvWindow;
+    private final int pingInterval;
+    private final WebSocketHttpClientSingleton webSocketHttpClientSingleton;
+    private final BybitJsonConverter converter = new BybitJsonConverter();
+    private final WebsocketRequestTracker requestTracker;
+    private final ConcurrentMap<String, WebsocketTradeRateLimit> rateLimits = new ConcurrentHashMap<>();
+    private final AtomicLong requestCounter = new AtomicLong();
+    private final AtomicInteger generation = new AtomicInteger();
+
+    private volatile WebSocket webSocket;
+    private volatile boolean authenticated;
+    private volatile WebsocketHeartbeat heartbeat;
+    private volatile WebsocketReconnectPolicy reconnectPolicy = WebsocketReconnectPolicy.DEFAULT;
+    private volatile WebsocketDisconnectListener disconnectListener;
+    private volatile boolean closed;
+    private int reconnectAttempts;
+    private ScheduledFuture<?> pendingReconnect;
+    private CompletableFuture<Void> authentication = new CompletableFuture<>();
+
+    /**
+     * @param baseUrl        websocket domain, e.g. {@link BybitApiConfig#STREAM_MAINNET_DOMAIN}
+     * @param requestTimeout how long a request waits for its response unless given its own timeout
+     * @throws BybitApiException without an api key or secret, the trade websocket being always authenticated
+     */
+    public WebsocketTradeClientImpl(String apikey, String secret, String baseUrl, long recvWindow, int pingInterval, Duration requestTimeout, Boolean debugMode, String logOption) {
+        this(apikey, secret, baseUrl, recvWindow, pingInterval, requestTimeout, WebSocketHttpClientSingleton.createInstance(debugMode, logOption));
+    }
+
+    /**
+     * @param webSocketHttpClientSingleton opens the connections of this client
+     */
+    public WebsocketTradeClientImpl(String apikey, String secret, String baseUrl, long recvWindow, int pingInterval, Duration requestTimeout, WebSocketHttpClientSingleton webSocketHttpClientSingleton) {
+        if (apikey == null || secret == null) {
+            // Rejected here: failing the login on every connection would only reconnect forever.
+            throw new BybitApiException("Authenticated endpoints require keys.");
+        }
+        this.apikey = apikey;
+        this.signer = new CachedHmacSHA256Signer(secret);
+        this.baseUrl = baseUrl;
+        this.recvWindow = recvWindow;
+        this.pingInterval = pingInterval;
+        this.requestTracker = new WebsocketRequestTracker(requestTimeout);
+        this.webSocketHttpClientSingleton = webSocketHttpClientSingleton;
+    }
+
+    @Override
+    public synchronized CompletableFuture<Void> connect() {
+        closed = false;
+        if (authentication.isDone()) {
+            authentication = new CompletableFuture<>();
+        }
+        CompletableFuture<Void> login = authentication;
+        webSocketHttpClientSingleton.createWebSocket(baseUrl + BybitApiConfig.V5_TRADE, createWebSocketListener(generation.incrementAndGet()));
+        return login.copy();
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (pendingReconnect != null) {
+            pendingReconnect.cancel(false);
+            pendingReconnect = null;
+        }
+        // Invalidate the listener so that the closing handshake does not trigger a reconnect.
+        generation.incrementAndGet();
+        WebSocket ws = webSocket;
+        connectionLost(new IllegalStateException("Trade websocket client closed"));
+        if (ws != null) {
+            ws.close(1000, "client closed");
+        }
+    }
+
+    @Override
+    public boolean isConnected() {
+        return authenticated;
+    }
+
+    @Override
+    public void setReconnectPolicy(WebsocketReconnectPolicy reconnectPolicy) {
+        this.reconnectPolicy = reconnectPolicy;
+    }
+
+    @Override
+    public void setDisconnectListener(WebsocketDisconnectListener disconnectListener) {
+        this.disconnectListener = disconnectListener;
+    }
+
+    @Override
+    public CompletableFuture<JsonNode> createOrder(TradeOrderRequest order) {
+        return createOrder(order, null);
+    }
+
+    @Override
+    public CompletableFuture<JsonNode> createOrder(TradeOrderRequest order, Duration timeout) {
+        return send(ORDER_CREATE, converter.convertTradeToPlaceOrderRequest(order), timeout);
+    }
+
+    @Override
+    public CompletableFuture<JsonNode> amendOrder(TradeOrderRequest order) {
+        return amendOrder(order, null);
+    }
+
+    @Override
+    public CompletableFuture<JsonNode> amendOrder(TradeOrderRequest order, Duration timeout) {
+        return send(ORDER_AMEND, converter.convertTradeToAmendOrderRequest(order), timeout);
+    }
+
+    @Override
+    public CompletableFuture<JsonNode> cancelOrder(TradeOrderRequest order) {
+        return cancelOrder(order, null);
+    }
+
+    @Override
+    public CompletableFuture<JsonNode> cancelOrder(TradeOrderRequest order, Duration timeout) {
+        return send(ORDER_CANCEL, converter.convertTradeToCancelOrderRequest(order), timeout);
+    }
+
+    @Override
+    public WebsocketTradeRateLimit getRateLimit(String op) {
+        return rateLimits.get(op);
+    }
+
+    @Override
+    public int getPendingCount() {
+        return requestTracker.getPendingCount();
+    }
+
+    private CompletableFuture<JsonNode> send(String op, Object request, Duration timeout) {
+        WebSocket ws = webSocket;
+        if (ws == null || !authenticated) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Trade websocket is not connected"));
+        }
+        long now = System.currentTimeMillis();
+        WebsocketTradeRateLimit rateLimit = rateLimits.get(op);
+        if (rateLimit != null && rateLimit.isExhausted(now)) {
+            return CompletableFuture.failedFuture(new BybitApiException(op + " rate limit exhausted until " + rateLimit.getResetTimestamp()));
+        }
+
+        String reqId = Long.toString(requestCounter.incrementAndGet());
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("reqId", reqId);
+        message.put("header", Map.of("X-BAPI-TIMESTAMP", Long.toString(now), "X-BAPI-RECV-WINDOW", Long.toString(recvWindow)));
+        message.put("op", op);
+        message.put("args", List.of(request));
+        String json;
+        try {
+            json = objectWriter.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        CompletableFuture<JsonNode> response = timeout == null ? requestTracker.register(reqId) : requestTracker.register(reqId, timeout);
+        LOGGER.debug("Sent {}: {}", op, json);
+        if (!ws.send(json)) {
+            requestTracker.completeExceptionally(reqId, new IOException("Trade websocket is closing"));
+        }
+        return response;
+    }
+
+    /**
+     * Events of a superseded connection are ignored, see {@link WebsocketClientImpl}.
+     */
+    @NotNull
+    private WebSocketListener createWebSocketListener(int connectionGeneration) {
+        return new WebSocketListener() {
+            private boolean isCurrent() {
+                return generation.get() == connectionGeneration;
+            }
+
+            @Override
+            public void onOpen(@NotNull WebSocket webSocket, @NotNull Response response) {
+                if (isCurrent()) {
+                    WebsocketTradeClientImpl.this.onOpen(webSocket);
+                } else {
+                    webSocket.close(1000, null);
+                }
+            }
+
+            @Override
+            public void onMessage(@NotNull WebSocket webSocket, @NotNull String text) {
+                if (isCurrent()) {
+                    WebsocketTradeClientImpl.this.onMessage(text);
+                }
+            }
+
+            @Override
+            public void onClosing(@NotNull WebSocket webSocket, int code, @NotNull String reason) {
+                webSocket.close(code, null);
+            }
+
+            @Override
+            public void onClosed(@NotNull WebSocket webSocket, int code, @NotNull String reason) {
+                if (isCurrent()) {
+                    LOGGER.warn("Trade websocket closed: {}", reason);
+                    onDisconnect(new IOException("Trade websocket closed: " + reason));
+                }
+            }
+
+            @Override
+            public void onFailure(@NotNull WebSocket webSocket, @NotNull Throwable t, @Nullable Response response) {
+                if (isCurrent()) {
+                    LOGGER.error("Trade websocket failed: {}", t.getMessage());
+                    onDisconnect(new IOException("Trade websocket failed", t));
+                }
+            }
+        };
+    }
+
+    private void onOpen(WebSocket ws) {
+        webSocket = ws;
+        WebsocketHeartbeat previous = heartbeat;
+        if (previous != null) {
+            previous.cancel();
+        }
+        heartbeat = WebsocketHeartbeat.start(ws, pingInterval);
+        long expires = System.currentTimeMillis() + AUTH_EXPIRY_MILLIS;
+        String signature = signer.auth("GET/realtime", expires);
+        Map<String, Object> login = new LinkedHashMap<>();
+        login.put("op", "auth");
+        login.put("args", List.of(apikey, expires, signature));
+        try {
+            ws.send(objectWriter.writeValueAsString(login));
+        } catch (JsonProcessingException e) {
+            failAuthentication(e);
+        }
+    }
+
+    private void onMessage(String msg) {
+        JsonNode response;
+        try {
+            response = objectMapper.readTree(msg);
+        } catch (JsonProcessingException e) {
+            LOGGER.warn("Unreadable trade websocket response: {}", msg);
+            return;
+        }
+        // Checked on the parsed message: order responses may well contain "pong", e.g. in an orderLinkId.
+        if (WebsocketHeartbeat.isPong(response)) {
+            WebsocketHeartbeat currentHeartbeat = heartbeat;
+            if (currentHeartbeat != null) {
+                currentHeartbeat.onPong();
+            }
+            return;
+        }
+        if ("auth".equals(response.path("op").asText())) {
+            onAuthResponse(response);
+            return;
+        }
+        String op = response.path("op").asText();
+        JsonNode header = response.get("header");
+        if (header != null) {
+            WebsocketTradeRateLimit rateLimit = WebsocketTradeRateLimit.fromHeader(header);
+            if (rateLimit != null && !op.isEmpty()) {
+                rateLimits.put(op, rateLimit);
+            }
+        }
+        String reqId = response.path("reqId").asText("");
+        if (reqId.isEmpty()) {
+            LOGGER.warn("Trade websocket response without reqId: {}", msg);
+            return;
+        }
+        int retCode = response.path("retCode").asInt(-1);
+        if (retCode == 0) {
+            requestTracker.complete(reqId, response);
+        } else {
+            requestTracker.completeExceptionally(reqId, new BybitApiException(toError(response)));
+        }
+    }
+
+    private void onAuthResponse(JsonNode response) {
+        if (response.path("retCode").asInt(-1) == 0) {
+            CompletableFuture<Void> login;
+            synchronized (this) {
+                authenticated = true;
+                reconnectAttempts = 0;
+                login = authentication;
+            }
+            LOGGER.info("Trade websocket authenticated");
+            login.complete(null);
+        } else {
+            // A rejected login is not retried: the credentials will not get better.
+            failAuthentication(new BybitApiException(toError(response)));
+            close();
+        }
+    }
+
+    private synchronized void failAuthentication(Throwable cause) {
+        authentication.completeExceptionally(cause);
+    }
+
+    private static BybitApiError toError(JsonNode response) {
+        BybitApiError error = new BybitApiError();
+        error.setCode(response.path("retCode").asInt());
+        error.setMsg(response.path("retMsg").asText());
+        return error;
+    }
+
+    private synchronized void connectionLost(Throwable cause) {
+        webSocket = null;
+        authenticated = false;
+        WebsocketHeartbeat currentHeartbeat = heartbeat;
+        if (currentHeartbeat != null) {
+            currentHeartbeat.cancel();
+        }
+        requestTracker.failAll(cause);
+        if (!authentication.isDone() && closed) {
+            authentication.completeExceptionally(cause);
+        } else if (authentication.isDone()) {
+            authentication = new CompletableFuture<>();
+        }
+    }
+
+    private void onDisconnect(Throwable cause) {
+        connectionLost(cause);
+        WebsocketDisconnectListener listener = disconnectListener;
+        if (listener != null) {
+            try {
+                listener.onDisconnect(BybitApiConfig.V5_TRADE, cause);
+            } catch (RuntimeException e) {
+                LOGGER.error("Disconnect listener failed: ", e);
+            }
+        }
+        scheduleReconnect(cause);
+    }
+
+    private synchronized void scheduleReconnect(Throwable cause) {
+        if (closed || pendingReconnect != null) {
+            return;
+        }
+        if (!reconnectPolicy.shouldRetry(reconnectAttempts)) {
+            LOGGER.error("Giving up reconnecting the trade websocket after {} attempts", reconnectAttempts);
+            authentication.completeExceptionally(cause);
+            return;
+        }
+        long delayMillis = reconnectPolicy.delayMillis(reconnectAttempts);
+        reconnectAttempts++;
+        LOGGER.info("Reconnecting the trade websocket in {} ms (attempt {})", delayMillis, reconnectAttempts);
+        pendingReconnect = WebsocketScheduler.get().schedule(() -> {
+            synchronized (this) {
+                pendingReconnect = null;
+                if (closed) {
+                    return;
+                }
+                webSocketHttpClientSingleton.createWebSocket(baseUrl + BybitApiConfig.V5_TRADE, createWebSocketListener(generation.incrementAndGet()));
+            }
+        }, delayMillis, TimeUnit.MILLISECONDS);
+    }
+}
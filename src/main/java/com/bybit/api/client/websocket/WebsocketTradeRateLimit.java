@@ -0,0 +1,64 @@
+package com.bybit.api.client.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Rate limit state of a trade operation, as reported by the {@code header} of its last response:
+ * {@code X-Bapi-Limit}, {@code X-Bapi-Limit-Status} and {@code X-Bapi-Limit-Reset-Timestamp}.
+ */
+public final class WebsocketTradeRateLimit {
+    private final int limit;
+    private final int remaining;
+    private final long resetTimestamp;
+
+    public WebsocketTradeRateLimit(int limit, int remaining, long resetTimestamp) {
+        this.limit = limit;
+        this.remaining = remaining;
+        this.resetTimestamp = resetTimestamp;
+    }
+
+    /**
+     * Returns the rate limit carried by a response header, or null if it has none.
+     */
+    static WebsocketTradeRateLimit fromHeader(JsonNode header) {
+        JsonNode limit = header.get("X-Bapi-Limit");
+        JsonNode remaining = header.get("X-Bapi-Limit-Status");
+        if (limit == null || remaining == null) {
+            return null;
+        }
+        return new WebsocketTradeRateLimit(limit.asInt(), remaining.asInt(), header.path("X-Bapi-Limit-Reset-Timestamp").asLong());
+    }
+
+    /**
+     * Requests allowed per second.
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Requests left in the current window.
+     */
+    public int getRemaining() {
+        return remaining;
+    }
+
+    /**
+     * When the window resets, in milliseconds since the epoch.
+     */
+    public long getResetTimestamp() {
+        return resetTimestamp;
+    }
+
+    /**
+     * Whether a request sent at {@code nowMillis} would be rejected for exceeding the limit.
+     */
+    public boolean isExhausted(long nowMillis) {
+        return remaining <= 0 && nowMillis < resetTimestamp;
+    }
+
+    @Override
+    public String toString() {
+        return "WebsocketTradeRateLimit[limit=" + limit + ",remaining=" + remaining + ",resetTimestamp=" + resetTimestamp + "]";
+    }
+}
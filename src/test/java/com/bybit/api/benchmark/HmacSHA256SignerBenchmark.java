@@ -0,0 +1,58 @@
+package com.bybit.api.benchmark;
+
+import com.bybit.api.client.security.CachedHmacSHA256Signer;
+import com.bybit.api.client.security.HmacSHA256Signer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the static {@link HmacSHA256Signer} helpers with the reusable {@link CachedHmacSHA256Signer}.
+ * Run with {@code -prof gc} to see the allocation rate per signature.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HmacSHA256SignerBenchmark {
+    private static final String API_KEY = "XXXXXXXXXXXXXXXXXX";
+    private static final String API_SECRET = "YYYYYYYYYYYYYYYYYYYYYYYYYYYYYYYYYYYY";
+    private static final long RECV_WINDOW = 5000L;
+    private static final long TIMESTAMP = 1700000000000L;
+    private static final String PAYLOAD = "{\"category\":\"linear\",\"symbol\":\"BTCUSDT\",\"side\":\"Buy\",\"orderType\":\"Limit\",\"qty\":\"0.001\",\"price\":\"37000\",\"timeInForce\":\"GTC\"}";
+
+    private final CachedHmacSHA256Signer signer = new CachedHmacSHA256Signer(API_SECRET);
+
+    @Benchmark
+    public String staticSign() {
+        return HmacSHA256Signer.sign(API_KEY, API_SECRET, PAYLOAD, TIMESTAMP, RECV_WINDOW);
+    }
+
+    @Benchmark
+    public String cachedSign() {
+        return signer.sign(API_KEY, PAYLOAD, TIMESTAMP, RECV_WINDOW);
+    }
+
+    @Benchmark
+    public String staticAuth() {
+        return HmacSHA256Signer.auth("GET/realtime" + TIMESTAMP, API_SECRET);
+    }
+
+    @Benchmark
+    public String cachedAuth() {
+        return signer.auth("GET/realtime", TIMESTAMP);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(HmacSHA256SignerBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
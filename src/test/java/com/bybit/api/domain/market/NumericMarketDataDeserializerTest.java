@@ -0,0 +1,85 @@
+package com.bybit.api.domain.market;
+
+import com.bybit.api.client.domain.GenericResponse;
+import com.bybit.api.client.domain.market.InstrumentPrecision;
+import com.bybit.api.client.domain.market.response.kline.MarketKlineEntry;
+import com.bybit.api.client.domain.market.response.kline.MarketKlineResult;
+import com.bybit.api.client.domain.market.response.orderbook.OrderbookBidEntry;
+import com.bybit.api.client.domain.market.response.orderbook.OrderbookResult;
+import com.bybit.api.client.service.BybitNumericModule;
+import com.bybit.api.client.service.FixedPointParser;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class NumericMarketDataDeserializerTest {
+    private final ObjectMapper mapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            .registerModule(new BybitNumericModule(InstrumentPrecision.of(1, 3)));
+
+    @Test
+    public void testOrderbookEntriesAreScaled() throws IOException {
+        final String orderbookResultJson = "{\"retCode\":0,\"retMsg\":\"OK\",\"result\":{\"s\":\"BTCUSDT\"," +
+                "\"b\":[[\"37202.8\",\"95.091\"],[\"37202\",\"1\"]]," +
+                "\"a\":[[\"37208.2\",\"110.033\"]],\"ts\":1699804424320,\"u\":1135826},\"retExtInfo\":{},\"time\":1699804424370}";
+        GenericResponse<OrderbookResult> response = mapper.readValue(orderbookResultJson,
+                mapper.getTypeFactory().constructParametricType(GenericResponse.class, OrderbookResult.class));
+
+        OrderbookResult orderbookResult = response.getResult();
+        assertEquals("BTCUSDT", orderbookResult.getSymbol());
+        OrderbookBidEntry best = orderbookResult.getOrderbookBidEntries().get(0);
+        assertEquals(372028L, best.getBidPriceScaled());
+        assertEquals(95091L, best.getBidSizeScaled());
+        assertNull(best.getBidPrice());
+        assertEquals(372020L, orderbookResult.getOrderbookBidEntries().get(1).getBidPriceScaled());
+        assertEquals(1000L, orderbookResult.getOrderbookBidEntries().get(1).getBidSizeScaled());
+        assertEquals(110033L, orderbookResult.getOrderBookAskEntries().get(0).getAskSizeScaled());
+    }
+
+    @Test
+    public void testReaderOverridesPrecision() throws IOException {
+        OrderbookBidEntry entry = BybitNumericModule.reader(mapper, InstrumentPrecision.of(2, 4))
+                .forType(OrderbookBidEntry.class)
+                .readValue("[\"37202.8\",\"95.091\"]");
+        assertEquals(3720280L, entry.getBidPriceScaled());
+        assertEquals(950910L, entry.getBidSizeScaled());
+    }
+
+    @Test
+    public void testKlineEntriesAreDoubles() throws IOException {
+        final String klineJson = "{\"retCode\":0,\"retMsg\":\"OK\",\"result\":{\"symbol\":\"BTCUSD\",\"category\":\"inverse\",\"list\":[" +
+                "[\"1670608800000\",\"17071\",\"17073\",\"17027\",\"17055.5\",\"268611\",\"15.74462667\"]," +
+                "[\"1670605200000\",\"17071.5\",\"17071.5\",\"17061\",\"17071\"]]},\"retExtInfo\":{},\"time\":1672025956592}";
+        GenericResponse<MarketKlineResult> response = mapper.readValue(klineJson,
+                mapper.getTypeFactory().constructParametricType(GenericResponse.class, MarketKlineResult.class));
+
+        MarketKlineEntry first = response.getResult().getMarketKlineEntries().get(0);
+        assertEquals(1670608800000L, first.getStartTime());
+        assertEquals(17055.5, first.getClosePriceValue(), 0);
+        assertEquals(15.74462667, first.getTurnoverValue(), 0);
+        // Mark price klines have no volume or turnover
+        MarketKlineEntry markPrice = response.getResult().getMarketKlineEntries().get(1);
+        assertEquals(17061, markPrice.getLowPriceValue(), 0);
+        assertEquals(Double.NaN, markPrice.getVolumeValue(), 0);
+    }
+
+    @Test
+    public void testFixedPointParserRounding() {
+        assertEquals(101L, FixedPointParser.parseScaled("1.005", 2));
+        assertEquals(-1235L, FixedPointParser.parseScaled("-12.345", 2));
+        assertEquals(1250L, FixedPointParser.parseScaled("12.5", 2));
+        assertEquals(15000L, FixedPointParser.parseScaled("1.5e2", 2));
+        assertEquals(0.1, FixedPointParser.parseDouble("0.1"), 0);
+        assertEquals(Double.NaN, FixedPointParser.parseDouble(""), 0);
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testFixedPointParserOverflow() {
+        FixedPointParser.parseScaled("99999999999999999", 4);
+    }
+}
@@ -0,0 +1,100 @@
+package com.bybit.api.domain.market;
+
+import com.bybit.api.client.constant.BybitApiConstants;
+import com.bybit.api.client.domain.CategoryType;
+import com.bybit.api.client.domain.StreamedListResult;
+import com.bybit.api.client.domain.market.response.kline.MarketKlineEntry;
+import com.bybit.api.client.restApi.BybitApiService;
+import com.bybit.api.client.security.AuthenticationInterceptor;
+import com.bybit.api.client.service.BybitJsonListStreamer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.junit.Test;
+import retrofit2.Retrofit;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+public class StreamedListResultDeserializerTest {
+    @Test
+    public void testKlineListIsStreamed() throws IOException {
+        final String klineJson = "{\"retCode\":0,\"retMsg\":\"OK\",\"result\":{\"symbol\":\"BTCUSD\",\"category\":\"inverse\",\"list\":[" +
+                "[\"1670608800000\",\"17071\",\"17073\",\"17027\",\"17055.5\",\"268611\",\"15.74462667\"]," +
+                "[\"1670605200000\",\"17071.5\",\"17071.5\",\"17061\",\"17071\",\"4177\",\"0.24469757\"]]," +
+                "\"nextPageCursor\":\"page_2\"},\"retExtInfo\":{},\"time\":1672025956592}";
+        ObjectMapper mapper = new ObjectMapper();
+        List<MarketKlineEntry> entries = new ArrayList<>();
+
+        StreamedListResult result = BybitJsonListStreamer.stream(
+                new ByteArrayInputStream(klineJson.getBytes(StandardCharsets.UTF_8)),
+                mapper.reader(),
+                MarketKlineEntry.class,
+                entries::add);
+
+        assertEquals(0, result.getRetCode());
+        assertEquals("OK", result.getRetMsg());
+        assertEquals("BTCUSD", result.getSymbol());
+        assertEquals("inverse", result.getCategory());
+        assertEquals("page_2", result.getNextPageCursor());
+        assertEquals(2, result.getSize());
+        assertEquals(1672025956592L, result.getTime());
+        assertEquals(2, entries.size());
+        assertEquals(1670608800000L, entries.get(0).getStartTime());
+        assertEquals("17071", entries.get(1).getClosePrice());
+    }
+
+    @Test
+    public void testStreamedPrivateListIsSigned() {
+        final String executionJson = "{\"retCode\":0,\"retMsg\":\"OK\",\"result\":{\"category\":\"linear\",\"list\":[" +
+                "{\"symbol\":\"BTCUSDT\",\"execId\":\"e1\",\"execPrice\":\"27000\"}],\"nextPageCursor\":\"\"}," +
+                "\"retExtInfo\":{},\"time\":1672025956592}";
+        AtomicReference<Request> sent = new AtomicReference<>();
+        // Stands in for the network: records the request as signed by the interceptor and answers it.
+        OkHttpClient client = new OkHttpClient.Builder()
+                .addInterceptor(new AuthenticationInterceptor("api-key", "api-secret", 5000L))
+                .addInterceptor(chain -> {
+                    sent.set(chain.request());
+                    return new Response.Builder()
+                            .request(chain.request())
+                            .protocol(Protocol.HTTP_1_1)
+                            .code(200)
+                            .message("OK")
+                            .body(ResponseBody.create(executionJson, MediaType.get("application/json")))
+                            .build();
+                })
+                .build();
+        BybitApiService service = new Retrofit.Builder()
+                .baseUrl("https://api.bybit.com")
+                .client(client)
+                .build()
+                .create(BybitApiService.class);
+        List<JsonNode> entries = new ArrayList<>();
+
+        StreamedListResult result = BybitJsonListStreamer.execute(
+                service.streamExecutionList(CategoryType.LINEAR.getCategoryTypeId(), "BTCUSDT", null, null, null, null, null, null, 50, null),
+                new ObjectMapper().reader(),
+                JsonNode.class,
+                entries::add);
+
+        assertEquals(0, result.getRetCode());
+        assertEquals("e1", entries.get(0).path("execId").asText());
+        Request request = sent.get();
+        assertEquals("api-key", request.header(BybitApiConstants.API_KEY_HEADER));
+        assertNotNull(request.header(BybitApiConstants.SIGN_HEADER));
+        assertNotNull(request.header(BybitApiConstants.TIMESTAMP_HEADER));
+        assertEquals("5000", request.header(BybitApiConstants.RECV_WINDOW_HEADER));
+    }
+}
@@ -0,0 +1,28 @@
+package com.bybit.api.examples.http.sync;
+
+import com.bybit.api.client.config.BybitApiConfig;
+import com.bybit.api.client.domain.CategoryType;
+import com.bybit.api.client.domain.position.request.PositionDataRequest;
+import com.bybit.api.client.service.BybitApiClientFactory;
+
+/**
+ * Examples on how to walk every page of a cursor-paginated endpoint.
+ */
+public class PaginationExample {
+    public static void main(String[] args) {
+        var client = BybitApiClientFactory.newInstance("YOUR_API_KEY", "YOUR_API_SECRET", BybitApiConfig.TESTNET_DOMAIN).newPaginationRestClient();
+
+        // Every execution of the last 7 days, 100 per page; the next page is fetched while this one is printed
+        var executionRequest = PositionDataRequest.builder().category(CategoryType.LINEAR).limit(100).build();
+        try (var executions = client.getExecutions(executionRequest)) {
+            executions.forEachRemaining(System.out::println);
+            System.out.println("Pages: " + executions.getPagesFetched());
+        }
+
+        // Closed PnL as a stream
+        var closPnlRequest = PositionDataRequest.builder().category(CategoryType.LINEAR).symbol("BTCUSDT").build();
+        try (var closedPnl = client.getClosePnls(closPnlRequest).stream()) {
+            System.out.println(closedPnl.mapToDouble(pnl -> Double.parseDouble(pnl.get("closedPnl").toString())).sum());
+        }
+    }
+}
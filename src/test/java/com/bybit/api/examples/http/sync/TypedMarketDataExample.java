@@ -0,0 +1,31 @@
+package com.bybit.api.examples.http.sync;
+
+import com.bybit.api.client.config.BybitApiConfig;
+import com.bybit.api.client.domain.CategoryType;
+import com.bybit.api.client.domain.market.MarketInterval;
+import com.bybit.api.client.domain.market.request.MarketDataRequest;
+import com.bybit.api.client.service.BybitApiClientFactory;
+
+/**
+ * Examples on how to get market data decoded into typed results instead of generic maps.
+ */
+public class TypedMarketDataExample {
+    public static void main(String[] args) {
+        var client = BybitApiClientFactory.newInstance(BybitApiConfig.TESTNET_DOMAIN, true).newTypedMarketDataRestClient();
+
+        // Orderbook
+        var orderbookRequest = MarketDataRequest.builder().category(CategoryType.LINEAR).symbol("BTCUSDT").limit(50).build();
+        var orderbook = client.getMarketOrderBook(orderbookRequest).getResult();
+        System.out.println(orderbook.getOrderbookBidEntries().get(0).getBidPrice() + " / " + orderbook.getOrderBookAskEntries().get(0).getAskPrice());
+
+        // Hourly Kline
+        var klineRequest = MarketDataRequest.builder().category(CategoryType.LINEAR).symbol("BTCUSDT").marketInterval(MarketInterval.HOURLY).limit(10).build();
+        var klines = client.getMarketLinesData(klineRequest).getResult();
+        System.out.println(klines);
+
+        // Tickers
+        var tickerRequest = MarketDataRequest.builder().category(CategoryType.SPOT).symbol("BTCUSDT").build();
+        var tickers = client.getMarketTickers(tickerRequest).getResult();
+        System.out.println(tickers.getTickerEntries().get(0).getLastPrice());
+    }
+}
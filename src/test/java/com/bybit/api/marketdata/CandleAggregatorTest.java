@@ -0,0 +1,128 @@
+package com.bybit.api.marketdata;
+
+import com.bybit.api.client.domain.CategoryType;
+import com.bybit.api.client.domain.GenericResponse;
+import com.bybit.api.client.domain.market.MarketInterval;
+import com.bybit.api.client.domain.market.request.MarketDataRequest;
+import com.bybit.api.client.domain.market.response.kline.MarketKlineResult;
+import com.bybit.api.client.domain.websocket.WebsocketMessage;
+import com.bybit.api.client.domain.websocket.WebsocketTradeEntry;
+import com.bybit.api.client.marketdata.Candle;
+import com.bybit.api.client.marketdata.CandleAggregator;
+import com.bybit.api.client.marketdata.CandleInterval;
+import com.bybit.api.client.restApi.BybitApiCallback;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CandleAggregatorTest {
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final long MINUTE_START = 1_700_000_040_000L;
+    private static final CandleInterval ONE_MINUTE = CandleInterval.of(MarketInterval.ONE_MINUTE);
+
+    private static WebsocketMessage<List<WebsocketTradeEntry>> push(String... trades) throws IOException {
+        String json = "{\"topic\":\"publicTrade.BTCUSDT\",\"type\":\"snapshot\",\"ts\":1,\"data\":[" + String.join(",", trades) + "]}";
+        return objectMapper.readValue(json, new TypeReference<WebsocketMessage<List<WebsocketTradeEntry>>>() {
+        });
+    }
+
+    private static String trade(long time, String price, String size) {
+        return "{\"T\":" + time + ",\"s\":\"BTCUSDT\",\"S\":\"Buy\",\"v\":\"" + size + "\",\"p\":\"" + price + "\",\"i\":\"1\",\"BT\":false}";
+    }
+
+    @Test
+    public void testIntervalsAlignLikeExchangeKlines() {
+        long wednesday = 1687940967466L;
+        assertEquals(1687940967000L, CandleInterval.ONE_SECOND.startOf(wednesday));
+        assertEquals(1687940965000L, CandleInterval.FIVE_SECONDS.startOf(wednesday));
+        assertEquals(1687737600000L, CandleInterval.of(MarketInterval.WEEKLY).startOf(wednesday));
+        CandleInterval monthly = CandleInterval.of(MarketInterval.MONTHLY);
+        assertEquals(1685577600000L, monthly.startOf(wednesday));
+        assertEquals(1688169600000L, monthly.endOf(monthly.startOf(wednesday)));
+    }
+
+    @Test
+    public void testPartialAndConfirmedCandles() throws IOException {
+        List<Candle> candles = new ArrayList<>();
+        CandleAggregator aggregator = new CandleAggregator(CategoryType.LINEAR, List.of(CandleInterval.ONE_SECOND, ONE_MINUTE))
+                .setListener(candle -> candles.add(candle.copy()));
+
+        aggregator.apply(push(trade(MINUTE_START + 100, "100", "1"), trade(MINUTE_START + 500, "102", "2")));
+        assertEquals(2, candles.size());
+        Candle second = candles.get(0);
+        assertFalse(second.isConfirmed());
+        assertEquals(MINUTE_START, second.getStartTime());
+        assertEquals(100, second.getOpen(), 0);
+        assertEquals(102, second.getHigh(), 0);
+        assertEquals(3, second.getVolume(), 0);
+        assertEquals(304, second.getTurnover(), 0);
+        assertEquals(2, second.getTradeCount());
+
+        // The next second closes the first one before its own candle is published.
+        aggregator.apply(push(trade(MINUTE_START + 1200, "99", "1")));
+        assertEquals(5, candles.size());
+        assertTrue(candles.get(2).isConfirmed());
+        assertEquals(MINUTE_START, candles.get(2).getStartTime());
+        assertEquals(MINUTE_START + 1000, candles.get(3).getStartTime());
+        Candle minute = candles.get(4);
+        assertEquals(ONE_MINUTE, minute.getInterval());
+        assertEquals(99, minute.getLow(), 0);
+        assertEquals(99, minute.getClose(), 0);
+        assertEquals(4, minute.getVolume(), 0);
+
+        // No trade closes the candles of a quiet market, the timer does.
+        aggregator.closeExpired(MINUTE_START + 60_000);
+        assertEquals(7, candles.size());
+        assertTrue(candles.get(6).isConfirmed());
+        assertEquals(ONE_MINUTE, candles.get(6).getInterval());
+        aggregator.closeExpired(MINUTE_START + 61_000);
+        assertEquals(7, candles.size());
+    }
+
+    @Test
+    public void testSeedMergesCurrentKline() throws IOException {
+        FakeKlineClient client = new FakeKlineClient();
+        CandleAggregator aggregator = new CandleAggregator(CategoryType.LINEAR, List.of(CandleInterval.FIVE_SECONDS, ONE_MINUTE));
+        CompletableFuture<Void> seeded = aggregator.seed(client, "BTCUSDT");
+        assertEquals(1, client.callbacks.size());
+        assertEquals(MarketInterval.ONE_MINUTE, client.requests.get(0).getMarketInterval());
+
+        aggregator.apply(push(trade(MINUTE_START + 30_000, "101", "1")));
+        client.respond(0, "[\"" + MINUTE_START + "\",\"100\",\"105\",\"95\",\"100.5\",\"10\",\"1000\"]");
+        assertTrue(seeded.isDone());
+
+        Candle minute = aggregator.getCandle("BTCUSDT", ONE_MINUTE);
+        assertEquals(100, minute.getOpen(), 0);
+        assertEquals(105, minute.getHigh(), 0);
+        assertEquals(95, minute.getLow(), 0);
+        assertEquals(101, minute.getClose(), 0);
+        assertEquals(10, minute.getVolume(), 0);
+        assertEquals(101, aggregator.getCandle("BTCUSDT", CandleInterval.FIVE_SECONDS).getOpen(), 0);
+    }
+
+    private static class FakeKlineClient extends UnsupportedMarketRestClient {
+        private final List<MarketDataRequest> requests = new ArrayList<>();
+        private final List<BybitApiCallback<GenericResponse<MarketKlineResult>>> callbacks = new ArrayList<>();
+
+        void respond(int call, String kline) throws IOException {
+            String json = "{\"retCode\":0,\"retMsg\":\"OK\",\"result\":{\"symbol\":\"BTCUSDT\",\"category\":\"linear\",\"list\":[" + kline + "]},\"retExtInfo\":{},\"time\":1}";
+            callbacks.get(call).onResponse(objectMapper.readValue(json, new TypeReference<GenericResponse<MarketKlineResult>>() {
+            }));
+        }
+
+        @Override
+        public void getMarketLinesData(MarketDataRequest marketKlineRequest, BybitApiCallback<GenericResponse<MarketKlineResult>> callback) {
+            requests.add(marketKlineRequest);
+            callbacks.add(callback);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.bybit.api.marketdata;
+
+import com.bybit.api.client.domain.CategoryType;
+import com.bybit.api.client.domain.GenericResponse;
+import com.bybit.api.client.domain.market.MarketInterval;
+import com.bybit.api.client.domain.market.request.MarketDataRequest;
+import com.bybit.api.client.domain.market.response.kline.MarketKlineResult;
+import com.bybit.api.client.marketdata.KlineDownloadReport;
+import com.bybit.api.client.marketdata.KlineHistoryDownloader;
+import com.bybit.api.client.restApi.BybitApiCallback;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+
+public class KlineHistoryDownloaderTest {
+    private static final long MINUTE = 60_000L;
+
+    @Test
+    public void testWindowsAreStitchedInOrderWithoutDuplicates() {
+        FakeKlineClient client = new FakeKlineClient();
+        KlineHistoryDownloader downloader = KlineHistoryDownloader.builder()
+                .client(client)
+                .category(CategoryType.LINEAR)
+                .symbol("BTCUSDT")
+                .interval(MarketInterval.ONE_MINUTE)
+                .candlesPerRequest(100)
+                .maxConcurrentRequests(4)
+                .build();
+        long start = 1_700_000_000_000L + 30_000L; // not aligned on a minute
+        long end = start + 1_234 * MINUTE;
+        List<Long> startTimes = new ArrayList<>();
+
+        KlineDownloadReport report = downloader.download(start, end, candle -> startTimes.add(candle.getStartTime()));
+
+        long first = (start / MINUTE + 1) * MINUTE;
+        assertEquals(1_234, startTimes.size());
+        for (int i = 0; i < startTimes.size(); i++) {
+            assertEquals(first + i * MINUTE, (long) startTimes.get(i));
+        }
+        assertEquals(1_234, report.getCandles());
+        assertEquals(1, report.getRetries());
+        assertEquals(client.calls.get(), report.getRequests());
+    }
+
+    /**
+     * Answers kline requests out of order, newest candle first like Bybit, and fails the second request once.
+     */
+    private static class FakeKlineClient extends UnsupportedMarketRestClient {
+        private final ObjectMapper mapper = new ObjectMapper();
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public void getMarketLinesData(MarketDataRequest request, BybitApiCallback<GenericResponse<MarketKlineResult>> callback) {
+            int call = calls.incrementAndGet();
+            CompletableFuture.runAsync(() -> {
+                if (call == 2) {
+                    callback.onFailure(new IOException("connection reset"));
+                    return;
+                }
+                StringBuilder json = new StringBuilder("{\"retCode\":0,\"retMsg\":\"OK\",\"result\":{\"symbol\":\"BTCUSDT\",\"category\":\"linear\",\"list\":[");
+                long first = (request.getStart() + MINUTE - 1) / MINUTE * MINUTE;
+                for (long t = request.getEnd() / MINUTE * MINUTE; t >= first; t -= MINUTE) {
+                    json.append("[\"").append(t).append("\",\"1\",\"1\",\"1\",\"1\",\"1\",\"1\"],");
+                }
+                if (json.charAt(json.length() - 1) == ',') {
+                    json.setLength(json.length() - 1);
+                }
+                json.append("]},\"retExtInfo\":{},\"time\":1}");
+                try {
+                    callback.onResponse(mapper.readValue(json.toString(),
+                            mapper.getTypeFactory().constructParametricType(GenericResponse.class, MarketKlineResult.class)));
+                } catch (IOException e) {
+                    callback.onFailure(e);
+                }
+            }, CompletableFuture.delayedExecutor(ThreadLocalRandom.current().nextInt(20), TimeUnit.MILLISECONDS));
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.bybit.api.marketdata;
+
+import com.bybit.api.client.domain.CategoryType;
+import com.bybit.api.client.domain.GenericResponse;
+import com.bybit.api.client.domain.market.MarketInterval;
+import com.bybit.api.client.domain.market.request.MarketDataRequest;
+import com.bybit.api.client.domain.market.response.kline.MarketKlineResult;
+import com.bybit.api.client.domain.websocket.WebsocketKlineEntry;
+import com.bybit.api.client.domain.websocket.WebsocketMessage;
+import com.bybit.api.client.marketdata.CandleInterval;
+import com.bybit.api.client.marketdata.KlineStore;
+import com.bybit.api.client.marketdata.KlineWindow;
+import com.bybit.api.client.restApi.BybitApiCallback;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class KlineStoreTest {
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final long MINUTE = 60_000L;
+    private static final long START = 1_700_000_040_000L;
+
+    private static WebsocketMessage<List<WebsocketKlineEntry>> push(long start, String close) throws IOException {
+        return push(start, close, false);
+    }
+
+    private static WebsocketMessage<List<WebsocketKlineEntry>> push(long start, String close, boolean confirm) throws IOException {
+        String json = "{\"topic\":\"kline.1.BTCUSDT\",\"type\":\"snapshot\",\"ts\":1,\"data\":[{\"start\":" + start +
+                ",\"end\":" + (start + MINUTE - 1) + ",\"interval\":\"1\",\"open\":\"1\",\"close\":\"" + close +
+                "\",\"high\":\"50\",\"low\":\"1\",\"volume\":\"1\",\"turnover\":\"1\",\"confirm\":" + confirm + ",\"timestamp\":1}]}";
+        return objectMapper.readValue(json, new TypeReference<WebsocketMessage<List<WebsocketKlineEntry>>>() {
+        });
+    }
+
+    private static KlineWindow get(KlineStore store, long fromMinute, long toMinute) {
+        return store.getKlines(CategoryType.LINEAR, "BTCUSDT", MarketInterval.ONE_MINUTE, START + fromMinute * MINUTE, START + toMinute * MINUTE);
+    }
+
+    private static KlineWindow getCached(KlineStore store, long fromMinute, long toMinute) {
+        return store.getCachedKlines(CategoryType.LINEAR, "BTCUSDT", MarketInterval.ONE_MINUTE, START + fromMinute * MINUTE, START + toMinute * MINUTE);
+    }
+
+    @Test
+    public void testRangesAreFetchedOnceAndExtended() {
+        FakeKlineClient client = new FakeKlineClient();
+        KlineStore store = new KlineStore(client, 20);
+
+        KlineWindow window = get(store, 0, 10);
+        assertEquals(10, window.size());
+        assertEquals(START, window.getStartTime(0));
+        assertEquals(9, window.getClose(9), 0);
+        assertEquals(1, client.calls.get());
+
+        assertEquals(6, get(store, 2, 8).size());
+        assertEquals(1, client.calls.get());
+        assertEquals(1, store.getHitCount());
+
+        // Only the klines after the covered range are fetched, then those before it.
+        window = get(store, 5, 15);
+        assertEquals(2, client.calls.get());
+        assertEquals(START + 5 * MINUTE, window.getStartTime(0));
+        assertEquals(14, window.getClose(9), 0);
+        window = get(store, -5, 5);
+        assertEquals(3, client.calls.get());
+        assertEquals(-5, window.getClose(0), 0);
+        assertEquals(20, store.getFetchedCount());
+        assertEquals(3, window.indexOf(START - 2 * MINUTE));
+    }
+
+    @Test
+    public void testPushesKeepTheSeriesCurrent() throws IOException {
+        FakeKlineClient client = new FakeKlineClient();
+        KlineStore store = new KlineStore(client, 20);
+        get(store, 0, 20);
+
+        // The kline following the covered range is appended, evicting the oldest one.
+        store.apply(CategoryType.LINEAR, push(START + 20 * MINUTE, "42"));
+        assertEquals(42, getCached(store, 20, 21).getClose(0), 0);
+        store.apply(CategoryType.LINEAR, push(START + 20 * MINUTE, "43"));
+        assertEquals(43, getCached(store, 20, 21).getClose(0), 0);
+        assertNull(getCached(store, 0, 1));
+        assertEquals(20, getCached(store, 1, 21).size());
+
+        // Missed pushes leave a gap, fetched by the next query.
+        store.apply(CategoryType.LINEAR, push(START + 30 * MINUTE, "44"));
+        assertNull(getCached(store, 30, 31));
+        assertEquals(1, client.calls.get());
+
+        // Ranges longer than the capacity bypass the cache.
+        assertEquals(40, get(store, -20, 20).size());
+        assertEquals(2, client.calls.get());
+        assertEquals(43, getCached(store, 20, 21).getClose(0), 0);
+    }
+
+    @Test
+    public void testRangesOfMoreMonthsThanTheCapacityBypassTheCache() {
+        FakeKlineClient client = new FakeKlineClient();
+        KlineStore store = new KlineStore(client, 3);
+        long february = 1_675_209_600_000L;
+        long june = 1_685_577_600_000L;
+
+        // February to May 2023 are four klines, though shorter than three times the longest month.
+        KlineWindow window = store.getKlines(CategoryType.LINEAR, "BTCUSDT", MarketInterval.MONTHLY, february, june);
+        assertEquals(4, window.size());
+        assertEquals(february, window.getStartTime(0));
+        assertNull(store.getCachedKlines(CategoryType.LINEAR, "BTCUSDT", MarketInterval.MONTHLY, february, june));
+    }
+
+    @Test
+    public void testKlineFetchedInProgressIsFetchedAgainOnceClosed() throws IOException {
+        FakeKlineClient client = new FakeKlineClient();
+        TestClock clock = new TestClock(START + 9 * MINUTE + 30_000);
+        KlineStore store = new KlineStore(client, 20, clock);
+        assertEquals(9, get(store, 0, 10).getClose(9), 0);
+        assertEquals(1, client.calls.get());
+
+        // Still in progress: served from memory as fetched.
+        assertEquals(9, get(store, 5, 10).getClose(4), 0);
+        assertEquals(1, client.calls.get());
+
+        // Closed since, without a stream: the partial kline is no longer cached and is fetched again.
+        clock.millis = START + 10 * MINUTE + 30_000;
+        client.revision = 100;
+        assertNull(getCached(store, 0, 10));
+        assertEquals(109, get(store, 0, 10).getClose(9), 0);
+        assertEquals(2, client.calls.get());
+        assertEquals(109, get(store, 0, 10).getClose(9), 0);
+        assertEquals(2, client.calls.get());
+
+        // A confirming push closes the kline in progress, which then stays cached.
+        assertEquals(110, get(store, 0, 11).getClose(10), 0);
+        store.apply(CategoryType.LINEAR, push(START + 10 * MINUTE, "77", true));
+        clock.millis = START + 11 * MINUTE + 30_000;
+        assertEquals(77, getCached(store, 0, 11).getClose(10), 0);
+        assertEquals(3, client.calls.get());
+    }
+
+    private static class TestClock extends Clock {
+        private long millis;
+
+        TestClock(long millis) {
+            this.millis = millis;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Answers kline requests synchronously, newest candle first like Bybit, the close being the minute index
+     * plus {@code revision}.
+     */
+    private static class FakeKlineClient extends UnsupportedMarketRestClient {
+        private final AtomicInteger calls = new AtomicInteger();
+        private volatile long revision;
+
+        @Override
+        public void getMarketLinesData(MarketDataRequest request, BybitApiCallback<GenericResponse<MarketKlineResult>> callback) {
+            calls.incrementAndGet();
+            StringBuilder json = new StringBuilder("{\"retCode\":0,\"retMsg\":\"OK\",\"result\":{\"symbol\":\"BTCUSDT\",\"category\":\"linear\",\"list\":[");
+            CandleInterval interval = CandleInterval.of(request.getMarketInterval());
+            long first = interval.startOf(request.getStart());
+            if (first < request.getStart()) {
+                first = interval.endOf(first);
+            }
+            for (long t = interval.startOf(request.getEnd()); t >= first; t = interval.startOf(t - 1)) {
+                long index = (t - START) / MINUTE + revision;
+                json.append("[\"").append(t).append("\",\"1\",\"50\",\"1\",\"").append(index).append("\",\"1\",\"1\"],");
+            }
+            if (json.charAt(json.length() - 1) == ',') {
+                json.setLength(json.length() - 1);
+            }
+            json.append("]},\"retExtInfo\":{},\"time\":1}");
+            try {
+                callback.onResponse(objectMapper.readValue(json.toString(), new TypeReference<GenericResponse<MarketKlineResult>>() {
+                }));
+            } catch (IOException e) {
+                callback.onFailure(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.bybit.api.marketdata;
+
+import com.bybit.api.client.domain.CategoryType;
+import com.bybit.api.client.domain.market.InstrumentPrecision;
+import com.bybit.api.client.marketdata.OrderBook;
+import com.bybit.api.client.marketdata.OrderBookSnapshot;
+import com.bybit.api.client.marketdata.OrderBookStore;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class OrderBookStoreTest {
+    private static final List<OrderBookStore.BookKey> KEYS = List.of(
+            OrderBookStore.BookKey.of(CategoryType.SPOT, "BTCUSDT"),
+            OrderBookStore.BookKey.of(CategoryType.LINEAR, "BTCUSDT"));
+
+    @Test
+    public void testSnapshotCopiesTopLevels() {
+        OrderBookStore store = new OrderBookStore();
+        assertNull(store.snapshot(CategoryType.SPOT, "BTCUSDT", 5));
+
+        store.update(CategoryType.SPOT, "BTCUSDT", book -> {
+            book.setBid(100, 1);
+            book.setBid(99, 2);
+            book.setAsk(101, 3);
+        });
+        OrderBookSnapshot snapshot = store.snapshot(CategoryType.SPOT, "BTCUSDT", 1);
+        assertEquals(1, snapshot.getBidCount());
+        assertEquals(100, snapshot.getBestBidPrice());
+        assertEquals(0, snapshot.getBidPrice(1));
+        assertEquals(101, snapshot.getBestAskPrice());
+        assertEquals(3, snapshot.getAskSize(0));
+        assertNull(store.snapshot(KEYS, 1).get(1));
+    }
+
+    @Test
+    public void testMultiBookSnapshotIsConsistent() throws InterruptedException {
+        OrderBookStore store = new OrderBookStore();
+        // The writer always moves the spot book first, then the linear one: a reader may see spot one step ahead,
+        // never behind nor two steps ahead, and never a book with only one side updated.
+        Thread writer = new Thread(() -> {
+            for (long n = 1; n <= 200_000; n++) {
+                long size = n;
+                store.update(CategoryType.SPOT, "BTCUSDT", book -> {
+                    book.setBid(100, size);
+                    book.setAsk(101, size);
+                });
+                store.update(CategoryType.LINEAR, "BTCUSDT", book -> {
+                    book.setBid(100, size);
+                    book.setAsk(101, size);
+                });
+            }
+        });
+        store.addBook(CategoryType.SPOT, new OrderBook("BTCUSDT", InstrumentPrecision.DEFAULT))
+                .addBook(CategoryType.LINEAR, new OrderBook("BTCUSDT", InstrumentPrecision.DEFAULT));
+
+        AtomicReference<String> failure = new AtomicReference<>();
+        Thread[] readers = new Thread[2];
+        for (int i = 0; i < readers.length; i++) {
+            readers[i] = new Thread(() -> {
+                while (writer.isAlive() && failure.get() == null) {
+                    List<OrderBookSnapshot> snapshots = store.snapshot(KEYS, 2);
+                    OrderBookSnapshot spot = snapshots.get(0);
+                    OrderBookSnapshot linear = snapshots.get(1);
+                    long ahead = spot.getBidSize(0) - linear.getBidSize(0);
+                    if (ahead != 0 && ahead != 1) {
+                        failure.set("spot " + spot.getBidSize(0) + " linear " + linear.getBidSize(0));
+                    } else if (spot.getBidSize(0) != spot.getAskSize(0) || linear.getBidSize(0) != linear.getAskSize(0)) {
+                        failure.set("torn book " + spot + " " + linear);
+                    }
+                }
+            });
+        }
+        writer.start();
+        for (Thread reader : readers) {
+            reader.start();
+        }
+        writer.join();
+        for (Thread reader : readers) {
+            reader.join();
+        }
+        assertNull(failure.get());
+        assertTrue(store.snapshot(KEYS, 1).stream().allMatch(book -> book.getBidSize(0) == 200_000));
+    }
+}
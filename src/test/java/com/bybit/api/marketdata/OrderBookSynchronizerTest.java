@@ -0,0 +1,135 @@
+package com.bybit.api.marketdata;
+
+import com.bybit.api.client.domain.CategoryType;
+import com.bybit.api.client.domain.GenericResponse;
+import com.bybit.api.client.domain.market.InstrumentPrecision;
+import com.bybit.api.client.domain.market.request.MarketDataRequest;
+import com.bybit.api.client.domain.market.response.orderbook.OrderbookResult;
+import com.bybit.api.client.domain.websocket.WebsocketMessage;
+import com.bybit.api.client.marketdata.OrderBook;
+import com.bybit.api.client.marketdata.OrderBookSynchronizer;
+import com.bybit.api.client.restApi.BybitApiCallback;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class OrderBookSynchronizerTest {
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static WebsocketMessage<OrderbookResult> push(String type, long updateId, long sequence, String bids) throws IOException {
+        String json = "{\"topic\":\"orderbook.50.BTCUSDT\",\"type\":\"" + type + "\",\"ts\":1687940967466," +
+                "\"data\":{\"s\":\"BTCUSDT\",\"b\":[" + bids + "],\"a\":[],\"u\":" + updateId + ",\"seq\":" + sequence + "}}";
+        return objectMapper.readValue(json, new TypeReference<WebsocketMessage<OrderbookResult>>() {
+        });
+    }
+
+    @Test
+    public void testGapIsResyncedFromRestSnapshot() throws IOException {
+        FakeOrderBookClient client = new FakeOrderBookClient();
+        OrderBookSynchronizer synchronizer = new OrderBookSynchronizer(client, CategoryType.LINEAR, 50)
+                .addBook(new OrderBook("BTCUSDT", InstrumentPrecision.of(1, 3)));
+
+        synchronizer.apply(push("snapshot", 10, 100, "[\"30000.0\",\"1.000\"]"));
+        synchronizer.apply(push("delta", 11, 101, "[\"30000.0\",\"2.000\"]"));
+        assertTrue(synchronizer.isSynced("BTCUSDT"));
+
+        // Update 12 is lost: the book resyncs and buffers the deltas meanwhile.
+        synchronizer.apply(push("delta", 13, 103, "[\"30000.0\",\"3.000\"]"));
+        synchronizer.apply(push("delta", 14, 105, "[\"29999.0\",\"5.000\"]"));
+        assertFalse(synchronizer.isSynced("BTCUSDT"));
+        assertEquals(1, synchronizer.getGapCount());
+        assertEquals(1, client.callbacks.size());
+
+        // The snapshot was taken after seq 103, only the delta of seq 105 is applied on top of it.
+        client.respond(0, "{\"s\":\"BTCUSDT\",\"b\":[[\"30000.0\",\"4.000\"]],\"a\":[],\"ts\":1687940967500,\"u\":5000,\"seq\":104}");
+        assertTrue(synchronizer.isSynced("BTCUSDT"));
+        assertEquals(1, synchronizer.getResyncCount());
+        assertEquals(4000L, (long) synchronizer.read("BTCUSDT", OrderBook::getBestBidSize));
+        assertEquals(5000L, (long) synchronizer.read("BTCUSDT", book -> book.getBidSize(1)));
+
+        // The stream carries on from the update id of the first delta applied after the snapshot.
+        synchronizer.apply(push("delta", 15, 106, "[\"29999.0\",\"6.000\"]"));
+        assertEquals(6000L, (long) synchronizer.read("BTCUSDT", book -> book.getBidSize(1)));
+        assertEquals(1, synchronizer.getGapCount());
+    }
+
+    @Test
+    public void testStreamSnapshotWinsOverPendingResync() throws IOException {
+        FakeOrderBookClient client = new FakeOrderBookClient();
+        OrderBookSynchronizer synchronizer = new OrderBookSynchronizer(client, CategoryType.LINEAR, 50)
+                .addBook(new OrderBook("BTCUSDT", InstrumentPrecision.of(1, 3)));
+        synchronizer.apply(push("snapshot", 10, 100, "[\"30000.0\",\"1.000\"]"));
+        synchronizer.apply(push("delta", 12, 102, "[\"30000.0\",\"2.000\"]"));
+        synchronizer.apply(push("snapshot", 20, 110, "[\"30000.0\",\"7.000\"]"));
+        assertTrue(synchronizer.isSynced("BTCUSDT"));
+        assertEquals(0, synchronizer.getResyncingCount());
+
+        client.respond(0, "{\"s\":\"BTCUSDT\",\"b\":[[\"30000.0\",\"4.000\"]],\"a\":[],\"u\":5000,\"seq\":104}");
+        assertEquals(7000L, (long) synchronizer.read("BTCUSDT", OrderBook::getBestBidSize));
+        assertEquals(0, synchronizer.getResyncCount());
+    }
+
+    @Test
+    public void testRestSnapshotIsCutToTheStreamDepth() throws IOException {
+        FakeOrderBookClient client = new FakeOrderBookClient();
+        OrderBookSynchronizer synchronizer = new OrderBookSynchronizer(client, CategoryType.LINEAR, 2)
+                .addBook(new OrderBook("BTCUSDT", InstrumentPrecision.of(1, 3)));
+        synchronizer.apply(push("snapshot", 10, 100, "[\"30000.0\",\"1.000\"]"));
+        synchronizer.apply(push("delta", 12, 102, "[\"30000.0\",\"2.000\"]"));
+        assertEquals(2, (int) client.requests.get(0).getLimit());
+
+        // Levels past the depth of the stream would never be updated by its deltas.
+        client.respond(0, "{\"s\":\"BTCUSDT\",\"b\":[[\"30000.0\",\"4.000\"],[\"29999.0\",\"1.000\"],[\"29998.0\",\"1.000\"]]," +
+                "\"a\":[],\"u\":5000,\"seq\":102}");
+        assertTrue(synchronizer.isSynced("BTCUSDT"));
+        assertEquals(2, (int) synchronizer.read("BTCUSDT", OrderBook::getBidDepth));
+        assertEquals(299990L, (long) synchronizer.read("BTCUSDT", book -> book.getBidPrice(1)));
+    }
+
+    @Test
+    public void testSnapshotOlderThanTheBufferedDeltasIsRequestedAgain() throws IOException {
+        FakeOrderBookClient client = new FakeOrderBookClient();
+        OrderBookSynchronizer synchronizer = new OrderBookSynchronizer(client, CategoryType.LINEAR, 50)
+                .addBook(new OrderBook("BTCUSDT", InstrumentPrecision.of(1, 3)));
+        synchronizer.apply(push("snapshot", 10, 100, "[\"30000.0\",\"1.000\"]"));
+        // Update 11 is lost.
+        synchronizer.apply(push("delta", 12, 103, "[\"29999.0\",\"2.000\"]"));
+
+        // Taken at seq 101, the snapshot may predate the lost update.
+        client.respond(0, "{\"s\":\"BTCUSDT\",\"b\":[[\"30000.0\",\"1.000\"]],\"a\":[],\"u\":5000,\"seq\":101}");
+        assertFalse(synchronizer.isSynced("BTCUSDT"));
+        assertEquals(2, client.callbacks.size());
+        assertEquals(0, synchronizer.getResyncCount());
+
+        client.respond(1, "{\"s\":\"BTCUSDT\",\"b\":[[\"30000.0\",\"3.000\"],[\"29999.0\",\"2.000\"]],\"a\":[],\"u\":5001,\"seq\":103}");
+        assertTrue(synchronizer.isSynced("BTCUSDT"));
+        assertEquals(1, synchronizer.getResyncCount());
+        assertEquals(3000L, (long) synchronizer.read("BTCUSDT", OrderBook::getBestBidSize));
+        assertEquals(2000L, (long) synchronizer.read("BTCUSDT", book -> book.getBidSize(1)));
+    }
+
+    private static class FakeOrderBookClient extends UnsupportedMarketRestClient {
+        private final List<MarketDataRequest> requests = new ArrayList<>();
+        private final List<BybitApiCallback<GenericResponse<OrderbookResult>>> callbacks = new ArrayList<>();
+
+        void respond(int call, String result) throws IOException {
+            String json = "{\"retCode\":0,\"retMsg\":\"OK\",\"result\":" + result + ",\"retExtInfo\":{},\"time\":1}";
+            callbacks.get(call).onResponse(objectMapper.readValue(json, new TypeReference<GenericResponse<OrderbookResult>>() {
+            }));
+        }
+
+        @Override
+        public void getMarketOrderBook(MarketDataRequest marketOrderBookRequest, BybitApiCallback<GenericResponse<OrderbookResult>> callback) {
+            requests.add(marketOrderBookRequest);
+            callbacks.add(callback);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.bybit.api.marketdata;
+
+import com.bybit.api.client.domain.market.InstrumentPrecision;
+import com.bybit.api.client.domain.market.response.orderbook.OrderbookResult;
+import com.bybit.api.client.domain.websocket.WebsocketMessage;
+import com.bybit.api.client.marketdata.OrderBook;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class OrderBookTest {
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static WebsocketMessage<OrderbookResult> push(String type, long updateId, String bids, String asks) throws IOException {
+        String json = "{\"topic\":\"orderbook.50.BTCUSDT\",\"type\":\"" + type + "\",\"ts\":1687940967466," +
+                "\"data\":{\"s\":\"BTCUSDT\",\"b\":[" + bids + "],\"a\":[" + asks + "],\"u\":" + updateId + ",\"seq\":" + (1000 + updateId) + "}}";
+        return objectMapper.readValue(json, new TypeReference<WebsocketMessage<OrderbookResult>>() {
+        });
+    }
+
+    @Test
+    public void testSnapshotAndDeltas() throws IOException {
+        OrderBook book = new OrderBook("BTCUSDT", InstrumentPrecision.of(1, 3));
+        assertTrue(book.apply(push("snapshot", 10,
+                "[\"30000.5\",\"1.000\"],[\"30000.0\",\"2.000\"],[\"29999.5\",\"3.000\"]",
+                "[\"30001.0\",\"0.500\"],[\"30001.5\",\"1.500\"]")));
+        assertEquals(300005, book.getBestBidPrice());
+        assertEquals(300010, book.getBestAskPrice());
+        assertEquals(3, book.getBidDepth());
+        assertEquals(6000, book.getBidDepthSize(3));
+
+        // Remove the best bid, resize a level and insert new levels on both sides.
+        assertTrue(book.apply(push("delta", 11,
+                "[\"30000.5\",\"0\"],[\"30000.0\",\"2.500\"],[\"29990.0\",\"4.000\"]",
+                "[\"30000.8\",\"0.200\"]")));
+        assertEquals(300000, book.getBestBidPrice());
+        assertEquals(2500, book.getBestBidSize());
+        assertEquals(299900, book.getBidPrice(2));
+        assertEquals(300008, book.getBestAskPrice());
+        assertEquals(300010, book.getAskPrice(1));
+        assertEquals(11, book.getUpdateId());
+
+        // 0.2 @ 30000.8 + 0.3 @ 30001.0
+        assertEquals((300008 * 200 + 300010 * 300) / 500.0, book.getBuyVwap(500), 1e-9);
+        assertTrue(Double.isNaN(book.getBuyVwap(100_000)));
+
+        long[] prices = new long[2];
+        long[] sizes = new long[2];
+        assertEquals(2, book.copyAsks(prices, sizes, 5));
+        assertEquals(300010, prices[1]);
+        assertEquals(500, sizes[1]);
+    }
+
+    @Test
+    public void testGapInvalidatesUntilSnapshot() throws IOException {
+        OrderBook book = new OrderBook("BTCUSDT", InstrumentPrecision.of(1, 3));
+        book.apply(push("snapshot", 10, "[\"30000.0\",\"1.000\"]", "[\"30001.0\",\"1.000\"]"));
+        // A replayed delta is ignored.
+        assertTrue(book.apply(push("delta", 10, "[\"30000.0\",\"9.000\"]", "")));
+        assertEquals(1000, book.getBestBidSize());
+
+        assertFalse(book.apply(push("delta", 12, "[\"30000.0\",\"2.000\"]", "")));
+        assertFalse(book.isValid());
+        assertFalse(book.apply(push("delta", 13, "[\"30000.0\",\"3.000\"]", "")));
+        assertEquals(1000, book.getBestBidSize());
+
+        assertTrue(book.apply(push("snapshot", 20, "[\"30000.0\",\"4.000\"]", "")));
+        assertTrue(book.isValid());
+        assertEquals(0, book.getBestAskPrice());
+        assertEquals(4000, book.getBestBidSize());
+    }
+}
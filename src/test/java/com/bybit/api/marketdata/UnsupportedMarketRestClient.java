@@ -0,0 +1,74 @@
+package com.bybit.api.marketdata;
+
+import com.bybit.api.client.domain.GenericResponse;
+import com.bybit.api.client.domain.market.request.MarketDataRequest;
+import com.bybit.api.client.domain.market.response.fundingRate.FundingRateResult;
+import com.bybit.api.client.domain.market.response.instrumentInfo.InstrumentInfoResult;
+import com.bybit.api.client.domain.market.response.kline.MarketKlineResult;
+import com.bybit.api.client.domain.market.response.openInterests.OpenInterestResult;
+import com.bybit.api.client.domain.market.response.orderbook.OrderbookResult;
+import com.bybit.api.client.domain.market.response.recentTrade.RecentTradeResult;
+import com.bybit.api.client.domain.market.response.serverTime.ServerTimeResult;
+import com.bybit.api.client.domain.market.response.tickers.TickersResult;
+import com.bybit.api.client.restApi.BybitApiAsyncTypedMarketRestClient;
+import com.bybit.api.client.restApi.BybitApiCallback;
+
+/**
+ * Market data client rejecting every call; fakes override the endpoints their test needs.
+ */
+abstract class UnsupportedMarketRestClient implements BybitApiAsyncTypedMarketRestClient {
+    @Override
+    public void getServerTime(BybitApiCallback<GenericResponse<ServerTimeResult>> callback) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void getMarketLinesData(MarketDataRequest marketKlineRequest, BybitApiCallback<GenericResponse<MarketKlineResult>> callback) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void getMarketPriceLinesData(MarketDataRequest marketKlineRequest, BybitApiCallback<GenericResponse<MarketKlineResult>> callback) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void getIndexPriceLinesData(MarketDataRequest marketKlineRequest, BybitApiCallback<GenericResponse<MarketKlineResult>> callback) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void getPremiumIndexPriceLinesData(MarketDataRequest marketKlineRequest, BybitApiCallback<GenericResponse<MarketKlineResult>> callback) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void getInstrumentsInfo(MarketDataRequest instrumentInfoRequest, BybitApiCallback<GenericResponse<InstrumentInfoResult>> callback) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void getMarketOrderBook(MarketDataRequest marketOrderBookRequest, BybitApiCallback<GenericResponse<OrderbookResult>> callback) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void getMarketTickers(MarketDataRequest marketDataTickerRequest, BybitApiCallback<GenericResponse<TickersResult>> callback) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void getFundingHistory(MarketDataRequest fundingHistoryRequest, BybitApiCallback<GenericResponse<FundingRateResult>> callback) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void getRecentTradeData(MarketDataRequest recentTradeRequest, BybitApiCallback<GenericResponse<RecentTradeResult>> callback) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void getOpenInterest(MarketDataRequest openInterestRequest, BybitApiCallback<GenericResponse<OpenInterestResult>> callback) {
+        throw new UnsupportedOperationException();
+    }
+}
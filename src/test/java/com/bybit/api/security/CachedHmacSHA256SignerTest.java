@@ -0,0 +1,49 @@
+package com.bybit.api.security;
+
+import com.bybit.api.client.security.CachedHmacSHA256Signer;
+import com.bybit.api.client.security.HmacSHA256Signer;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+
+public class CachedHmacSHA256SignerTest {
+    private static final String API_KEY = "XXXXXXXXXXXXXXXXXX";
+    private static final String API_SECRET = "YYYYYYYYYYYYYYYYYYYYYYYYYYYYYYYYYYYY";
+
+    @Test
+    public void testSignMatchesStaticSigner() {
+        CachedHmacSHA256Signer signer = new CachedHmacSHA256Signer(API_SECRET);
+        String payload = "category=linear&symbol=BTCUSDT&limit=50";
+        String expected = HmacSHA256Signer.sign(API_KEY, API_SECRET, payload, 1700000000000L, 5000L);
+
+        assertEquals(expected, signer.sign(API_KEY, payload, 1700000000000L, 5000L));
+        byte[] bytes = payload.getBytes(StandardCharsets.UTF_8);
+        assertEquals(expected, signer.sign(API_KEY, bytes, 0, bytes.length, 1700000000000L, 5000L));
+        // The per-thread Mac is reset between calls
+        assertEquals(expected, signer.sign(API_KEY, payload, 1700000000000L, 5000L));
+    }
+
+    @Test
+    public void testSignLongPayload() {
+        StringBuilder payload = new StringBuilder("{\"request\":[");
+        for (int i = 0; i < 100; i++) {
+            payload.append("{\"symbol\":\"BTCUSDT\",\"qty\":\"0.00").append(i).append("\"},");
+        }
+        payload.append("{\"note\":\"end\"}]}");
+        String expected = HmacSHA256Signer.sign(API_KEY, API_SECRET, payload.toString(), 1700000000000L, 5000L);
+        assertEquals(expected, new CachedHmacSHA256Signer(API_SECRET).sign(API_KEY, payload, 1700000000000L, 5000L));
+    }
+
+    @Test
+    public void testAuthMatchesStaticSigner() {
+        CachedHmacSHA256Signer signer = new CachedHmacSHA256Signer(API_SECRET);
+        long expires = 1700000010000L;
+        String expected = HmacSHA256Signer.auth("GET/realtime" + expires, API_SECRET);
+
+        assertEquals(expected, signer.auth("GET/realtime", expires));
+        assertEquals(expected, signer.auth("GET/realtime" + expires));
+        assertEquals(expected, new CachedHmacSHA256Signer(API_SECRET).auth("GET/realtime", expires));
+    }
+}
@@ -0,0 +1,115 @@
+package com.bybit.api.service;
+
+import com.bybit.api.client.config.BybitApiConfig;
+import com.bybit.api.client.config.BybitApiTransportConfig;
+import com.bybit.api.client.impl.BybitApiMarketRestClientImpl;
+import com.bybit.api.client.log.LogOption;
+import com.bybit.api.client.restApi.BybitApiService;
+import com.bybit.api.client.service.BybitApiClientFactory;
+import com.bybit.api.client.service.BybitApiServiceRegistry;
+import okhttp3.OkHttpClient;
+import org.junit.Test;
+
+import static com.bybit.api.client.constant.BybitApiConstants.DEFAULT_RECEIVING_WINDOW;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class BybitApiServiceRegistryTest {
+    private static final String API_KEY = "8wYkmpLsMg10eNQyPm";
+    private static final String API_SECRET = "Ouxc34myDnXvei54XsBZgoQzfGxO4bkr2Zsj";
+    private static final String LOG_OPTION = LogOption.SLF4J.getLogOptionType();
+
+    private static BybitApiService service(BybitApiServiceRegistry registry, String secret) {
+        return registry.getService(BybitApiService.class, API_KEY, secret, BybitApiConfig.MAINNET_DOMAIN, false,
+                DEFAULT_RECEIVING_WINDOW, LOG_OPTION, BybitApiTransportConfig.DEFAULT);
+    }
+
+    @Test
+    public void testProxyIsReusedForTheSameCredentials() {
+        BybitApiServiceRegistry registry = new BybitApiServiceRegistry();
+        BybitApiService service = service(registry, API_SECRET);
+        assertSame(service, service(registry, API_SECRET));
+        assertEquals(1, registry.size());
+        assertSame(registry.getHttpClient(BybitApiTransportConfig.DEFAULT), registry.getHttpClient(BybitApiTransportConfig.DEFAULT));
+        registry.shutdown();
+    }
+
+    @Test
+    public void testProxiesAreKeyedByTheSecretDigest() {
+        BybitApiServiceRegistry registry = new BybitApiServiceRegistry();
+        BybitApiService service = service(registry, API_SECRET);
+        // An equal secret held in another string maps to the same proxy, another secret of the same key does not.
+        assertSame(service, service(registry, new String(API_SECRET.toCharArray())));
+        assertNotSame(service, service(registry, API_SECRET + "rotated"));
+        assertNotSame(service, service(registry, null));
+        assertEquals(3, registry.size());
+
+        registry.evict(API_KEY);
+        assertEquals(0, registry.size());
+        assertNotSame(service, service(registry, API_SECRET));
+        registry.shutdown();
+    }
+
+    @Test
+    public void testShutdownClosesTheTransport() {
+        BybitApiServiceRegistry registry = new BybitApiServiceRegistry();
+        service(registry, API_SECRET);
+        OkHttpClient transport = registry.getHttpClient(BybitApiTransportConfig.DEFAULT);
+        assertFalse(transport.dispatcher().executorService().isShutdown());
+
+        registry.shutdown();
+        assertTrue(registry.isShutdown());
+        assertTrue(transport.dispatcher().executorService().isShutdown());
+        assertEquals(0, transport.connectionPool().connectionCount());
+        assertEquals(0, registry.size());
+        try {
+            service(registry, API_SECRET);
+            fail();
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        try {
+            registry.getHttpClient(BybitApiTransportConfig.DEFAULT);
+            fail();
+        } catch (IllegalStateException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testSharedRegistryCannotBeShutDown() {
+        try {
+            BybitApiServiceRegistry.getInstance().shutdown();
+            fail();
+        } catch (UnsupportedOperationException e) {
+            assertFalse(BybitApiServiceRegistry.getInstance().isShutdown());
+        }
+    }
+
+    @Test
+    public void testFactoryClientsUseItsRegistry() {
+        BybitApiServiceRegistry registry = new BybitApiServiceRegistry();
+        BybitApiClientFactory factory = BybitApiClientFactory.newInstance(API_KEY, API_SECRET, BybitApiConfig.MAINNET_DOMAIN,
+                false, DEFAULT_RECEIVING_WINDOW, LOG_OPTION, BybitApiTransportConfig.DEFAULT, registry);
+        BybitApiMarketRestClientImpl market = (BybitApiMarketRestClientImpl) factory.newMarketDataRestClient();
+        assertSame(registry.getService(BybitApiService.class, null, null, BybitApiConfig.MAINNET_DOMAIN, false,
+                DEFAULT_RECEIVING_WINDOW, LOG_OPTION, BybitApiTransportConfig.DEFAULT), market.getBybitApiService());
+        assertEquals(1, registry.size());
+        factory.newTradeRestClient();
+        factory.newPositionRestClient();
+        assertSame(service(registry, API_SECRET), service(registry, API_SECRET));
+        assertEquals(2, registry.size());
+
+        registry.shutdown();
+        try {
+            factory.newTradeRestClient();
+            fail();
+        } catch (IllegalStateException e) {
+            // expected
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.bybit.api.service;
+
+import com.bybit.api.client.exception.BybitApiException;
+import com.bybit.api.client.service.BybitCursorPaginator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.Request;
+import org.junit.Test;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class BybitCursorPaginatorTest {
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static Object page(String nextPageCursor, String... orderIds) throws IOException {
+        StringBuilder list = new StringBuilder();
+        for (String orderId : orderIds) {
+            list.append(list.length() == 0 ? "" : ",").append("{\"orderId\":\"").append(orderId).append("\"}");
+        }
+        return objectMapper.readValue("{\"retCode\":0,\"retMsg\":\"OK\",\"result\":{\"category\":\"linear\",\"list\":[" + list +
+                "],\"nextPageCursor\":\"" + nextPageCursor + "\"},\"retExtInfo\":{},\"time\":1}", Object.class);
+    }
+
+    @Test
+    public void testPagesAreFollowedInOrderUntilTheCursorIsEmpty() throws IOException {
+        FakePages pages = new FakePages();
+        pages.bodies.put(null, page("c1", "1", "2"));
+        pages.bodies.put("c1", page("c2", "3"));
+        pages.bodies.put("c2", page("", "4", "5"));
+        BybitCursorPaginator<Map<String, Object>> paginator = BybitCursorPaginator.of(pages::call);
+        assertTrue(pages.cursors.isEmpty());
+
+        List<Object> orderIds = new ArrayList<>();
+        paginator.forEachRemaining(entry -> orderIds.add(entry.get("orderId")));
+
+        assertEquals(List.of("1", "2", "3", "4", "5"), orderIds);
+        assertEquals(3, paginator.getPagesFetched());
+        assertEquals(3, pages.cursors.size());
+        assertNull(pages.cursors.get(0));
+        assertEquals(List.of("c1", "c2"), pages.cursors.subList(1, 3));
+        assertFalse(paginator.hasNext());
+    }
+
+    @Test
+    public void testPrefetchFailureIsThrownAfterTheCurrentPage() throws IOException {
+        FakePages pages = new FakePages();
+        pages.bodies.put(null, page("c1", "1", "2"));
+        BybitCursorPaginator<Map<String, Object>> paginator = BybitCursorPaginator.of(pages::call);
+
+        assertEquals("1", paginator.next().get("orderId"));
+        // The second page was requested, and failed, as soon as the first one was handed out.
+        assertEquals(2, pages.cursors.size());
+        assertEquals("2", paginator.next().get("orderId"));
+        try {
+            paginator.hasNext();
+            fail();
+        } catch (BybitApiException e) {
+            assertTrue(e.getCause() instanceof IOException);
+        }
+    }
+
+    /**
+     * Answers page requests synchronously from {@code bodies}, failing the ones it has no body for.
+     */
+    private static class FakePages {
+        private final Map<String, Object> bodies = new HashMap<>();
+        private final List<String> cursors = new ArrayList<>();
+
+        Call<Object> call(String cursor) {
+            cursors.add(cursor);
+            return new FakeCall(bodies.get(cursor));
+        }
+    }
+
+    private static class FakeCall implements Call<Object> {
+        private final Object body;
+        private boolean executed;
+        private boolean canceled;
+
+        FakeCall(Object body) {
+            this.body = body;
+        }
+
+        @Override
+        public Response<Object> execute() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void enqueue(Callback<Object> callback) {
+            executed = true;
+            if (body == null) {
+                callback.onFailure(this, new IOException("connection reset"));
+            } else {
+                callback.onResponse(this, Response.success(body));
+            }
+        }
+
+        @Override
+        public boolean isExecuted() {
+            return executed;
+        }
+
+        @Override
+        public void cancel() {
+            canceled = true;
+        }
+
+        @Override
+        public boolean isCanceled() {
+            return canceled;
+        }
+
+        @Override
+        public Call<Object> clone() {
+            return new FakeCall(body);
+        }
+
+        @Override
+        public Request request() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
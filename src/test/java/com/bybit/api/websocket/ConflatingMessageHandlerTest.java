@@ -0,0 +1,94 @@
+package com.bybit.api.websocket;
+
+import com.bybit.api.client.websocket.ConflatingMessageHandler;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ConflatingMessageHandlerTest {
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static String push(String topic, int sequence) {
+        return "{\"topic\":\"" + topic + "\",\"type\":\"snapshot\",\"data\":{\"seq\":" + sequence + "}}";
+    }
+
+    @Test
+    public void testKeepsLatestPerTopic() {
+        List<String> passedThrough = new ArrayList<>();
+        ConflatingMessageHandler handler = new ConflatingMessageHandler(passedThrough::add);
+        for (int i = 1; i <= 50; i++) {
+            handler.handleMessage(push("tickers.BTCUSDT", i));
+            handler.handleMessage(push("orderbook.1.ETHUSDT", i));
+        }
+        handler.handleMessage(push("orderbook.50.BTCUSDT", 1));
+        handler.handleMessage(push("publicTrade.BTCUSDT", 1));
+
+        assertEquals(List.of(push("orderbook.50.BTCUSDT", 1), push("publicTrade.BTCUSDT", 1)), passedThrough);
+        assertEquals(2, handler.getPendingCount());
+        assertEquals(98, handler.getConflatedCount());
+
+        List<String> drained = new ArrayList<>();
+        assertEquals(2, handler.drain(drained::add));
+        assertEquals(List.of(push("tickers.BTCUSDT", 50), push("orderbook.1.ETHUSDT", 50)), drained);
+        assertNull(handler.poll());
+
+        handler.handleMessage(push("tickers.BTCUSDT", 51));
+        assertEquals(push("tickers.BTCUSDT", 51), handler.poll());
+    }
+
+    @Test
+    public void testTickerDeltasAreMergedIntoThePendingMessage() throws IOException {
+        ConflatingMessageHandler handler = new ConflatingMessageHandler(null);
+        handler.handleMessage("{\"topic\":\"tickers.BTCUSDT\",\"type\":\"snapshot\",\"data\":{\"symbol\":\"BTCUSDT\"," +
+                "\"lastPrice\":\"27000\",\"bid1Price\":\"26999\",\"volume24h\":\"100\"},\"cs\":1,\"ts\":1}");
+        handler.handleMessage("{\"topic\":\"tickers.BTCUSDT\",\"type\":\"delta\",\"data\":{\"symbol\":\"BTCUSDT\"," +
+                "\"lastPrice\":\"27001\"},\"cs\":2,\"ts\":2}");
+        handler.handleMessage("{\"topic\":\"tickers.BTCUSDT\",\"type\":\"delta\",\"data\":{\"symbol\":\"BTCUSDT\"," +
+                "\"bid1Price\":\"27000\"},\"cs\":3,\"ts\":3}");
+
+        JsonNode snapshot = objectMapper.readTree(handler.poll());
+        assertEquals("snapshot", snapshot.path("type").asText());
+        assertEquals(3, snapshot.path("ts").asLong());
+        assertEquals("27001", snapshot.path("data").path("lastPrice").asText());
+        assertEquals("27000", snapshot.path("data").path("bid1Price").asText());
+        assertEquals("100", snapshot.path("data").path("volume24h").asText());
+        assertEquals(2, handler.getConflatedCount());
+
+        // With nothing pending the deltas are merged together, and applied by the consumer on its own state.
+        handler.handleMessage("{\"topic\":\"tickers.BTCUSDT\",\"type\":\"delta\",\"data\":{\"lastPrice\":\"27002\"},\"ts\":4}");
+        handler.handleMessage("{\"topic\":\"tickers.BTCUSDT\",\"type\":\"delta\",\"data\":{\"volume24h\":\"101\"},\"ts\":5}");
+        JsonNode delta = objectMapper.readTree(handler.poll());
+        assertEquals("delta", delta.path("type").asText());
+        assertEquals("27002", delta.path("data").path("lastPrice").asText());
+        assertEquals("101", delta.path("data").path("volume24h").asText());
+        assertTrue(delta.path("data").path("bid1Price").isMissingNode());
+    }
+
+    @Test
+    public void testOrderBookDeltasAreMergedLevelByLevel() throws IOException {
+        ConflatingMessageHandler handler = new ConflatingMessageHandler(null);
+        handler.handleMessage("{\"topic\":\"orderbook.1.BTCUSDT\",\"type\":\"snapshot\",\"ts\":1,\"data\":{\"s\":\"BTCUSDT\"," +
+                "\"b\":[[\"26999\",\"2\"]],\"a\":[[\"27001\",\"1\"]],\"u\":1,\"seq\":10}}");
+        // A better bid enters and the old one goes, while the ask only changes size.
+        handler.handleMessage("{\"topic\":\"orderbook.1.BTCUSDT\",\"type\":\"delta\",\"ts\":2,\"data\":{\"s\":\"BTCUSDT\"," +
+                "\"b\":[[\"27000\",\"3\"],[\"26999\",\"0\"]],\"a\":[],\"u\":2,\"seq\":11}}");
+        handler.handleMessage("{\"topic\":\"orderbook.1.BTCUSDT\",\"type\":\"delta\",\"ts\":3,\"data\":{\"s\":\"BTCUSDT\"," +
+                "\"b\":[],\"a\":[[\"27001\",\"4\"]],\"u\":3,\"seq\":12}}");
+
+        JsonNode book = objectMapper.readTree(handler.poll());
+        assertEquals("snapshot", book.path("type").asText());
+        assertEquals(3, book.path("data").path("u").asLong());
+        assertEquals(objectMapper.readTree("[[\"27000\",\"3\"]]"), book.path("data").path("b"));
+        assertEquals(objectMapper.readTree("[[\"27001\",\"4\"]]"), book.path("data").path("a"));
+        assertNull(handler.poll());
+    }
+}
@@ -0,0 +1,131 @@
+package com.bybit.api.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+import okio.ByteString;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Socket factory for websocket client tests: no connection is made, the sockets record the frames sent and the
+ * test plays the server by driving their listener.
+ */
+class FakeWebSockets implements WebSocket.Factory {
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final List<FakeWebSocket> sockets = new CopyOnWriteArrayList<>();
+
+    @NotNull
+    @Override
+    public WebSocket newWebSocket(@NotNull Request request, @NotNull WebSocketListener listener) {
+        FakeWebSocket socket = new FakeWebSocket(request, listener);
+        sockets.add(socket);
+        return socket;
+    }
+
+    int size() {
+        return sockets.size();
+    }
+
+    FakeWebSocket get(int index) {
+        return sockets.get(index);
+    }
+
+    FakeWebSocket last() {
+        return sockets.get(sockets.size() - 1);
+    }
+
+    static final class FakeWebSocket implements WebSocket {
+        private final Request request;
+        private final WebSocketListener listener;
+        private final List<String> sent = new CopyOnWriteArrayList<>();
+        private volatile boolean closed;
+
+        private FakeWebSocket(Request request, WebSocketListener listener) {
+            this.request = request;
+            this.listener = listener;
+        }
+
+        void open() {
+            listener.onOpen(this, new Response.Builder()
+                    .request(request)
+                    .protocol(Protocol.HTTP_1_1)
+                    .code(101)
+                    .message("Switching Protocols")
+                    .build());
+        }
+
+        void receive(String text) {
+            listener.onMessage(this, text);
+        }
+
+        void fail() {
+            listener.onFailure(this, new IOException("connection reset"), null);
+        }
+
+        List<String> sent() {
+            return sent;
+        }
+
+        JsonNode sent(int index) {
+            try {
+                return objectMapper.readTree(sent.get(index));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        JsonNode lastSent() {
+            return sent(sent.size() - 1);
+        }
+
+        boolean isClosed() {
+            return closed;
+        }
+
+        @NotNull
+        @Override
+        public Request request() {
+            return request;
+        }
+
+        @Override
+        public long queueSize() {
+            return 0;
+        }
+
+        @Override
+        public boolean send(@NotNull String text) {
+            if (closed) {
+                return false;
+            }
+            sent.add(text);
+            return true;
+        }
+
+        @Override
+        public boolean send(@NotNull ByteString bytes) {
+            return send(bytes.utf8());
+        }
+
+        @Override
+        public boolean close(int code, String reason) {
+            closed = true;
+            return true;
+        }
+
+        @Override
+        public void cancel() {
+            closed = true;
+        }
+    }
+}
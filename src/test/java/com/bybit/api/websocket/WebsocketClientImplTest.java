@@ -0,0 +1,169 @@
+package com.bybit.api.websocket;
+
+import com.bybit.api.client.config.BybitApiConfig;
+import com.bybit.api.client.exception.BybitApiException;
+import com.bybit.api.client.websocket.WebSocketHttpClientSingleton;
+import com.bybit.api.client.websocket.WebsocketClientImpl;
+import com.bybit.api.client.websocket.WebsocketReconnectPolicy;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class WebsocketClientImplTest {
+    private static final WebsocketReconnectPolicy IMMEDIATE_RECONNECT = WebsocketReconnectPolicy.builder()
+            .initialDelay(Duration.ZERO)
+            .jitter(0)
+            .build();
+
+    private static WebsocketClientImpl newClient(FakeWebSockets sockets) {
+        WebsocketClientImpl client = new WebsocketClientImpl(null, null, BybitApiConfig.STREAM_MAINNET_DOMAIN, 0, "1m",
+                false, null, message -> {
+        }, WebSocketHttpClientSingleton.createInstance(sockets));
+        client.setReconnectPolicy(IMMEDIATE_RECONNECT);
+        return client;
+    }
+
+    private static List<String> topics(String prefix, int count) {
+        List<String> topics = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            topics.add(prefix + i + "USDT");
+        }
+        return topics;
+    }
+
+    private static List<String> args(JsonNode request) {
+        List<String> args = new ArrayList<>();
+        request.path("args").forEach(arg -> args.add(arg.asText()));
+        return args;
+    }
+
+    private static String ack(JsonNode request, boolean success) {
+        return "{\"success\":" + success + ",\"ret_msg\":\"" + (success ? "" : "error:handler not found") +
+                "\",\"conn_id\":\"1\",\"req_id\":\"" + request.path("req_id").asText() + "\",\"op\":\"" +
+                request.path("op").asText() + "\"}";
+    }
+
+    private static void awaitSockets(FakeWebSockets sockets, int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (sockets.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(count, sockets.size());
+    }
+
+    @Test
+    public void testSubscriptionsAreChunkedAndAcknowledged() {
+        FakeWebSockets sockets = new FakeWebSockets();
+        WebsocketClientImpl client = newClient(sockets);
+        client.getPublicChannelStream(topics("tickers.A", 25), BybitApiConfig.V5_PUBLIC_LINEAR);
+        FakeWebSockets.FakeWebSocket socket = sockets.get(0);
+        socket.open();
+        assertEquals(3, socket.sent().size());
+        assertEquals(topics("tickers.A", 25).subList(20, 25), args(socket.sent(2)));
+
+        // Topics already subscribed are not sent again, the new ones go ten per request.
+        List<String> requested = new ArrayList<>(topics("tickers.B", 12));
+        requested.add("tickers.A0USDT");
+        CompletableFuture<Void> subscribed = client.subscribe(requested);
+        assertEquals(5, socket.sent().size());
+        assertEquals(topics("tickers.B", 12).subList(0, 10), args(socket.sent(3)));
+        assertEquals(topics("tickers.B", 12).subList(10, 12), args(socket.sent(4)));
+        assertTrue(client.subscribe(List.of("tickers.A0USDT", "tickers.B0USDT")).isDone());
+        assertEquals(5, socket.sent().size());
+
+        // Acks are matched to their request by req_id, in any order.
+        socket.receive(ack(socket.sent(4), true));
+        assertFalse(subscribed.isDone());
+        socket.receive(ack(socket.sent(3), true));
+        assertTrue(subscribed.isDone());
+        assertEquals(37, client.getTopics().size());
+
+        assertTrue(client.unsubscribe(List.of("tickers.C0USDT")).isDone());
+        CompletableFuture<Void> unsubscribed = client.unsubscribe(List.of("tickers.C0USDT", "tickers.B11USDT"));
+        assertEquals(List.of("tickers.B11USDT"), args(socket.lastSent()));
+        assertEquals("unsubscribe", socket.lastSent().path("op").asText());
+        socket.receive(ack(socket.lastSent(), true));
+        assertTrue(unsubscribed.isDone());
+        assertEquals(36, client.getTopics().size());
+        client.close();
+    }
+
+    @Test
+    public void testRejectedTopicsAreDropped() throws InterruptedException {
+        FakeWebSockets sockets = new FakeWebSockets();
+        WebsocketClientImpl client = newClient(sockets);
+        client.getPublicChannelStream(List.of("tickers.BTCUSDT"), BybitApiConfig.V5_PUBLIC_LINEAR);
+        FakeWebSockets.FakeWebSocket socket = sockets.get(0);
+        socket.open();
+        socket.receive(ack(socket.lastSent(), true));
+
+        CompletableFuture<Void> subscribed = client.subscribe(List.of("tickers.NOPE"));
+        assertTrue(client.getTopics().contains("tickers.NOPE"));
+        socket.receive(ack(socket.lastSent(), false));
+        try {
+            subscribed.get();
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof BybitApiException);
+        }
+        assertEquals(List.of("tickers.BTCUSDT"), new ArrayList<>(client.getTopics()));
+
+        // The rejected topic is not subscribed again on the next connection.
+        client.connect();
+        sockets.get(1).open();
+        assertEquals(List.of("tickers.BTCUSDT"), args(sockets.get(1).lastSent()));
+        client.close();
+    }
+
+    @Test
+    public void testDroppedConnectionIsReopenedUntilClosed() throws InterruptedException {
+        FakeWebSockets sockets = new FakeWebSockets();
+        WebsocketClientImpl client = newClient(sockets);
+        client.getPublicChannelStream(List.of("tickers.BTCUSDT"), BybitApiConfig.V5_PUBLIC_LINEAR);
+        sockets.get(0).open();
+        assertEquals("subscribe", sockets.get(0).lastSent().path("op").asText());
+
+        sockets.get(0).fail();
+        awaitSockets(sockets, 2);
+        assertFalse(client.isConnected());
+
+        // Closing while the new socket connects closes it, and its failure does not reconnect.
+        client.close();
+        assertTrue(sockets.get(1).isClosed());
+        sockets.get(1).fail();
+        Thread.sleep(50);
+        assertEquals(2, sockets.size());
+    }
+
+    @Test
+    public void testConnectReplacesTheOpenSocket() throws InterruptedException {
+        FakeWebSockets sockets = new FakeWebSockets();
+        WebsocketClientImpl client = newClient(sockets);
+        client.getPublicChannelStream(List.of("tickers.BTCUSDT"), BybitApiConfig.V5_PUBLIC_LINEAR);
+        sockets.get(0).open();
+        assertTrue(client.isConnected());
+
+        client.connect();
+        assertEquals(2, sockets.size());
+        assertTrue(sockets.get(0).isClosed());
+        // The replaced socket's late failure is ignored.
+        sockets.get(0).fail();
+        Thread.sleep(50);
+        assertEquals(2, sockets.size());
+
+        sockets.get(1).open();
+        assertTrue(client.isConnected());
+        assertEquals("tickers.BTCUSDT", sockets.get(1).lastSent().path("args").get(0).asText());
+        client.close();
+    }
+}
@@ -0,0 +1,101 @@
+package com.bybit.api.websocket;
+
+import com.bybit.api.client.websocket.WebsocketDispatcher;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class WebsocketDispatcherTest {
+    private static String ticker(String symbol, int sequence) {
+        return "{\"topic\":\"tickers." + symbol + "\",\"type\":\"snapshot\",\"data\":{\"symbol\":\"" + symbol + "\",\"seq\":" + sequence + "}}";
+    }
+
+    @Test
+    public void testDropOldestWhenConsumerIsSlow() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> delivered = new CopyOnWriteArrayList<>();
+        WebsocketDispatcher dispatcher = new WebsocketDispatcher(message -> {
+            awaitQuietly(release);
+            delivered.add(message);
+        }, 4, WebsocketDispatcher.OverflowPolicy.DROP_OLDEST);
+
+        dispatcher.handleMessage("0");
+        // Wait for the consumer to block on the first message.
+        while (dispatcher.getQueueDepth() > 0) {
+            Thread.sleep(1);
+        }
+        for (int i = 1; i <= 10; i++) {
+            dispatcher.handleMessage(String.valueOf(i));
+        }
+        assertEquals(4, dispatcher.getQueueDepth());
+        assertEquals(6, dispatcher.getDroppedCount());
+
+        release.countDown();
+        dispatcher.close();
+        assertEquals(List.of("0", "7", "8", "9", "10"), delivered);
+        assertEquals(11, dispatcher.getReceivedCount());
+    }
+
+    @Test
+    public void testConflateLatestPerTopic() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> delivered = new CopyOnWriteArrayList<>();
+        WebsocketDispatcher dispatcher = new WebsocketDispatcher(message -> {
+            awaitQuietly(release);
+            delivered.add(message);
+        }, 16, WebsocketDispatcher.OverflowPolicy.CONFLATE_LATEST_PER_TOPIC);
+
+        dispatcher.handleMessage("{\"success\":true,\"op\":\"subscribe\"}");
+        while (dispatcher.getQueueDepth() > 0) {
+            Thread.sleep(1);
+        }
+        for (int i = 1; i <= 100; i++) {
+            dispatcher.handleMessage(ticker("BTCUSDT", i));
+            dispatcher.handleMessage(ticker("ETHUSDT", i));
+        }
+        assertEquals(2, dispatcher.getQueueDepth());
+
+        release.countDown();
+        dispatcher.close();
+        assertEquals(List.of("{\"success\":true,\"op\":\"subscribe\"}", ticker("BTCUSDT", 100), ticker("ETHUSDT", 100)), delivered);
+        assertEquals(198, dispatcher.getConflatedCount());
+        assertEquals(0, dispatcher.getDroppedCount());
+    }
+
+    @Test
+    public void testBlockLosesNothing() throws InterruptedException {
+        List<String> delivered = new CopyOnWriteArrayList<>();
+        WebsocketDispatcher dispatcher = new WebsocketDispatcher(delivered::add, 8, WebsocketDispatcher.OverflowPolicy.BLOCK);
+        Thread[] producers = new Thread[4];
+        for (int p = 0; p < producers.length; p++) {
+            int producer = p;
+            producers[p] = new Thread(() -> {
+                for (int i = 0; i < 5000; i++) {
+                    dispatcher.handleMessage(producer + ":" + i);
+                }
+            });
+            producers[p].start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        dispatcher.close();
+        assertEquals(20000, delivered.size());
+        assertEquals(0, dispatcher.getDroppedCount());
+        assertTrue(dispatcher.getMaxQueueDepth() <= dispatcher.getCapacity());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.bybit.api.websocket;
+
+import com.bybit.api.client.websocket.WebsocketHeartbeat;
+import okhttp3.Request;
+import okhttp3.WebSocketListener;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class WebsocketHeartbeatTest {
+    private static final String PING = "{\"op\":\"ping\"}";
+
+    private static FakeWebSockets.FakeWebSocket newSocket() {
+        return (FakeWebSockets.FakeWebSocket) new FakeWebSockets().newWebSocket(
+                new Request.Builder().url("https://stream.bybit.com/v5/public/linear").build(), new WebSocketListener() {
+                });
+    }
+
+    private static void awaitSent(FakeWebSockets.FakeWebSocket socket, int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (socket.sent().size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(count, socket.sent().size());
+    }
+
+    @Test
+    public void testPublicAndPrivatePongsAreRecognised() {
+        assertTrue(WebsocketHeartbeat.isPong("{\"success\":true,\"ret_msg\":\"pong\",\"conn_id\":\"0970e817-426e-429a-a679-ff7f55e0b16a\",\"op\":\"ping\"}"));
+        assertTrue(WebsocketHeartbeat.isPong("{\"req_id\":\"\",\"op\":\"pong\",\"args\":[\"1675418560633\"],\"conn_id\":\"cfcb4ocsvfriu23r3er0-1b\"}"));
+
+        // Messages merely containing the word are not pongs.
+        assertFalse(WebsocketHeartbeat.isPong("{\"topic\":\"tickers.PONGUSDT\",\"type\":\"snapshot\",\"data\":{\"symbol\":\"pong\"}}"));
+        assertFalse(WebsocketHeartbeat.isPong("{\"success\":true,\"ret_msg\":\"\",\"conn_id\":\"1\",\"req_id\":\"pong\",\"op\":\"subscribe\"}"));
+        assertFalse(WebsocketHeartbeat.isPong("pong"));
+        assertFalse(WebsocketHeartbeat.isPong("{\"success\":true,\"ret_msg\":\"ok\"}"));
+    }
+
+    @Test
+    public void testPongIsTimed() throws InterruptedException {
+        FakeWebSockets.FakeWebSocket socket = newSocket();
+        WebsocketHeartbeat heartbeat = WebsocketHeartbeat.start(socket, 60);
+        awaitSent(socket, 1);
+        assertEquals(PING, socket.sent().get(0));
+        assertEquals(-1, heartbeat.getLastRttNanos());
+
+        heartbeat.onPong();
+        assertEquals(1, heartbeat.getPongCount());
+        assertTrue(heartbeat.getLastRttNanos() >= 0);
+        assertEquals(heartbeat.getLastRttNanos(), heartbeat.getMaxRttNanos());
+        // A pong answering no ping is ignored.
+        heartbeat.onPong();
+        assertEquals(1, heartbeat.getPongCount());
+        heartbeat.cancel();
+        assertTrue(heartbeat.isCancelled());
+        assertFalse(socket.isClosed());
+    }
+
+    @Test
+    public void testSocketIsCancelledAfterTwoMissedPongs() throws InterruptedException {
+        FakeWebSockets.FakeWebSocket socket = newSocket();
+        WebsocketHeartbeat heartbeat = WebsocketHeartbeat.start(socket, 1);
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!socket.isClosed() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(socket.isClosed());
+        assertTrue(heartbeat.isCancelled());
+        // The first ping went unanswered when the second was due, the second when the third was.
+        assertEquals(2, socket.sent().size());
+        assertEquals(2, heartbeat.getMissedPongCount());
+        assertEquals(0, heartbeat.getPongCount());
+    }
+
+    @Test
+    public void testNonPositiveIntervalDisablesTheHeartbeat() throws InterruptedException {
+        FakeWebSockets.FakeWebSocket socket = newSocket();
+        WebsocketHeartbeat heartbeat = WebsocketHeartbeat.start(socket, 0);
+        WebsocketHeartbeat negative = WebsocketHeartbeat.start(socket, -1);
+        Thread.sleep(50);
+        assertTrue(socket.sent().isEmpty());
+        assertFalse(heartbeat.isCancelled());
+        heartbeat.onPong();
+        assertEquals(0, heartbeat.getPongCount());
+        heartbeat.cancel();
+        negative.cancel();
+        assertFalse(socket.isClosed());
+    }
+}
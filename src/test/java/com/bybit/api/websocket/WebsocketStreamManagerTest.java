@@ -0,0 +1,113 @@
+package com.bybit.api.websocket;
+
+import com.bybit.api.client.config.BybitApiConfig;
+import com.bybit.api.client.websocket.WebSocketHttpClientSingleton;
+import com.bybit.api.client.websocket.WebsocketClientImpl;
+import com.bybit.api.client.websocket.WebsocketReconnectPolicy;
+import com.bybit.api.client.websocket.WebsocketStreamManager;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class WebsocketStreamManagerTest {
+    private static final String PATH = BybitApiConfig.V5_PUBLIC_LINEAR;
+
+    private static WebsocketStreamManager newManager(FakeWebSockets sockets) {
+        return new WebsocketStreamManager(handler -> {
+            WebsocketClientImpl client = new WebsocketClientImpl(null, null, BybitApiConfig.STREAM_MAINNET_DOMAIN, 0, "1m",
+                    false, null, handler, WebSocketHttpClientSingleton.createInstance(sockets));
+            client.setReconnectPolicy(WebsocketReconnectPolicy.DISABLED);
+            return client;
+        }, message -> {
+        }, 3);
+    }
+
+    private static List<String> args(JsonNode request) {
+        List<String> args = new ArrayList<>();
+        request.path("args").forEach(arg -> args.add(arg.asText()));
+        return args;
+    }
+
+    /**
+     * Acknowledge every request sent on the socket after {@code from}.
+     */
+    private static void ackAll(FakeWebSockets.FakeWebSocket socket, int from) {
+        for (int i = from; i < socket.sent().size(); i++) {
+            JsonNode request = socket.sent(i);
+            socket.receive("{\"success\":true,\"ret_msg\":\"\",\"conn_id\":\"1\",\"req_id\":\"" +
+                    request.path("req_id").asText() + "\",\"op\":\"" + request.path("op").asText() + "\"}");
+        }
+    }
+
+    @Test
+    public void testTopicsAreSpreadOverConnections() {
+        FakeWebSockets sockets = new FakeWebSockets();
+        WebsocketStreamManager manager = newManager(sockets);
+        CompletableFuture<Void> subscribed = manager.subscribe(PATH, List.of("a", "b", "c", "d", "e", "f", "g", "a"));
+        assertEquals(3, sockets.size());
+        assertEquals(3, manager.getConnectionCount(PATH));
+        assertEquals(7, manager.getTopicCount(PATH));
+
+        for (int i = 0; i < 3; i++) {
+            sockets.get(i).open();
+            assertFalse(subscribed.isDone());
+            ackAll(sockets.get(i), 0);
+        }
+        assertTrue(subscribed.isDone());
+        assertEquals(List.of("a", "b", "c"), args(sockets.get(0).lastSent()));
+        assertEquals(List.of("g"), args(sockets.get(2).lastSent()));
+
+        // The least loaded connection takes the next topic.
+        manager.subscribe(PATH, List.of("h"));
+        assertEquals(List.of("h"), args(sockets.get(2).lastSent()));
+        assertEquals(3, sockets.size());
+
+        // A connection left without topics is closed.
+        manager.unsubscribe(PATH, List.of("d", "e", "f", "x"));
+        assertTrue(sockets.get(1).isClosed());
+        assertEquals(2, manager.getConnectionCount(PATH));
+        assertEquals(5, manager.getTopicCount(PATH));
+        manager.close();
+        assertTrue(sockets.get(0).isClosed());
+        assertTrue(sockets.get(2).isClosed());
+    }
+
+    @Test
+    public void testTopicsOfADroppedConnectionMoveWhereThereIsRoom() {
+        FakeWebSockets sockets = new FakeWebSockets();
+        WebsocketStreamManager manager = newManager(sockets);
+        List<List<String>> gaps = new CopyOnWriteArrayList<>();
+        manager.setGapListener((path, topics, downtimeMillis) -> gaps.add(topics));
+        manager.subscribe(PATH, List.of("a", "b", "c", "d", "e", "f", "g"));
+        for (int i = 0; i < 3; i++) {
+            sockets.get(i).open();
+            ackAll(sockets.get(i), 0);
+        }
+
+        FakeWebSockets.FakeWebSocket target = sockets.get(2);
+        int sent = target.sent().size();
+        sockets.get(0).fail();
+
+        // The last connection has room for two of the three stranded topics; the full one takes none.
+        assertEquals(sent + 1, target.sent().size());
+        List<String> moved = args(target.lastSent());
+        assertEquals(2, moved.size());
+        assertTrue(List.of("a", "b", "c").containsAll(moved));
+        assertEquals(1, sockets.get(1).sent().size());
+        assertTrue(gaps.isEmpty());
+
+        ackAll(target, sent);
+        assertEquals(List.of(moved), gaps);
+        assertEquals(3, manager.getConnectionCount(PATH));
+        assertEquals(7, manager.getTopicCount(PATH));
+        manager.close();
+    }
+}
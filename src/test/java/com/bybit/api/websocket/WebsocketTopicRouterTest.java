@@ -0,0 +1,51 @@
+package com.bybit.api.websocket;
+
+import com.bybit.api.client.domain.websocket.WebsocketTradeEntry;
+import com.bybit.api.client.websocket.WebsocketTopicRouter;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class WebsocketTopicRouterTest {
+    @Test
+    public void testRoutesByTopicPrefix() {
+        List<String> received = new ArrayList<>();
+        WebsocketTopicRouter router = new WebsocketTopicRouter()
+                .onPublicTrade(message -> {
+                    WebsocketTradeEntry trade = message.getData().get(0);
+                    received.add(message.getTopic() + " " + trade.getSide() + " " + trade.getPrice());
+                })
+                .onOrder(message -> received.add(message.getTopic() + " " + message.getData().size()))
+                .otherwise(message -> received.add("other"));
+
+        router.handleMessage("{\"topic\":\"publicTrade.BTCUSDT\",\"type\":\"snapshot\",\"ts\":1672304486868,\"data\":[" +
+                "{\"T\":1672304486865,\"s\":\"BTCUSDT\",\"S\":\"Buy\",\"v\":\"0.001\",\"p\":\"16578.50\",\"L\":\"PlusTick\",\"i\":\"20f43950\",\"BT\":false}]}");
+        router.handleMessage("{\"id\":\"5923240c6880ab-c59f-420b-9adb-3639adc9dd90\",\"topic\":\"order.linear\",\"creationTime\":1672364262474,\"data\":[]}");
+        // "order" must not capture the orderbook topics
+        router.handleMessage("{\"topic\":\"orderbook.50.BTCUSDT\",\"type\":\"delta\",\"data\":{\"s\":\"BTCUSDT\",\"b\":[],\"a\":[]}}");
+        router.handleMessage("{\"success\":true,\"ret_msg\":\"pong\",\"conn_id\":\"0970e817\",\"op\":\"ping\"}");
+
+        assertEquals(List.of("publicTrade.BTCUSDT Buy 16578.50", "order.linear 0", "other", "other"), received);
+    }
+
+    @Test
+    public void testRoutesBinaryFrames() {
+        List<String> received = new ArrayList<>();
+        WebsocketTopicRouter router = new WebsocketTopicRouter()
+                .onPublicTrade(message -> received.add(message.getTopic() + " " + message.getData().get(0).getPrice()))
+                .otherwise(received::add);
+
+        byte[] frame = ("{\"topic\":\"publicTrade.BTCUSDT\",\"type\":\"snapshot\",\"ts\":1672304486868,\"data\":[" +
+                "{\"T\":1672304486865,\"s\":\"BTCUSDT\",\"S\":\"Sell\",\"v\":\"0.001\",\"p\":\"16578.50\"}]}").getBytes(StandardCharsets.UTF_8);
+        router.handleMessage(ByteBuffer.wrap(frame).asReadOnlyBuffer());
+        router.handleMessage(ByteBuffer.wrap(frame));
+        router.handleMessage(ByteBuffer.wrap("{\"topic\":\"kline.1.BTCUSDT\",\"data\":[]}".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(List.of("publicTrade.BTCUSDT 16578.50", "publicTrade.BTCUSDT 16578.50", "{\"topic\":\"kline.1.BTCUSDT\",\"data\":[]}"), received);
+    }
+}
@@ -0,0 +1,152 @@
+package com.bybit.api.websocket;
+
+import com.bybit.api.client.config.BybitApiConfig;
+import com.bybit.api.client.domain.CategoryType;
+import com.bybit.api.client.domain.trade.request.TradeOrderRequest;
+import com.bybit.api.client.exception.BybitApiException;
+import com.bybit.api.client.websocket.WebSocketHttpClientSingleton;
+import com.bybit.api.client.websocket.WebsocketReconnectPolicy;
+import com.bybit.api.client.websocket.WebsocketTradeClient;
+import com.bybit.api.client.websocket.WebsocketTradeClientImpl;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class WebsocketTradeClientImplTest {
+    private static final String API_KEY = "8wYkmpLsMg10eNQyPm";
+    private static final String API_SECRET = "Ouxc34myDnXvei54XsBZgoQzfGxO4bkr2Zsj";
+    private static final TradeOrderRequest CANCEL = TradeOrderRequest.builder()
+            .category(CategoryType.LINEAR)
+            .symbol("BTCUSDT")
+            .orderLinkId("pong-1")
+            .build();
+
+    private static WebsocketTradeClientImpl newClient(FakeWebSockets sockets) {
+        WebsocketTradeClientImpl client = new WebsocketTradeClientImpl(API_KEY, API_SECRET, BybitApiConfig.STREAM_MAINNET_DOMAIN,
+                5000, 0, Duration.ofSeconds(5), WebSocketHttpClientSingleton.createInstance(sockets));
+        client.setReconnectPolicy(WebsocketReconnectPolicy.builder().initialDelay(Duration.ZERO).jitter(0).build());
+        return client;
+    }
+
+    private static void login(FakeWebSockets.FakeWebSocket socket) {
+        socket.open();
+        assertEquals("auth", socket.lastSent().path("op").asText());
+        socket.receive("{\"retCode\":0,\"retMsg\":\"OK\",\"op\":\"auth\",\"connId\":\"c\"}");
+    }
+
+    private static String response(JsonNode request, int retCode, int remaining) {
+        return "{\"reqId\":\"" + request.path("reqId").asText() + "\",\"retCode\":" + retCode + ",\"retMsg\":\"" +
+                (retCode == 0 ? "OK" : "order not exists or too late to cancel") + "\",\"op\":\"" + request.path("op").asText() +
+                "\",\"data\":{\"orderId\":\"1\",\"orderLinkId\":\"pong-1\"},\"header\":{\"X-Bapi-Limit\":\"10\"," +
+                "\"X-Bapi-Limit-Status\":\"" + remaining + "\",\"X-Bapi-Limit-Reset-Timestamp\":\"" +
+                (System.currentTimeMillis() + 60_000) + "\"},\"retExtInfo\":{},\"connId\":\"c\"}";
+    }
+
+    private static Throwable failure(CompletableFuture<JsonNode> future) throws InterruptedException, TimeoutException {
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            fail();
+            return null;
+        } catch (ExecutionException e) {
+            return e.getCause();
+        }
+    }
+
+    @Test
+    public void testResponsesAreMatchedByReqId() throws Exception {
+        FakeWebSockets sockets = new FakeWebSockets();
+        WebsocketTradeClientImpl client = newClient(sockets);
+        CompletableFuture<Void> connected = client.connect();
+        login(sockets.get(0));
+        assertTrue(connected.isDone());
+        assertTrue(client.isConnected());
+
+        FakeWebSockets.FakeWebSocket socket = sockets.get(0);
+        CompletableFuture<JsonNode> first = client.cancelOrder(CANCEL);
+        JsonNode firstRequest = socket.lastSent();
+        CompletableFuture<JsonNode> second = client.cancelOrder(CANCEL);
+        JsonNode secondRequest = socket.lastSent();
+        assertEquals(WebsocketTradeClient.ORDER_CANCEL, firstRequest.path("op").asText());
+        assertEquals(2, client.getPendingCount());
+
+        // Pongs are told apart from responses that merely contain the word.
+        socket.receive("{\"reqId\":\"\",\"op\":\"pong\",\"args\":[\"1700000000000\"],\"connId\":\"c\"}");
+        socket.receive(response(secondRequest, 110001, 5));
+        assertFalse(first.isDone());
+        assertTrue(failure(second) instanceof BybitApiException);
+        socket.receive("{\"reqId\":\"" + firstRequest.path("reqId").asText() + "\",\"retCode\":0,\"retMsg\":\"OK\"," +
+                "\"op\":\"order.cancel\",\"data\":{\"orderId\":\"1\",\"orderLinkId\":\"pong-1\"}}");
+        assertEquals("pong-1", first.get().path("data").path("orderLinkId").asText());
+        assertEquals(0, client.getPendingCount());
+        assertEquals(5, client.getRateLimit(WebsocketTradeClient.ORDER_CANCEL).getRemaining());
+        client.close();
+    }
+
+    @Test
+    public void testExhaustedRateLimitAndTimeoutFailRequests() throws Exception {
+        FakeWebSockets sockets = new FakeWebSockets();
+        WebsocketTradeClientImpl client = newClient(sockets);
+        client.connect();
+        login(sockets.get(0));
+        FakeWebSockets.FakeWebSocket socket = sockets.get(0);
+
+        CompletableFuture<JsonNode> unanswered = client.cancelOrder(CANCEL, Duration.ofMillis(50));
+        assertTrue(failure(unanswered) instanceof TimeoutException);
+        assertEquals(0, client.getPendingCount());
+
+        client.cancelOrder(CANCEL);
+        socket.receive(response(socket.lastSent(), 0, 0));
+        int sent = socket.sent().size();
+        // Refused locally until the window resets, without reaching the exchange.
+        assertTrue(failure(client.cancelOrder(CANCEL)) instanceof BybitApiException);
+        assertEquals(sent, socket.sent().size());
+        client.close();
+    }
+
+    @Test
+    public void testMissingSecretIsRejectedBeforeConnecting() {
+        FakeWebSockets sockets = new FakeWebSockets();
+        try {
+            new WebsocketTradeClientImpl(API_KEY, null, BybitApiConfig.STREAM_MAINNET_DOMAIN, 5000, 0, Duration.ofSeconds(5),
+                    WebSocketHttpClientSingleton.createInstance(sockets));
+            fail();
+        } catch (BybitApiException e) {
+            assertEquals(0, sockets.size());
+        }
+    }
+
+    @Test
+    public void testDroppedConnectionFailsPendingRequestsAndLogsInAgain() throws Exception {
+        FakeWebSockets sockets = new FakeWebSockets();
+        WebsocketTradeClientImpl client = newClient(sockets);
+        client.connect();
+        login(sockets.get(0));
+
+        CompletableFuture<JsonNode> pending = client.cancelOrder(CANCEL);
+        sockets.get(0).fail();
+        assertTrue(failure(pending) instanceof IOException);
+        assertFalse(client.isConnected());
+        assertTrue(failure(client.cancelOrder(CANCEL)) instanceof IllegalStateException);
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (sockets.size() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(2, sockets.size());
+        login(sockets.get(1));
+        assertTrue(client.isConnected());
+        client.close();
+        assertTrue(sockets.get(1).isClosed());
+    }
+}